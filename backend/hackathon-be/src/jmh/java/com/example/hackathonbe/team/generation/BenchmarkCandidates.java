@@ -0,0 +1,25 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Eligible candidates extracted from synthetic answers, the input team generation sees.
+ */
+final class BenchmarkCandidates {
+
+    private BenchmarkCandidates() {}
+
+    static List<Candidate> eligible(SyntheticAnswers.Shape shape, int count, long seed) {
+        OptionLabelIndex optionIndex = OptionLabelIndex.from(SyntheticAnswers.questionnaire());
+        List<Candidate> out = new ArrayList<>(count);
+        long id = 0;
+        for (JsonNode data : SyntheticAnswers.answers(shape, count, seed)) {
+            id++;
+            if (Eligibility.isAllowed(data)) out.add(Candidate.fromData(id, data, optionIndex));
+        }
+        return out;
+    }
+}
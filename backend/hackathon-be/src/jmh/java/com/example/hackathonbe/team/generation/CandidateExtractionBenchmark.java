@@ -0,0 +1,45 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning stored answer JSON into candidates: eligibility check plus feature extraction,
+ * for both answer shapes. This is the per-answer work done when answers are stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateExtractionBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    int candidates;
+
+    @Param({"INTERNAL", "IMPORTED"})
+    SyntheticAnswers.Shape shape;
+
+    private List<JsonNode> answers;
+    private OptionLabelIndex optionIndex;
+
+    @Setup
+    public void setUp() {
+        answers = SyntheticAnswers.answers(shape, candidates, 42L);
+        optionIndex = OptionLabelIndex.from(SyntheticAnswers.questionnaire());
+    }
+
+    @Benchmark
+    public void extractCandidates(Blackhole bh) {
+        long id = 0;
+        for (JsonNode data : answers) {
+            bh.consume(Eligibility.isAllowed(data));
+            bh.consume(Candidate.fromData(++id, data, optionIndex));
+        }
+    }
+}
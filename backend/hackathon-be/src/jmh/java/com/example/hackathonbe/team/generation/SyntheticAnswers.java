@@ -0,0 +1,132 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic questionnaire answers in both stored shapes, for benchmarks.
+ * <ul>
+ *   <li>{@link Shape#INTERNAL}: array of {@code {key, value...}} items referencing option ids of
+ *       {@link #questionnaire()}, as written by the public questionnaire form.</li>
+ *   <li>{@link Shape#IMPORTED}: flat object with free-text labels, as written by CSV/XLSX import.</li>
+ * </ul>
+ * Role and skill labels follow a skewed distribution with a long tail, like real sign-ups.
+ */
+public final class SyntheticAnswers {
+
+    public enum Shape { INTERNAL, IMPORTED }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] ROLES = {
+            "Frontend Developer", "Backend Developer", "Full-stack Developer", "UI/UX Designer",
+            "Product Designer", "Marketing", "Growth Marketer", "Business Analyst", "Product Manager",
+            "Data Scientist", "ML Engineer", "DevOps Engineer", "Student", "Founder", "Hardware Hacker"
+    };
+
+    private static final String[] SKILLS = {
+            "React", "Angular", "Vue", "TypeScript", "Java", "Spring", "Kotlin", "Python", "Django",
+            "Node.js", "Go", "Rust", "SQL", "PostgreSQL", "MongoDB", "Figma", "UX research", "Prototyping",
+            "SEO", "Content", "Pitching", "Finance", "Pandas", "TensorFlow", "Docker", "Kubernetes",
+            "AWS", "Terraform", "Arduino", "Unity", "Blockchain", "Swift", "Flutter", "C++", "Excel"
+    };
+
+    private SyntheticAnswers() {}
+
+    /** Questionnaire questions JSON holding the role and skill options used by INTERNAL answers. */
+    static JsonNode questionnaire() {
+        ObjectNode root = MAPPER.createObjectNode();
+        ArrayNode questions = root.putArray("questions");
+        questions.add(choiceQuestion("role", "role_", ROLES));
+        questions.add(choiceQuestion("skills", "skill_", SKILLS));
+        return root;
+    }
+
+    static List<JsonNode> answers(Shape shape, int count, long seed) {
+        Random random = new Random(seed);
+        List<JsonNode> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            out.add(shape == Shape.INTERNAL ? internal(random, i) : imported(random, i));
+        }
+        return out;
+    }
+
+    private static JsonNode internal(Random random, int i) {
+        ArrayNode items = MAPPER.createArrayNode();
+        items.add(text("email", "participant" + i + "@example.com"));
+        items.add(text("first_name", "First" + i));
+        items.add(text("last_name", "Last" + i));
+
+        ObjectNode role = item("role");
+        role.putArray("valueOptionIds").add("role_" + skewed(random, ROLES.length));
+        items.add(role);
+
+        ObjectNode skills = item("skills");
+        ArrayNode skillIds = skills.putArray("valueOptionIds");
+        int skillCount = 1 + random.nextInt(4);
+        for (int s = 0; s < skillCount; s++) skillIds.add("skill_" + skewed(random, SKILLS.length));
+        items.add(skills);
+
+        ObjectNode motivation = item("motivation");
+        ObjectNode scale = motivation.putObject("valueJson");
+        scale.put("interest", 1 + random.nextInt(5));
+        scale.put("commitment", 1 + random.nextInt(5));
+        scale.put("availability", 1 + random.nextInt(5));
+        items.add(motivation);
+
+        items.add(item("years_experience").put("valueNumber", random.nextInt(15)));
+        items.add(item("age_verification").put("valueBoolean", random.nextInt(50) != 0));
+        return items;
+    }
+
+    private static JsonNode imported(Random random, int i) {
+        ObjectNode row = MAPPER.createObjectNode();
+        row.put("email", "participant" + i + "@example.com");
+        row.put("first_name", "First" + i);
+        row.put("last_name", "Last" + i);
+        row.put("role", ROLES[skewed(random, ROLES.length)]);
+
+        StringBuilder skills = new StringBuilder();
+        int skillCount = 1 + random.nextInt(4);
+        for (int s = 0; s < skillCount; s++) {
+            if (s > 0) skills.append(", ");
+            skills.append(SKILLS[skewed(random, SKILLS.length)]);
+        }
+        row.put("skills", skills.toString());
+
+        row.put("motivation", 1 + random.nextInt(5));
+        row.put("years_experience", String.valueOf(random.nextInt(15)));
+        row.put("age_verification", random.nextInt(50) != 0 ? "yes" : "no");
+        return row;
+    }
+
+    /** Index in 0..n-1, heavily weighted towards the first entries. */
+    private static int skewed(Random random, int n) {
+        double u = random.nextDouble();
+        return Math.min(n - 1, (int) (n * u * u));
+    }
+
+    private static ObjectNode choiceQuestion(String key, String idPrefix, String[] labels) {
+        ObjectNode question = MAPPER.createObjectNode();
+        question.put("key", key);
+        ArrayNode options = question.putArray("options");
+        for (int i = 0; i < labels.length; i++) {
+            options.addObject().put("id", idPrefix + i).put("label", labels[i]);
+        }
+        return question;
+    }
+
+    private static ObjectNode item(String key) {
+        return MAPPER.createObjectNode().put("key", key);
+    }
+
+    private static ObjectNode text(String key, String value) {
+        return item(key).put("valueText", value);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hackathonbe.team.generation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory phases of team generation: bucketing, pool encoding and a full single-start run
+ * (sort, greedy placement, scoring), without any database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamGenerationBenchmark {
+
+    @Param({"100", "1000", "10000", "50000", "100000"})
+    int candidates;
+
+    @Param({"INTERNAL", "IMPORTED"})
+    SyntheticAnswers.Shape shape;
+
+    private List<Candidate> raw;
+    private List<Candidate> sorted;
+    private RoleSkillBucketer bucketer;
+    private TeamGenerationEngine engine;
+
+    @Setup
+    public void setUp() {
+        raw = BenchmarkCandidates.eligible(shape, candidates, 42L);
+
+        sorted = new ArrayList<>(raw);
+        sorted.sort(Comparator.comparingInt(Candidate::motivation).reversed()
+                .thenComparing(Candidate::participantId));
+        bucketer = RoleSkillBucketer.build(sorted);
+
+        // single deterministic pass, no time budget, no local search
+        engine = new TeamGenerationEngine(1, 1, 1, 0, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public RoleSkillBucketer buildBucketer() {
+        return RoleSkillBucketer.build(sorted);
+    }
+
+    @Benchmark
+    public CandidatePool buildCandidatePool() {
+        return CandidatePool.from(sorted, bucketer);
+    }
+
+    @Benchmark
+    public GenerationResult generateTeams() {
+        return engine.generate(raw, 4, 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hackathonbe.team.generation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring hot paths: the greedy pick score of every candidate against a partly filled team,
+ * full team scores of all teams of size 4, and incremental rescoring of a member move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamScoringBenchmark {
+
+    private static final int TEAM_SIZE = 4;
+
+    @Param({"100", "1000", "10000", "100000"})
+    int candidates;
+
+    private CandidatePool pool;
+    private TeamDraft2 draft;
+    private List<List<Candidate>> teams;
+    private TeamScoreAggregate from;
+    private TeamScoreAggregate to;
+    private Candidate moved;
+
+    @Setup
+    public void setUp() {
+        List<Candidate> sorted = new ArrayList<>(BenchmarkCandidates.eligible(SyntheticAnswers.Shape.INTERNAL, candidates, 42L));
+        sorted.sort(Comparator.comparingInt(Candidate::motivation).reversed()
+                .thenComparing(Candidate::participantId));
+        pool = CandidatePool.from(sorted, RoleSkillBucketer.build(sorted));
+
+        draft = new TeamDraft2("Team 1", TEAM_SIZE);
+        for (int i = 0; i < TEAM_SIZE - 1 && i < pool.size(); i++) draft.add(pool, i);
+
+        teams = new ArrayList<>();
+        for (int i = 0; i + TEAM_SIZE <= sorted.size(); i += TEAM_SIZE) {
+            teams.add(sorted.subList(i, i + TEAM_SIZE));
+        }
+
+        from = TeamScoreAggregate.of(teams.get(0));
+        to = TeamScoreAggregate.of(teams.get(1));
+        moved = teams.get(0).get(0);
+    }
+
+    @Benchmark
+    public void pickScore(Blackhole bh) {
+        for (int i = 0; i < pool.size(); i++) {
+            bh.consume(TeamPickScoring.pickScore(draft, pool, i, false));
+        }
+    }
+
+    @Benchmark
+    public void teamCompatibilityScore(Blackhole bh) {
+        for (List<Candidate> team : teams) {
+            bh.consume(TeamCompatibilityScoring.teamCompatibilityScore(team));
+        }
+    }
+
+    /** Move one member there and back; each direction rescored from aggregates. */
+    @Benchmark
+    public void aggregateMoveRescore(Blackhole bh) {
+        from.remove(moved);
+        to.add(moved);
+        bh.consume(from.score() + to.score());
+        to.remove(moved);
+        from.add(moved);
+        bh.consume(from.score() + to.score());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.hackathonbe.common.tx;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers side effects on in-memory state (caches, notifications) until the surrounding transaction has committed. */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /** Runs {@code action} after the current transaction commits, or right away outside a transaction. */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.hackathonbe.hackathon.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Read-only projection of a questionnaire answer: just what feature extraction needs,
+ * without loading the answer or participant entities.
+ */
+public record AnswerDataRow(
+        Long answerId,
+        Long participantId,
+        boolean consent,
+        JsonNode data
+) {
+    /** JPQL constructor expression: the jsonb column is typed as Object by the query model. */
+    public AnswerDataRow(Long answerId, Long participantId, boolean consent, Object data) {
+        this(answerId, participantId, consent, (JsonNode) data);
+    }
+}
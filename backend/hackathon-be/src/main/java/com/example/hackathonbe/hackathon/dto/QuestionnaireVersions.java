@@ -0,0 +1,9 @@
+package com.example.hackathonbe.hackathon.dto;
+
+/**
+ * Current change counters of a questionnaire, read without loading the entity.
+ */
+public record QuestionnaireVersions(
+        long questionsVersion,
+        long answersVersion
+) {}
@@ -33,6 +33,14 @@ public class Questionnaire {
     @Column(columnDefinition = "jsonb", nullable = false)
     private JsonNode questions;
 
+    /** Bumped when the questions change. Only written by QuestionnaireRepository#bumpQuestionsVersion. */
+    @Column(name = "questions_version", nullable = false, insertable = false, updatable = false)
+    private long questionsVersion;
+
+    /** Bumped when answers or participants change. Only written by QuestionnaireRepository#bumpAnswersVersion. */
+    @Column(name = "answers_version", nullable = false, insertable = false, updatable = false)
+    private long answersVersion;
+
     @OneToMany(
             mappedBy = "questionnaire",
             cascade = CascadeType.ALL,
@@ -1,11 +1,19 @@
 package com.example.hackathonbe.hackathon.repository;
 
+import com.example.hackathonbe.hackathon.dto.AnswerDataRow;
 import com.example.hackathonbe.hackathon.model.Questionnaire;
 import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
 import com.example.hackathonbe.participant.model.Participant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface QuestionnaireAnswerRepository extends JpaRepository<QuestionnaireAnswer, Long> {
 
@@ -15,4 +23,21 @@ public interface QuestionnaireAnswerRepository extends JpaRepository<Questionnai
     );
 
     List<QuestionnaireAnswer> findAllByQuestionnaire(Questionnaire questionnaire);
+
+    long countByQuestionnaireId(Long questionnaireId);
+
+    /**
+     * All answers to a questionnaire as one streamed query, used to rebuild participant features.
+     * Must be consumed inside a transaction and closed (try-with-resources).
+     */
+    @Query("""
+            select new com.example.hackathonbe.hackathon.dto.AnswerDataRow(a.id, a.participant.id, a.consent, a.data)
+            from QuestionnaireAnswer a
+            where a.questionnaire.id = :questionnaireId
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AnswerDataRow> streamAnswerData(@Param("questionnaireId") Long questionnaireId);
 }
@@ -1,7 +1,28 @@
 package com.example.hackathonbe.hackathon.repository;
 
+import com.example.hackathonbe.hackathon.dto.QuestionnaireVersions;
 import com.example.hackathonbe.hackathon.model.Questionnaire;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface QuestionnaireRepository extends JpaRepository<Questionnaire, Long> {
+
+    @Query("""
+            select new com.example.hackathonbe.hackathon.dto.QuestionnaireVersions(q.questionsVersion, q.answersVersion)
+            from Questionnaire q
+            where q.id = :id
+            """)
+    Optional<QuestionnaireVersions> findVersions(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update questionnaire set questions_version = questions_version + 1 where id = :id", nativeQuery = true)
+    int bumpQuestionsVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update questionnaire set answers_version = answers_version + 1 where id = :id", nativeQuery = true)
+    int bumpAnswersVersion(@Param("id") Long id);
 }
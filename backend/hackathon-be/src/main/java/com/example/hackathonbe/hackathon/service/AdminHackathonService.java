@@ -10,6 +10,8 @@ import com.example.hackathonbe.hackathon.exception.HackathonValidationException;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.model.HackathonStatus;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.team.service.TeamBoardFeed;
+import com.example.hackathonbe.team.service.TeamBoardService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,8 @@ public class AdminHackathonService {
     private final HackathonRepository hackathonRepository;
     private final ObjectMapper objectMapper; // make sure you have Jackson on classpath
     private final UserRepository userRepository;
+    private final TeamBoardFeed teamBoardFeed;
+    private final TeamBoardService teamBoardService;
     public Hackathon createHackathon(HackathonCreateRequest request, Long organizerId) {
 
         User owner = userRepository.findById(organizerId)
@@ -113,6 +117,8 @@ public class AdminHackathonService {
             throw new EntityNotFoundException("Hackathon not found");
         }
         hackathonRepository.deleteById(id);
+        teamBoardService.forget(id);
+        teamBoardFeed.close(id);
     }
 
 
@@ -13,6 +13,7 @@ import com.example.hackathonbe.hackathon.repository.QuestionnaireAnswerRepositor
 import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.service.ParticipantFeatureService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class QuestionnaireService {
     private final HackathonRepository hackathonRepository;
     private final ParticipantRepository participantRepository;
     private final QuestionnaireAnswerRepository questionnaireAnswerRepository;
+    private final ParticipantFeatureService participantFeatureService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -35,12 +37,14 @@ public class QuestionnaireService {
             QuestionnaireRepository questionnaireRepository,
             HackathonRepository hackathonRepository,
             ParticipantRepository participantRepository,
-            QuestionnaireAnswerRepository questionnaireAnswerRepository
+            QuestionnaireAnswerRepository questionnaireAnswerRepository,
+            ParticipantFeatureService participantFeatureService
     ) {
         this.questionnaireRepository = questionnaireRepository;
         this.hackathonRepository = hackathonRepository;
         this.participantRepository = participantRepository;
         this.questionnaireAnswerRepository = questionnaireAnswerRepository;
+        this.participantFeatureService = participantFeatureService;
     }
 
     /**
@@ -83,6 +87,9 @@ public class QuestionnaireService {
         hackathon.setQuestionnaire(questionnaire);
         hackathonRepository.save(hackathon);
 
+        // Option labels may have changed; extracted features are rebuilt on next generation
+        participantFeatureService.invalidate(questionnaire.getId());
+
         return toDto(hackathon);
     }
 
@@ -114,6 +121,8 @@ public class QuestionnaireService {
         hackathon.setQuestionnaire(questionnaire);
         hackathonRepository.save(hackathon);
 
+        participantFeatureService.invalidate(questionnaire.getId());
+
         return hackathon.getQuestionnaire();
     }
 
@@ -240,7 +249,7 @@ public class QuestionnaireService {
 
         qa.setData(answersNode);
         qa.setConsent(dto.consent());
-        questionnaireAnswerRepository.save(qa);
+        participantFeatureService.refresh(questionnaireAnswerRepository.save(qa));
     }
 
     /**
@@ -339,7 +348,9 @@ public class QuestionnaireService {
         // validateRequiredQuestions(questionsJson);
 
         questionnaire.setQuestions(questionsJson);
-        return questionnaireRepository.save(questionnaire);
+        Questionnaire saved = questionnaireRepository.save(questionnaire);
+        participantFeatureService.invalidate(saved.getId());
+        return saved;
     }
 
     // -------------------------
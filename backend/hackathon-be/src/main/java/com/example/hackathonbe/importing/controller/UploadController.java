@@ -4,6 +4,7 @@ import com.example.hackathonbe.importing.service.UploadService;
 import com.example.hackathonbe.importing.model.ImportRequest;
 import com.example.hackathonbe.importing.model.ImportSummary;
 import com.example.hackathonbe.importing.model.ValidationReport;
+import com.example.hackathonbe.importing.preview.PreviewCache;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.springframework.http.MediaType;
@@ -51,5 +52,11 @@ public class UploadController {
         return ResponseEntity.ok(summary);
     }
 
+    // GET /api/upload/previews/stats – preview cache hit/miss/eviction counters and memory use
+    @GetMapping(value = "/previews/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PreviewCache.Stats> previewStats() {
+        return ResponseEntity.ok(service.previewCacheStats());
+    }
+
 
 }
@@ -12,4 +12,8 @@ public final class Keys {
             "has_team","team_lead","will_present_idea",
             "idea_name","problem","solution","expectations","target_audience","missing_roles","help_needed"
     );
+    /** Single-answer categorical fields of {@link #KNOWN}; the only imported answers participants can be partitioned by. */
+    public static final Set<String> PARTITIONABLE = Set.of(
+            "role","field_of_interest","education","has_team","team_lead","will_present_idea"
+    );
 }
\ No newline at end of file
@@ -1,56 +1,78 @@
 package com.example.hackathonbe.importing.parse;
 
 import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
 
+/**
+ * RFC 4180 CSV via commons-csv: quoted fields may contain delimiters, quotes ("") and line breaks.
+ * A UTF-8 byte order mark is skipped, and the delimiter (comma, semicolon or tab) is taken from
+ * whichever occurs most often outside quotes in the header line. Records are streamed one at a time.
+ * <p>
+ * Row numbers count records (header = 1) including blank ones, so they match the row a spreadsheet
+ * application shows even when a quoted value spans several lines.
+ */
 public class CsvParser implements SpreadsheetParser {
+
+    private static final char BOM = '\uFEFF';
+    private static final char[] DELIMITERS = {',', ';', '\t'};
+    /** How far into the file the header line is scanned for a delimiter. */
+    private static final int SNIFF_LIMIT = 64 * 1024;
+
     @Override
-    public List<ParticipantPreviewRow> parse(InputStream in) throws Exception {
+    public void parse(InputStream in, Consumer<ParticipantPreviewRow> sink) throws Exception {
         try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-            String headerLine = br.readLine();
-            if (headerLine == null) return List.of();
-
-            List<String> rawHeaders = split(headerLine);
-            List<String> keys = new ArrayList<>(rawHeaders.size());
-            for (String h : rawHeaders) keys.add(KeyUtil.toKey(h));
-
-            // Build key -> column and key -> original header
-            Map<String,Integer> keyToCol = new LinkedHashMap<>();
-            Map<String,String>  keyToHdr = new LinkedHashMap<>();
-            for (int c = 0; c < keys.size(); c++) {
-                String k = keys.get(c);
-                if (!k.isEmpty() && !keyToCol.containsKey(k)) {
-                    keyToCol.put(k, c+1);                  // 1-based column
-                    keyToHdr.put(k, rawHeaders.get(c));    // original header
-                }
+            skipBom(br);
+            CSVFormat format = CSVFormat.RFC4180.builder()
+                    .setDelimiter(detectDelimiter(br))
+                    .setIgnoreEmptyLines(false)
+                    .build();
+
+            Iterator<CSVRecord> records = format.parse(br).iterator();
+            if (!records.hasNext()) return;
+
+            SheetHeader header = new SheetHeader(records.next().toList());
+            while (records.hasNext()) {
+                CSVRecord record = records.next();
+                ParticipantPreviewRow row = header.row(record.toList(), (int) record.getRecordNumber());
+                if (row != null) sink.accept(row);
             }
+        }
+    }
+
+    private static void skipBom(BufferedReader br) throws IOException {
+        br.mark(1);
+        if (br.read() != BOM) br.reset();
+    }
 
-            List<ParticipantPreviewRow> out = new ArrayList<>();
-            String row;
-            int rowNumber = 1; // header = 1
-            while ((row = br.readLine()) != null) {
-                rowNumber++;
-                List<String> cols = split(row);
-                boolean allBlank = cols.stream().allMatch(s -> s == null || s.isBlank());
-                if (allBlank) continue;
-
-                Map<String,String> map = new LinkedHashMap<>();
-                for (int i = 0; i < keys.size(); i++) {
-                    String k = keys.get(i);
-                    if (k.isEmpty()) continue;
-                    map.put(k, i < cols.size() ? cols.get(i) : "");
+    /** Most frequent candidate delimiter outside quotes in the first line; comma when there is none. */
+    static char detectDelimiter(BufferedReader br) throws IOException {
+        int[] counts = new int[DELIMITERS.length];
+        br.mark(SNIFF_LIMIT);
+        try {
+            boolean quoted = false;
+            for (int i = 0, ch; i < SNIFF_LIMIT && (ch = br.read()) >= 0; i++) {
+                if (ch == '"') quoted = !quoted;
+                else if (!quoted && (ch == '\n' || ch == '\r')) break;
+                else if (!quoted) {
+                    for (int d = 0; d < DELIMITERS.length; d++) {
+                        if (ch == DELIMITERS[d]) counts[d]++;
+                    }
                 }
-                out.add(new ParticipantPreviewRow(map, true, rowNumber, keyToCol, keyToHdr));
             }
-            return out;
+        } finally {
+            br.reset();
         }
-    }
 
-    private static List<String> split(String line) {
-        // Minimal CSV; replace with Apache Commons CSV if you need full RFC
-        return Arrays.asList(line.split(",", -1));
+        int best = 0;
+        for (int d = 1; d < DELIMITERS.length; d++) {
+            if (counts[d] > counts[best]) best = d;
+        }
+        return DELIMITERS[best];
     }
 }
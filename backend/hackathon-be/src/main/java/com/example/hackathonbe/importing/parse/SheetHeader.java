@@ -0,0 +1,58 @@
+package com.example.hackathonbe.importing.parse;
+
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header row of an uploaded sheet: the normalized key of each column plus the key -> column and
+ * key -> original header maps. Built once per file and shared by all of its rows.
+ */
+final class SheetHeader {
+
+    private final List<String> keys;
+    private final Map<String, Integer> keyToColumn;
+    private final Map<String, String> keyToHeader;
+
+    SheetHeader(List<String> rawHeaders) {
+        this.keys = new ArrayList<>(rawHeaders.size());
+        for (String h : rawHeaders) keys.add(KeyUtil.toKey(h));
+
+        Map<String, Integer> keyToCol = new LinkedHashMap<>();
+        Map<String, String> keyToHdr = new LinkedHashMap<>();
+        for (int c = 0; c < keys.size(); c++) {
+            String k = keys.get(c);
+            if (!k.isEmpty() && !keyToCol.containsKey(k)) {
+                keyToCol.put(k, c + 1);                  // 1-based column
+                keyToHdr.put(k, rawHeaders.get(c));      // original header
+            }
+        }
+        this.keyToColumn = Collections.unmodifiableMap(keyToCol);
+        this.keyToHeader = Collections.unmodifiableMap(keyToHdr);
+    }
+
+    int size() { return keys.size(); }
+
+    String key(int column) { return keys.get(column); }
+
+    /**
+     * The row for {@code values} (one per column, missing trailing cells read as ""), or {@code null}
+     * when every named column is blank.
+     */
+    ParticipantPreviewRow row(List<String> values, int rowNumber) {
+        Map<String, String> map = new LinkedHashMap<>();
+        boolean any = false;
+        for (int i = 0; i < keys.size(); i++) {
+            String k = keys.get(i);
+            if (k.isEmpty()) continue;
+            String v = i < values.size() && values.get(i) != null ? values.get(i) : "";
+            map.putIfAbsent(k, v);
+            if (!v.isBlank()) any = true;
+        }
+        return any ? new ParticipantPreviewRow(map, true, rowNumber, keyToColumn, keyToHeader) : null;
+    }
+}
@@ -2,8 +2,21 @@ package com.example.hackathonbe.importing.parse;
 
 import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SpreadsheetParser {
-    List<ParticipantPreviewRow> parse(InputStream in) throws Exception;
+
+    /**
+     * Reads the first row as header and hands each non-blank data row to {@code sink} as soon as it
+     * is read, so callers can process a file without holding all of it.
+     */
+    void parse(InputStream in, Consumer<ParticipantPreviewRow> sink) throws Exception;
+
+    default List<ParticipantPreviewRow> parse(InputStream in) throws Exception {
+        List<ParticipantPreviewRow> out = new ArrayList<>();
+        parse(in, out::add);
+        return out;
+    }
 }
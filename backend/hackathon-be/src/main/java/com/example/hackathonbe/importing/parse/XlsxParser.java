@@ -1,70 +1,195 @@
 package com.example.hackathonbe.importing.parse;
 import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.function.Consumer;
 
+/**
+ * Streams the first sheet of an XLSX workbook with POI's event model instead of loading the workbook.
+ * <p>
+ * The upload is spooled to a temp file so the zip is read by random access rather than inflated into
+ * memory, and the sheet XML is walked with SAX; only the shared-strings table, the styles and the
+ * current row are held, whatever the number of rows. Cells are converted to text the way the
+ * previous DOM reader did: numbers without a fraction print as integers, date-formatted numbers as
+ * {@link Date#toString()}, formulas as their cached text result or else their formula text.
+ */
 public class XlsxParser implements SpreadsheetParser {
     @Override
-    public List<ParticipantPreviewRow> parse(InputStream in) throws Exception {
-        try (Workbook wb = WorkbookFactory.create(in)) {
-            Sheet sheet = wb.getSheetAt(0);
-            Iterator<Row> it = sheet.rowIterator();
-            if (!it.hasNext()) return List.of();
-
-            Row headerRow = it.next();
-            List<String> rawHeaders = new ArrayList<>();
-            for (Cell c : headerRow) rawHeaders.add(getString(c));
-            List<String> keys = new ArrayList<>(rawHeaders.size());
-            for (String h : rawHeaders) keys.add(KeyUtil.toKey(h));
-
-            Map<String,Integer> keyToCol = new LinkedHashMap<>();
-            Map<String,String>  keyToHdr = new LinkedHashMap<>();
-            for (int c = 0; c < keys.size(); c++) {
-                String k = keys.get(c);
-                if (!k.isEmpty() && !keyToCol.containsKey(k)) {
-                    keyToCol.put(k, c+1);
-                    keyToHdr.put(k, rawHeaders.get(c));
-                }
-            }
+    public void parse(InputStream in, Consumer<ParticipantPreviewRow> sink) throws Exception {
+        Path spooled = Files.createTempFile("participants-", ".xlsx");
+        try {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+
+            OPCPackage pkg = OPCPackage.open(spooled.toFile(), PackageAccess.READ);
+            try {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+                StylesTable styles = reader.getStylesTable();
+                boolean date1904 = isDate1904(reader);
+
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) return;
 
-            List<ParticipantPreviewRow> out = new ArrayList<>();
-            while (it.hasNext()) {
-                Row r = it.next();
-                if (r == null) continue;
-
-                int rowNumber = r.getRowNum() + 1; // 1-based
-                Map<String,String> map = new LinkedHashMap<>();
-                for (int i = 0; i < keys.size(); i++) {
-                    String k = keys.get(i);
-                    if (k.isEmpty()) continue;
-                    Cell cell = r.getCell(i, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-                    map.put(k, getString(cell));
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader xml = XMLHelper.newXMLReader();
+                    xml.setContentHandler(new SheetHandler(strings, styles, date1904, sink));
+                    xml.parse(new InputSource(sheet));
                 }
-                boolean any = map.values().stream().anyMatch(v -> v != null && !v.isBlank());
-                if (any) out.add(new ParticipantPreviewRow(map, true, rowNumber, keyToCol, keyToHdr));
+            } finally {
+                pkg.revert(); // read-only: release the file without saving
             }
-            return out;
+        } finally {
+            Files.deleteIfExists(spooled);
         }
     }
 
-    private static String getString(Cell cell) {
-        if (cell == null) return "";
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> {
-                if (DateUtil.isCellDateFormatted(cell)) yield cell.getDateCellValue().toString();
-                double d = cell.getNumericCellValue();
-                if (Math.floor(d)==d) yield Long.toString((long)d);
-                yield Double.toString(d);
+    private static boolean isDate1904(XSSFReader reader) throws Exception {
+        try (InputStream workbook = reader.getWorkbookData()) {
+            CTWorkbookPr pr = WorkbookDocument.Factory.parse(workbook).getWorkbook().getWorkbookPr();
+            return pr != null && pr.getDate1904();
+        }
+    }
+
+    /**
+     * Collects the cells of one {@code <row>} at a time. The first row becomes the header; data rows
+     * keep only the header's columns, so a stray cell far to the right costs nothing.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final StylesTable styles;
+        private final boolean date1904;
+        private final Consumer<ParticipantPreviewRow> sink;
+
+        private SheetHeader header;
+        private final List<String> values = new ArrayList<>();
+        private int rowNumber;
+        private int nextColumn;
+
+        // current cell
+        private int column;
+        private String type;
+        private int style;
+        private boolean hasFormula;
+        private final StringBuilder value = new StringBuilder();
+        private final StringBuilder formula = new StringBuilder();
+        private StringBuilder capture;
+        private boolean inInlineString;
+        private boolean inPhonetic;
+
+        SheetHandler(ReadOnlySharedStringsTable strings, StylesTable styles, boolean date1904,
+                     Consumer<ParticipantPreviewRow> sink) {
+            this.strings = strings;
+            this.styles = styles;
+            this.date1904 = date1904;
+            this.sink = sink;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowNumber = r == null ? rowNumber + 1 : Integer.parseInt(r);
+                    values.clear();
+                    nextColumn = 0;
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    column = ref == null ? nextColumn : new CellReference(ref).getCol();
+                    type = attributes.getValue("t");
+                    String s = attributes.getValue("s");
+                    style = s == null ? 0 : Integer.parseInt(s);
+                    hasFormula = false;
+                    value.setLength(0);
+                    formula.setLength(0);
+                }
+                case "v" -> capture = value;
+                case "f" -> {
+                    hasFormula = true;
+                    capture = formula;
+                }
+                case "is" -> inInlineString = true;
+                case "rPh" -> inPhonetic = true;
+                case "t" -> {
+                    if (inInlineString && !inPhonetic) capture = value;
+                }
+                default -> { }
             }
-            case BOOLEAN -> Boolean.toString(cell.getBooleanCellValue());
-            case FORMULA -> {
-                try { yield cell.getStringCellValue(); }
-                catch (Exception e) { yield cell.getCellFormula(); }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (capture != null) capture.append(ch, start, length);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "f", "t" -> capture = null;
+                case "is" -> inInlineString = false;
+                case "rPh" -> inPhonetic = false;
+                case "c" -> {
+                    nextColumn = column + 1;
+                    if (header != null && column >= header.size()) return;
+                    while (values.size() < column) values.add("");
+                    values.add(cellText());
+                }
+                case "row" -> {
+                    if (header == null) {
+                        header = new SheetHeader(new ArrayList<>(values));
+                        return;
+                    }
+                    ParticipantPreviewRow row = header.row(values, rowNumber);
+                    if (row != null) sink.accept(row);
+                }
+                default -> { }
             }
-            default -> "";
-        };
+        }
+
+        private String cellText() {
+            String v = value.toString();
+            if ("str".equals(type)) return v;                       // text result of a formula
+            if (hasFormula) return formula.toString();               // other formula results
+            if (type == null || "n".equals(type)) return number(v);
+            return switch (type) {
+                case "s" -> v.isEmpty() ? "" : strings.getItemAt(Integer.parseInt(v)).getString();
+                case "inlineStr" -> v;
+                case "b" -> Boolean.toString("1".equals(v));
+                default -> "";                                       // errors
+            };
+        }
+
+        private String number(String v) {
+            if (v.isEmpty()) return "";                              // blank (styled) cell
+            double d = Double.parseDouble(v);
+            if (isDateFormatted(d)) return DateUtil.getJavaDate(d, date1904).toString();
+            if (Math.floor(d)==d) return Long.toString((long)d);
+            return Double.toString(d);
+        }
+
+        private boolean isDateFormatted(double d) {
+            if (styles == null || !DateUtil.isValidExcelDate(d) || style >= styles.getNumCellStyles()) return false;
+            ExcelNumberFormat format = ExcelNumberFormat.from(styles.getStyleAt(style));
+            return format != null && DateUtil.isADateFormat(format);
+        }
     }
 }
@@ -1,28 +1,136 @@
 package com.example.hackathonbe.importing.preview;
 
-import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
-import java.time.Instant;
-import java.util.List;
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+/**
+ * Validated upload rows kept between {@code validate} and {@code import}, as {@link PreviewTable}s.
+ * <p>
+ * Previews expire a fixed time after they were stored and are dropped once imported. The cache is
+ * bounded by the estimated heap its tables take; storing a preview evicts the least recently used
+ * ones until it fits, and a preview larger than the whole budget is refused. Hit, miss, eviction
+ * and expiry counts are kept for monitoring.
+ */
+@Component
+@Slf4j
 public class PreviewCache {
-    private static final class Entry {
-        List<ParticipantPreviewRow> rows;
-        Instant createdAt = Instant.now();
-        Entry(List<ParticipantPreviewRow> rows) { this.rows = rows; }
+
+    /** Counters since startup plus the current footprint. */
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            long expirations,
+            int entries,
+            long weightBytes,
+            long maxWeightBytes
+    ) {}
+
+    private record Entry(PreviewTable table, long weight, long expiresAt) {}
+
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final LongSupplier clock;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    @Autowired
+    public PreviewCache(
+            @Value("${app.upload.preview.ttl-minutes:30}") long ttlMinutes,
+            @Value("${app.upload.preview.max-megabytes:128}") long maxMegabytes
+    ) {
+        this(TimeUnit.MINUTES.toNanos(Math.max(1, ttlMinutes)), Math.max(1, maxMegabytes) * 1024 * 1024, System::nanoTime);
+    }
+
+    PreviewCache(long ttlNanos, long maxWeightBytes, LongSupplier clock) {
+        this.ttlNanos = ttlNanos;
+        this.maxWeight = maxWeightBytes;
+        this.clock = clock;
     }
 
-    private final ConcurrentHashMap<UUID, Entry> map = new ConcurrentHashMap<>();
+    /**
+     * Stores {@code table} under a new id.
+     *
+     * @throws BadRequestException if the table alone exceeds the cache's memory budget
+     */
+    public UUID put(PreviewTable table) {
+        long tableWeight = table.estimatedBytes();
+        if (tableWeight > maxWeight) {
+            throw new BadRequestException("File is too large to preview; please split it into smaller files");
+        }
 
-    public UUID put(List<ParticipantPreviewRow> rows) {
         UUID id = UUID.randomUUID();
-        map.put(id, new Entry(rows));
+        synchronized (this) {
+            long now = clock.getAsLong();
+            removeExpired(now);
+            entries.put(id, new Entry(table, tableWeight, now + ttlNanos));
+            weight += tableWeight;
+
+            Iterator<Map.Entry<UUID, Entry>> eldest = entries.entrySet().iterator();
+            while (weight > maxWeight) {
+                Map.Entry<UUID, Entry> e = eldest.next();
+                eldest.remove();
+                weight -= e.getValue().weight();
+                evictions++;
+                log.debug("Evicted upload preview {} ({} bytes) to stay within the preview budget", e.getKey(), e.getValue().weight());
+            }
+        }
         return id;
     }
 
-    public List<ParticipantPreviewRow> get(UUID id) {
-        Entry e = map.get(id);
-        return e == null ? null : e.rows;
+    /** The preview's rows, or {@code null} when it is unknown, expired or already imported. */
+    public synchronized PreviewTable get(UUID id) {
+        Entry e = entries.get(id);
+        if (e != null && e.expiresAt() - clock.getAsLong() <= 0) {
+            remove(id);
+            expirations++;
+            e = null;
+        }
+        if (e == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return e.table();
+    }
+
+    public synchronized void invalidate(UUID id) {
+        remove(id);
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, expirations, entries.size(), weight, maxWeight);
+    }
+
+    private void removeExpired(long now) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.expiresAt() - now <= 0) {
+                it.remove();
+                weight -= e.weight();
+                expirations++;
+            }
+        }
+    }
+
+    private void remove(UUID id) {
+        Entry e = entries.remove(id);
+        if (e != null) weight -= e.weight();
     }
 }
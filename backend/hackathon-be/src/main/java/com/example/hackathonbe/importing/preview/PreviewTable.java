@@ -0,0 +1,251 @@
+package com.example.hackathonbe.importing.preview;
+
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+
+import java.util.*;
+
+/**
+ * Validated upload rows stored by column rather than as one map per row.
+ * <p>
+ * Each key is one column. A column starts dictionary-encoded (one byte per row pointing into its
+ * distinct values), which suits fields like role, gender or education; once it has more than
+ * {@value #DICTIONARY_LIMIT} distinct values it falls back to a plain string array. Row numbers and
+ * validity are kept in an {@code int[]} and a {@link BitSet}; the key/header maps exist once per
+ * table. {@link #fields(int)} gives a read-only map view of a row without copying it.
+ */
+public final class PreviewTable {
+
+    static final int DICTIONARY_LIMIT = 256;
+
+    // rough heap cost of a String besides its characters (object + array headers, fields)
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    public static final PreviewTable EMPTY = new PreviewTable(List.of(), Map.of(), Map.of(), new Column[0], new int[0], new BitSet(), 0);
+
+    private final List<String> keys;
+    private final Map<String, Integer> keyToColumn;
+    private final Map<String, String> keyToHeader;
+    private final Map<String, Integer> columnIndex;
+    private final Column[] columns;
+    private final int[] rowNumbers;
+    private final BitSet valid;
+    private final int size;
+
+    private PreviewTable(List<String> keys, Map<String, Integer> keyToColumn, Map<String, String> keyToHeader,
+                         Column[] columns, int[] rowNumbers, BitSet valid, int size) {
+        this.keys = keys;
+        this.keyToColumn = keyToColumn;
+        this.keyToHeader = keyToHeader;
+        this.columns = columns;
+        this.rowNumbers = rowNumbers;
+        this.valid = valid;
+        this.size = size;
+
+        this.columnIndex = new HashMap<>(keys.size() * 2);
+        for (int c = 0; c < keys.size(); c++) columnIndex.put(keys.get(c), c);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() { return size; }
+
+    /** Field keys in column order. */
+    public List<String> keys() { return keys; }
+
+    /** Key -> 1-based column in the uploaded file. */
+    public Map<String, Integer> keyToColumn() { return keyToColumn; }
+
+    /** Key -> header as written in the uploaded file. */
+    public Map<String, String> keyToHeader() { return keyToHeader; }
+
+    public int rowNumber(int row) { return rowNumbers[row]; }
+
+    public boolean isValid(int row) { return valid.get(row); }
+
+    public int validCount() { return valid.cardinality(); }
+
+    /** The row's value for {@code key}, or {@code null} when the file has no such column. */
+    public String value(int row, String key) {
+        Integer c = columnIndex.get(key);
+        return c == null ? null : columns[c].get(row);
+    }
+
+    /** Read-only view of the row as key -> value, in column order. */
+    public Map<String, String> fields(int row) {
+        Objects.checkIndex(row, size);
+        return new RowView(row);
+    }
+
+    /** Estimated heap taken by the table, for the preview cache's memory budget. */
+    public long estimatedBytes() {
+        long bytes = 64L + 4L * rowNumbers.length + valid.size() / 8;
+        for (Column column : columns) bytes += column.estimatedBytes();
+        return bytes;
+    }
+
+    private final class RowView extends AbstractMap<String, String> {
+        private final int row;
+
+        RowView(int row) { this.row = row; }
+
+        @Override
+        public String get(Object key) {
+            Integer c = columnIndex.get(key);
+            return c == null ? null : columns[c].get(row);
+        }
+
+        @Override
+        public boolean containsKey(Object key) { return columnIndex.containsKey(key); }
+
+        @Override
+        public int size() { return keys.size(); }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() { return keys.size(); }
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int c;
+
+                        @Override
+                        public boolean hasNext() { return c < keys.size(); }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int column = c++;
+                            return new SimpleImmutableEntry<>(keys.get(column), columns[column].get(row));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private interface Column {
+        String get(int row);
+
+        long estimatedBytes();
+    }
+
+    /** Low-cardinality column: an unsigned byte code per row into the distinct values. */
+    private record DictionaryColumn(byte[] codes, String[] dictionary) implements Column {
+        @Override
+        public String get(int row) { return dictionary[codes[row] & 0xFF]; }
+
+        @Override
+        public long estimatedBytes() {
+            long bytes = codes.length + 8L * dictionary.length;
+            for (String value : dictionary) bytes += stringBytes(value);
+            return bytes;
+        }
+    }
+
+    private record PlainColumn(String[] values) implements Column {
+        @Override
+        public String get(int row) { return values[row]; }
+
+        @Override
+        public long estimatedBytes() {
+            long bytes = 8L * values.length;
+            for (String value : values) bytes += stringBytes(value);
+            return bytes;
+        }
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    /**
+     * Appends rows as they are validated. The first row fixes the columns; every row of one file has
+     * the same keys.
+     */
+    public static final class Builder {
+
+        private List<String> keys;
+        private Map<String, Integer> keyToColumn;
+        private Map<String, String> keyToHeader;
+        private ColumnBuilder[] columns;
+        private int[] rowNumbers = new int[64];
+        private final BitSet valid = new BitSet();
+        private int size;
+
+        private Builder() {}
+
+        public Builder add(ParticipantPreviewRow row, boolean rowValid) {
+            Map<String, String> fields = row.fields();
+            if (keys == null) {
+                keys = List.copyOf(fields.keySet());
+                keyToColumn = row.keyToColumn();
+                keyToHeader = row.keyToHeader();
+                columns = new ColumnBuilder[keys.size()];
+                for (int c = 0; c < columns.length; c++) columns[c] = new ColumnBuilder();
+            }
+
+            for (int c = 0; c < columns.length; c++) columns[c].add(fields.get(keys.get(c)));
+            if (size == rowNumbers.length) rowNumbers = Arrays.copyOf(rowNumbers, size * 2);
+            rowNumbers[size] = row.rowNumber();
+            if (rowValid) valid.set(size);
+            size++;
+            return this;
+        }
+
+        public PreviewTable build() {
+            if (keys == null) return EMPTY;
+
+            Column[] built = new Column[columns.length];
+            for (int c = 0; c < columns.length; c++) built[c] = columns[c].build(size);
+            return new PreviewTable(keys, keyToColumn, keyToHeader, built, Arrays.copyOf(rowNumbers, size),
+                    (BitSet) valid.clone(), size);
+        }
+    }
+
+    /** Dictionary-encodes values until there are too many distinct ones, then stores them plainly. */
+    private static final class ColumnBuilder {
+        private Map<String, Integer> dictionary = new HashMap<>();
+        private List<String> distinct = new ArrayList<>();
+        private byte[] codes = new byte[64];
+        private String[] plain;
+        private int size;
+
+        void add(String value) {
+            if (plain == null) {
+                Integer code = dictionary.get(value);
+                if (code == null && distinct.size() == DICTIONARY_LIMIT) {
+                    switchToPlain();
+                } else {
+                    if (code == null) {
+                        code = distinct.size();
+                        dictionary.put(value, code);
+                        distinct.add(value);
+                    }
+                    if (size == codes.length) codes = Arrays.copyOf(codes, size * 2);
+                    codes[size++] = (byte) (int) code;
+                    return;
+                }
+            }
+            if (size == plain.length) plain = Arrays.copyOf(plain, size * 2);
+            plain[size++] = value;
+        }
+
+        private void switchToPlain() {
+            plain = new String[Math.max(64, codes.length)];
+            for (int i = 0; i < size; i++) plain[i] = distinct.get(codes[i] & 0xFF);
+            dictionary = null;
+            distinct = null;
+            codes = null;
+        }
+
+        Column build(int rows) {
+            if (plain != null) return new PlainColumn(Arrays.copyOf(plain, rows));
+            return new DictionaryColumn(Arrays.copyOf(codes, rows), distinct.toArray(new String[0]));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.hackathonbe.importing.service;
 
 import com.example.hackathonbe.common.exceptions.BadRequestException;
 import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.common.tx.AfterCommit;
 import com.example.hackathonbe.hackathon.model.CoreFieldKey;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.model.Questionnaire;
@@ -14,8 +15,11 @@ import com.example.hackathonbe.importing.parse.CsvParser;
 import com.example.hackathonbe.importing.parse.SpreadsheetParser;
 import com.example.hackathonbe.importing.parse.XlsxParser;
 import com.example.hackathonbe.importing.preview.PreviewCache;
+import com.example.hackathonbe.importing.preview.PreviewTable;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.service.ParticipantFeatureService;
+import com.example.hackathonbe.team.service.TeamBoardVersions;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -30,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,8 +46,10 @@ public class UploadService {
     private final HackathonRepository hackathonRepository;
     private final QuestionnaireService questionnaireService;
     private final QuestionnaireAnswerRepository questionnaireAnswerRepository;
+    private final ParticipantFeatureService participantFeatureService;
+    private final TeamBoardVersions teamBoardVersions;
+    private final PreviewCache previewCache;
 
-    private final PreviewCache previewCache = new PreviewCache();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -69,106 +76,108 @@ public class UploadService {
             );
         }
 
-        List<ParticipantPreviewRow> parsedRows = parseFile(parser, file);
+        // Rows are validated as the parser reads them and kept column-wise for the preview
+        Map<String, Long> rowErrorCounts = new LinkedHashMap<>();
+        List<ValidationReport.CellError> rowErrors = new ArrayList<>();
+        PreviewTable.Builder preview = PreviewTable.builder();
+        parseFile(parser, file, parsedRow -> preview.add(parsedRow, validateRow(parsedRow, rowErrorCounts, rowErrors)));
+        PreviewTable table = preview.build();
 
-        // Build validation report
+        Set<String> presentKeys = new LinkedHashSet<>(table.keys());
+
+        // Header errors are reported ahead of row errors
         Map<String, Long> topErrorCounts = new LinkedHashMap<>();
         List<ValidationReport.CellError> cellErrors = new ArrayList<>();
-        List<ParticipantPreviewRow> normalizedRows = new ArrayList<>(parsedRows.size());
-
-        Set<String> presentKeys = parsedRows.stream()
-                .flatMap(row -> row.fields().keySet().stream())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
         //addUnknownHeaderErrors(parsedRows, presentKeys, topErrorCounts, cellErrors);
         addMissingHeaderErrors(presentKeys, topErrorCounts, cellErrors);
+        rowErrorCounts.forEach((code, count) -> topErrorCounts.merge(code, count, Long::sum));
+        cellErrors.addAll(rowErrors);
 
-        for (ParticipantPreviewRow parsedRow : parsedRows) {
-            Map<String, String> fields = parsedRow.fields();
-            boolean rowValid = true;
+        int totalRows = table.size();
+        int validRows = table.validCount();
+        int invalidRows = totalRows - validRows;
 
-            // Required string fields validation
-            for (String requiredField : List.of("first_name", "last_name", "email", "role", "gender", "education")) {
-                String value = nullToEmpty(fields.get(requiredField));
-                if (value.isBlank()) {
-                    increment(topErrorCounts, "MISSING_VALUE:" + requiredField);
-                    cellErrors.add(cell(parsedRow, requiredField, "MISSING_VALUE:" + requiredField, value));
-                    rowValid = false;
-                }
-            }
+        UUID previewId = previewCache.put(table);
+
+        List<ValidationReport.TopError> topErrors = topErrorCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> new ValidationReport.TopError(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new ValidationReport(previewId, totalRows, validRows, invalidRows, topErrors, cellErrors);
+    }
 
-            // Email validation (invalid email -> invalid row)
-            String email = nullToEmpty(fields.get("email"));
-            if (!email.isBlank() && !EmailValidator.getInstance().isValid(email)) {
-                increment(topErrorCounts, "INVALID_EMAIL");
-                cellErrors.add(cell(parsedRow, "email", "INVALID_EMAIL", email));
+    /** Checks one parsed row, recording its errors; returns whether the row is valid. */
+    private boolean validateRow(
+            ParticipantPreviewRow parsedRow,
+            Map<String, Long> topErrorCounts,
+            List<ValidationReport.CellError> cellErrors
+    ) {
+        Map<String, String> fields = parsedRow.fields();
+        boolean rowValid = true;
+
+        // Required string fields validation
+        for (String requiredField : List.of("first_name", "last_name", "email", "role", "gender", "education")) {
+            String value = nullToEmpty(fields.get(requiredField));
+            if (value.isBlank()) {
+                increment(topErrorCounts, "MISSING_VALUE:" + requiredField);
+                cellErrors.add(cell(parsedRow, requiredField, "MISSING_VALUE:" + requiredField, value));
                 rowValid = false;
             }
+        }
 
-            // Required numeric fields validation
-            for (String numericField : List.of("motivation", "age", "years_experience")) {
-                String value = nullToEmpty(fields.get(numericField));
-                if (value.isBlank()) {
-                    increment(topErrorCounts, "MISSING_VALUE:" + numericField);
-                    cellErrors.add(cell(parsedRow, numericField, "MISSING_VALUE:" + numericField, value));
-                    rowValid = false;
-                } else {
-                    // Check if it's a valid number
-                    try {
-                        if (value.contains(".")) {
-                            Double.parseDouble(value.trim());
-                        } else {
-                            Long.parseLong(value.trim());
-                        }
-                    } catch (NumberFormatException e) {
-                        increment(topErrorCounts, "INVALID_VALUE:" + numericField);
-                        cellErrors.add(cell(parsedRow, numericField, "INVALID_VALUE:" + numericField, value));
-                        rowValid = false;
+        // Email validation (invalid email -> invalid row)
+        String email = nullToEmpty(fields.get("email"));
+        if (!email.isBlank() && !EmailValidator.getInstance().isValid(email)) {
+            increment(topErrorCounts, "INVALID_EMAIL");
+            cellErrors.add(cell(parsedRow, "email", "INVALID_EMAIL", email));
+            rowValid = false;
+        }
+
+        // Required numeric fields validation
+        for (String numericField : List.of("motivation", "age", "years_experience")) {
+            String value = nullToEmpty(fields.get(numericField));
+            if (value.isBlank()) {
+                increment(topErrorCounts, "MISSING_VALUE:" + numericField);
+                cellErrors.add(cell(parsedRow, numericField, "MISSING_VALUE:" + numericField, value));
+                rowValid = false;
+            } else {
+                // Check if it's a valid number
+                try {
+                    if (value.contains(".")) {
+                        Double.parseDouble(value.trim());
+                    } else {
+                        Long.parseLong(value.trim());
                     }
+                } catch (NumberFormatException e) {
+                    increment(topErrorCounts, "INVALID_VALUE:" + numericField);
+                    cellErrors.add(cell(parsedRow, numericField, "INVALID_VALUE:" + numericField, value));
+                    rowValid = false;
                 }
             }
+        }
 
-            // motivation: integer 0..100 (your current constraints)
-            String motivationText = nullToEmpty(fields.get("motivation"));
-            if (!motivationText.isBlank()) {
-                boolean isInt = motivationText.matches("^\\d{1,3}$");
-                Integer motivationValue = isInt ? Integer.parseInt(motivationText) : null;
+        // motivation: integer 0..100 (your current constraints)
+        String motivationText = nullToEmpty(fields.get("motivation"));
+        if (!motivationText.isBlank()) {
+            boolean isInt = motivationText.matches("^\\d{1,3}$");
+            Integer motivationValue = isInt ? Integer.parseInt(motivationText) : null;
 
-                if (!isInt || motivationValue < 0 || motivationValue > 100) {
-                    increment(topErrorCounts, "INVALID_VALUE:motivation");
-                    cellErrors.add(cell(parsedRow, "motivation", "INVALID_VALUE:motivation", motivationText));
-                    rowValid = false;
-                }
-            }
-            
-            String skills = nullToEmpty(fields.get("skills"));
-            if (skills.isBlank()) {
-                increment(topErrorCounts, "MISSING_VALUE:skills");
-                cellErrors.add(cell(parsedRow, "skills", "MISSING_VALUE:skills", skills));
+            if (!isInt || motivationValue < 0 || motivationValue > 100) {
+                increment(topErrorCounts, "INVALID_VALUE:motivation");
+                cellErrors.add(cell(parsedRow, "motivation", "INVALID_VALUE:motivation", motivationText));
                 rowValid = false;
             }
-
-            normalizedRows.add(new ParticipantPreviewRow(
-                    fields,
-                    rowValid,
-                    parsedRow.rowNumber(),
-                    parsedRow.keyToColumn(),
-                    parsedRow.keyToHeader()
-            ));
         }
 
-        int totalRows = normalizedRows.size();
-        int validRows = (int) normalizedRows.stream().filter(ParticipantPreviewRow::valid).count();
-        int invalidRows = totalRows - validRows;
-
-        UUID previewId = previewCache.put(normalizedRows);
-
-        List<ValidationReport.TopError> topErrors = topErrorCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .map(entry -> new ValidationReport.TopError(entry.getKey(), entry.getValue()))
-                .toList();
+        String skills = nullToEmpty(fields.get("skills"));
+        if (skills.isBlank()) {
+            increment(topErrorCounts, "MISSING_VALUE:skills");
+            cellErrors.add(cell(parsedRow, "skills", "MISSING_VALUE:skills", skills));
+            rowValid = false;
+        }
 
-        return new ValidationReport(previewId, totalRows, validRows, invalidRows, topErrors, cellErrors);
+        return rowValid;
     }
 
     /**
@@ -187,24 +196,24 @@ public class UploadService {
         Hackathon hackathon = hackathonRepository.findById(hackathonId)
                 .orElseThrow(() -> new NotFoundException("Hackathon not found: " + hackathonId));
 
-        List<ParticipantPreviewRow> previewRows = previewCache.get(previewId);
-        if (previewRows == null) {
+        PreviewTable preview = previewCache.get(previewId);
+        if (preview == null) {
             throw new NotFoundException("Preview not found or expired: " + previewId);
         }
-        if (previewRows.isEmpty()) {
+        if (preview.size() == 0) {
             return new ImportSummary(0, 0, 0, 0, 0);
         }
 
-        JsonNode externalQuestionnaireJson = createExternalQuestionnaireJson(previewRows);
+        JsonNode externalQuestionnaireJson = createExternalQuestionnaireJson(preview);
         log.debug("External questionnaire JSON: {}", externalQuestionnaireJson.toString());
         Questionnaire questionnaire = questionnaireService.saveExternalQuestionnaire(hackathon, externalQuestionnaireJson);
 
-        int total = previewRows.size();
+        int total = preview.size();
         int skipped = 0;
 
         List<ObjectNode> validObjects = new ArrayList<>();
-        for (ParticipantPreviewRow row : previewRows) {
-            ObjectNode participantJson = ParticipantJson.toJson(row.fields());
+        for (int row = 0; row < total; row++) {
+            ObjectNode participantJson = ParticipantJson.toJson(preview.fields(row));
             List<String> validationErrors = ParticipantJson.validate(participantJson);
             if (!validationErrors.isEmpty()) {
                 skipped++;
@@ -232,6 +241,7 @@ public class UploadService {
 
         int inserted = 0;
         int updated = 0;
+        List<QuestionnaireAnswer> savedAnswers = new ArrayList<>(byEmail.size());
 
         for (Map.Entry<String, ObjectNode> entry : byEmail.entrySet()) {
             String email = entry.getKey();
@@ -265,25 +275,32 @@ public class UploadService {
                     });
 
             questionnaireAnswer.setData(data);
-            questionnaireAnswerRepository.save(questionnaireAnswer);
+            savedAnswers.add(questionnaireAnswerRepository.save(questionnaireAnswer));
         }
 
         hackathonRepository.save(hackathon);
+        participantFeatureService.refreshAll(questionnaire, savedAnswers);
+        // re-imported participants may have new names, which team boards show
+        if (updated > 0) teamBoardVersions.bumpAll();
+        // an imported preview is done with; if the import rolls back it stays available for a retry
+        AfterCommit.run(() -> previewCache.invalidate(previewId));
 
         return new ImportSummary(total, inserted, updated, skipped, deduped);
     }
 
+    public PreviewCache.Stats previewCacheStats() {
+        return previewCache.stats();
+    }
+
     /**
      * Creates external questionnaire JSON structure from preview header mapping.
      * NOTE: this uses KEYS (e.g. "first_name") not header display names.
      */
-    public JsonNode createExternalQuestionnaireJson(List<ParticipantPreviewRow> previewRows) {
-        if (previewRows == null || previewRows.isEmpty()) {
+    public JsonNode createExternalQuestionnaireJson(PreviewTable preview) {
+        if (preview == null || preview.size() == 0) {
             return objectMapper.createObjectNode();
         }
 
-        ParticipantPreviewRow headerRow = previewRows.get(0);
-
         ObjectNode root = objectMapper.createObjectNode();
         ArrayNode questions = objectMapper.createArrayNode();
         root.set("questions", questions);
@@ -291,7 +308,7 @@ public class UploadService {
         int questionIndex = 1;
         List<CoreFieldKey> coreFieldKeys = new ArrayList<>();
         // Use keys, and map to header labels where needed
-        for (String key : headerRow.keyToHeader().keySet()) {
+        for (String key : preview.keyToHeader().keySet()) {
             CoreFieldKey coreKey = CoreFieldKey.fromKey(key);
             ObjectNode question = objectMapper.createObjectNode();
             question.put("id", UUID.randomUUID().toString());
@@ -326,9 +343,9 @@ public class UploadService {
         };
     }
 
-    private List<ParticipantPreviewRow> parseFile(SpreadsheetParser parser, MultipartFile file) {
+    private void parseFile(SpreadsheetParser parser, MultipartFile file, Consumer<ParticipantPreviewRow> sink) {
         try (InputStream inputStream = file.getInputStream()) {
-            return parser.parse(inputStream);
+            parser.parse(inputStream, sink);
         } catch (IOException e) {
             throw new BadRequestException("Failed to read file");
         } catch (Exception e) {
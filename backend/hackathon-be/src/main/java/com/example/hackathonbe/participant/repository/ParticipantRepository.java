@@ -2,6 +2,8 @@ package com.example.hackathonbe.participant.repository;
 
 import com.example.hackathonbe.participant.model.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -12,4 +14,13 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     List<Participant> findAllByEmailIn(Collection<String> email);
 
     boolean existsByEmail(String newEmail);
+
+    /** The participants among {@code ids} that are registered for the hackathon. */
+    @Query("""
+            select p
+            from Participant p
+            join p.hackathons h
+            where h.id = :hackathonId and p.id in :ids
+            """)
+    List<Participant> findAllInHackathon(@Param("hackathonId") Long hackathonId, @Param("ids") Collection<Long> ids);
 }
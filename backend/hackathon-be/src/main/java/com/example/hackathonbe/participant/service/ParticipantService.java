@@ -5,11 +5,13 @@ import com.example.hackathonbe.common.exceptions.ConflictException;
 import com.example.hackathonbe.common.exceptions.NotFoundException;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
 import com.example.hackathonbe.participant.dto.ParticipantDto;
 import com.example.hackathonbe.participant.dto.ParticipantInfoResponse;
 import com.example.hackathonbe.participant.dto.ParticipantUpdateRequest;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.service.TeamBoardVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,8 @@ public class ParticipantService {
 
     private final ParticipantRepository participantRepository;
     private final HackathonRepository hackathonRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+    private final TeamBoardVersions teamBoardVersions;
 
     @Transactional(readOnly = true)
     public List<ParticipantDto> getAllParticipants(Long hackathonId) {
@@ -57,6 +61,8 @@ public class ParticipantService {
         participant.setEmail(newEmail);
 
         Participant updated = participantRepository.save(participant);
+        // names and emails show on the team boards of every hackathon the participant is in
+        teamBoardVersions.bumpAll();
 
         return new ParticipantInfoResponse(
                 updated.getId(),
@@ -94,6 +100,11 @@ public class ParticipantService {
 
         hackathon.getParticipants().remove(participant);
         hackathonRepository.save(hackathon);
+
+        // the candidate set changed: cached generation previews of this hackathon are stale
+        if (hackathon.getQuestionnaire() != null) {
+            questionnaireRepository.bumpAnswersVersion(hackathon.getQuestionnaire().getId());
+        }
     }
 
     // ---- helpers
@@ -1,10 +1,21 @@
 package com.example.hackathonbe.team.controller;
 
+import com.example.hackathonbe.team.dto.GenerationPreviewDTO;
 import com.example.hackathonbe.team.dto.TeamDTO;
+import com.example.hackathonbe.team.generation.GenerationConstraints;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.service.TeamBoardFeed;
+import com.example.hackathonbe.team.service.TeamBoardService;
+import com.example.hackathonbe.team.service.TeamPreviewService;
 import com.example.hackathonbe.team.service.TeamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.example.hackathonbe.team.dto.TeamEditRequests.*;
 
 import java.util.List;
@@ -17,23 +28,67 @@ import java.util.UUID;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamPreviewService teamPreviewService;
+    private final TeamBoardService teamBoardService;
+    private final TeamBoardFeed teamBoardFeed;
 
-    // POST /api/teams/generate?teamSize=4
+    // POST /api/teams/generate?teamSize=4&starts=32&seed=7 – optional body: {"keepTogether": [...], "keepApart": [...]}
+    // a seed makes the run reproducible; repeating a request returns the current teams if they came from the same inputs.
+    // Seeded runs fail with 400 if they exceed app.teams.generation.seeded-time-limit-ms
     @PostMapping("/generate")
     public ResponseEntity<Map<String, Object>> generate(@RequestParam(name = "teamSize", required = false) Integer teamSize,
-                                                        @PathVariable Long hackathonId) {
-        UUID generationId = teamService.generateTeams(teamSize, hackathonId);
+                                                        @RequestParam(name = "starts", required = false) Integer starts,
+                                                        @RequestParam(name = "seed", required = false) Long seed,
+                                                        @PathVariable Long hackathonId,
+                                                        @RequestBody(required = false) GenerationConstraints constraints) {
+        UUID generationId = teamService.generateTeams(hackathonId,
+                new GenerationRequest(teamSize, starts, constraints, seed), GenerationProgress.NONE);
         return ResponseEntity.ok(Map.of(
                 "generationId", generationId,
                 "message", "Teams generated"
         ));
     }
 
-    // GET /api/teams?generationId={uuid}
+    // POST /api/{hackathonId}/teams/generate/preview?teamSize=4&starts=32 – dry run, nothing is stored
+    @PostMapping("/generate/preview")
+    public ResponseEntity<GenerationPreviewDTO> preview(@RequestParam(name = "teamSize", required = false) Integer teamSize,
+                                                        @RequestParam(name = "starts", required = false) Integer starts,
+                                                        @PathVariable Long hackathonId,
+                                                        @RequestBody(required = false) GenerationConstraints constraints) {
+        return ResponseEntity.ok(teamPreviewService.preview(hackathonId, teamSize, starts, constraints));
+    }
+
+    // POST /api/{hackathonId}/teams/generate/preview/{previewId}/commit – store a previewed result
+    @PostMapping("/generate/preview/{previewId}/commit")
+    public ResponseEntity<Map<String, Object>> commitPreview(@PathVariable Long hackathonId,
+                                                             @PathVariable UUID previewId) {
+        UUID generationId = teamPreviewService.commit(hackathonId, previewId);
+        return ResponseEntity.ok(Map.of(
+                "generationId", generationId,
+                "message", "Teams generated"
+        ));
+    }
+
+    // GET /api/{hackathonId}/teams – honours If-None-Match: unchanged boards answer 304 without being read
     @GetMapping
-    public ResponseEntity<List<TeamDTO>> getTeams( @PathVariable Long hackathonId) {
+    public ResponseEntity<byte[]> getTeams(@PathVariable Long hackathonId, WebRequest request) {
+        if (request.checkNotModified(teamBoardService.etag(hackathonId))) return null;
+
+        TeamBoardService.Board board = teamBoardService.board(hackathonId);
+        return ResponseEntity.ok()
+                .eTag(board.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(board.json());
+    }
 
-        return ResponseEntity.ok(teamService.getTeams(hackathonId));
+    // GET /api/{hackathonId}/teams/events – SSE stream of board changes; subscribe before fetching the board.
+    // Reconnects resume from the Last-Event-ID header (or ?lastEventId=); a RESYNC event asks for a re-fetch
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable Long hackathonId,
+                             @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(name = "lastEventId", required = false) String lastEventId) {
+        return teamBoardFeed.subscribe(hackathonId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
     }
 
     // PATCH /api/teams/{teamId} – rename team
@@ -70,6 +125,15 @@ public class TeamController {
         return ResponseEntity.ok().build();
     }
 
+    // POST /api/{hackathonId}/teams/batch – apply many adds/removes/moves atomically
+    @PostMapping("/batch")
+    public ResponseEntity<List<TeamDTO>> applyEdits(
+            @PathVariable Long hackathonId,
+            @RequestBody BatchEditRequest request
+    ) {
+        return ResponseEntity.ok(teamService.applyEdits(hackathonId, request));
+    }
+
     @DeleteMapping("/{teamId}")
     public ResponseEntity<Void> deleteTeam(@PathVariable UUID teamId) {
         teamService.deleteTeam(teamId);
@@ -0,0 +1,33 @@
+package com.example.hackathonbe.team.controller;
+
+import com.example.hackathonbe.team.service.TeamExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/{hackathonId}/teams/export")
+@RequiredArgsConstructor
+public class TeamExportController {
+
+    private final TeamExportService exportService;
+
+    // GET /api/{hackathonId}/teams/export?format=csv|xlsx – download the team roster
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Long hackathonId,
+                                                        @RequestParam(name = "format", required = false) String format) {
+        TeamExportService.Format exportFormat = TeamExportService.Format.parse(format);
+        exportService.requireHackathon(hackathonId);
+
+        String filename = "teams-" + hackathonId + "." + exportFormat.extension();
+        StreamingResponseBody body = out -> exportService.export(hackathonId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hackathonbe.team.controller;
+
+import com.example.hackathonbe.team.dto.GenerationJobDTO;
+import com.example.hackathonbe.team.generation.GenerationConstraints;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.service.TeamGenerationJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/{hackathonId}/teams/generate/jobs")
+@RequiredArgsConstructor
+public class TeamGenerationJobController {
+
+    private final TeamGenerationJobService jobService;
+
+    // POST /api/{hackathonId}/teams/generate/jobs?teamSize=4&starts=32&seed=7 – start generation in the background
+    @PostMapping
+    public ResponseEntity<GenerationJobDTO> submit(@PathVariable Long hackathonId,
+                                                   @RequestParam(name = "teamSize", required = false) Integer teamSize,
+                                                   @RequestParam(name = "starts", required = false) Integer starts,
+                                                   @RequestParam(name = "seed", required = false) Long seed,
+                                                   @RequestBody(required = false) GenerationConstraints constraints) {
+        GenerationJobDTO job = jobService.submit(hackathonId,
+                new GenerationRequest(teamSize, starts, constraints, seed));
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/" + hackathonId + "/teams/generate/jobs/" + job.id()))
+                .body(job);
+    }
+
+    // GET /api/{hackathonId}/teams/generate/jobs/{jobId} – poll progress
+    @GetMapping("/{jobId}")
+    public ResponseEntity<GenerationJobDTO> getJob(@PathVariable Long hackathonId, @PathVariable UUID jobId) {
+        return ResponseEntity.ok(jobService.getJob(hackathonId, jobId));
+    }
+
+    // DELETE /api/{hackathonId}/teams/generate/jobs/{jobId} – request cancellation
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<GenerationJobDTO> cancel(@PathVariable Long hackathonId, @PathVariable UUID jobId) {
+        return ResponseEntity.accepted().body(jobService.cancel(hackathonId, jobId));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hackathonbe.team.dto;
+
+import com.example.hackathonbe.team.generation.GenerationPhase;
+import com.example.hackathonbe.team.model.GenerationJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Snapshot of a background team generation job.
+ *
+ * @param candidatesProcessed items handled in the current phase (participants loaded, members persisted)
+ * @param bestObjective       objective of the best assignment found so far, {@code null} until one exists
+ * @param generationId        id of the persisted generation once the job succeeded
+ */
+public record GenerationJobDTO(
+        UUID id,
+        Long hackathonId,
+        GenerationJobStatus status,
+        GenerationPhase phase,
+        int candidatesProcessed,
+        int candidatesTotal,
+        Double bestObjective,
+        UUID generationId,
+        boolean cancelRequested,
+        String error,
+        OffsetDateTime createdAt,
+        OffsetDateTime finishedAt
+) {}
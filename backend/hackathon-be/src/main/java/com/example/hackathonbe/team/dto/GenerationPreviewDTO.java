@@ -0,0 +1,25 @@
+package com.example.hackathonbe.team.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Teams proposed by a dry-run generation. Nothing is stored until the preview is committed by id;
+ * the teams carry no ids or generation id yet.
+ *
+ * @param cached true when the preview was served from cache because its inputs were unchanged
+ */
+public record GenerationPreviewDTO(
+        UUID previewId,
+        boolean cached,
+        int teamSize,
+        Integer starts,
+        double objective,
+        OffsetDateTime createdAt,
+        List<TeamDTO> teams
+) {
+    public GenerationPreviewDTO asCached() {
+        return new GenerationPreviewDTO(previewId, true, teamSize, starts, objective, createdAt, teams);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hackathonbe.team.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Read-only projection of a participant feature row: what team generation needs per candidate.
+ */
+public record ParticipantFeatureRow(
+        Long participantId,
+        String roleLabel,
+        JsonNode skillLabels,
+        int motivation,
+        int yearsExperience
+) {
+    /** JPQL constructor expression: the jsonb column is typed as Object by the query model. */
+    public ParticipantFeatureRow(Long participantId, String roleLabel, Object skillLabels,
+                                 int motivation, int yearsExperience) {
+        this(participantId, roleLabel, (JsonNode) skillLabels, motivation, yearsExperience);
+    }
+}
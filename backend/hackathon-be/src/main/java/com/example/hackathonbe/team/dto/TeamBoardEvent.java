@@ -0,0 +1,66 @@
+package com.example.hackathonbe.team.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * One change to a hackathon's team board, pushed to subscribers of the board's event stream.
+ * Only the fields of the event's type are set; the others are left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TeamBoardEvent(
+        Type type,
+        UUID teamId,
+        UUID toTeamId,
+        Long participantId,
+        TeamMemberDTO member,
+        String name,
+        Double score,
+        UUID generationId
+) {
+    public enum Type {
+        MEMBER_ADDED,
+        MEMBER_REMOVED,
+        MEMBER_MOVED,
+        TEAM_RENAMED,
+        TEAM_DELETED,
+        SCORE_CHANGED,
+        /** The whole board was replaced by a new generation; clients re-fetch it. */
+        GENERATION_REPLACED,
+        /** Events were missed (or the stream was restarted); clients re-fetch the board. */
+        RESYNC
+    }
+
+    public static TeamBoardEvent memberAdded(UUID teamId, TeamMemberDTO member) {
+        return new TeamBoardEvent(Type.MEMBER_ADDED, teamId, null, member.participant().id(), member, null, null, null);
+    }
+
+    public static TeamBoardEvent memberRemoved(UUID teamId, Long participantId) {
+        return new TeamBoardEvent(Type.MEMBER_REMOVED, teamId, null, participantId, null, null, null, null);
+    }
+
+    public static TeamBoardEvent memberMoved(UUID fromTeamId, UUID toTeamId, Long participantId) {
+        return new TeamBoardEvent(Type.MEMBER_MOVED, fromTeamId, toTeamId, participantId, null, null, null, null);
+    }
+
+    public static TeamBoardEvent teamRenamed(UUID teamId, String name) {
+        return new TeamBoardEvent(Type.TEAM_RENAMED, teamId, null, null, null, name, null, null);
+    }
+
+    public static TeamBoardEvent teamDeleted(UUID teamId) {
+        return new TeamBoardEvent(Type.TEAM_DELETED, teamId, null, null, null, null, null, null);
+    }
+
+    public static TeamBoardEvent scoreChanged(UUID teamId, Double score) {
+        return new TeamBoardEvent(Type.SCORE_CHANGED, teamId, null, null, null, null, score, null);
+    }
+
+    public static TeamBoardEvent generationReplaced(UUID generationId) {
+        return new TeamBoardEvent(Type.GENERATION_REPLACED, null, null, null, null, null, null, generationId);
+    }
+
+    public static TeamBoardEvent resync() {
+        return new TeamBoardEvent(Type.RESYNC, null, null, null, null, null, null, null);
+    }
+}
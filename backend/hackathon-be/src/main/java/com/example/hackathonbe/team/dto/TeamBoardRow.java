@@ -0,0 +1,25 @@
+package com.example.hackathonbe.team.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of one team board line: a member with their team and participant, or a team
+ * without members (member and participant fields null).
+ */
+public record TeamBoardRow(
+        UUID teamId,
+        String teamName,
+        Double score,
+        UUID generationId,
+        OffsetDateTime createdAt,
+        Long memberParticipantId,
+        String role,
+        String skills,
+        Integer motivation,
+        Integer yearsExperience,
+        Long participantId,
+        String firstName,
+        String lastName,
+        String email
+) {}
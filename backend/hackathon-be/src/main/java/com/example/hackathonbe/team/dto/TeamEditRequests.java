@@ -32,4 +32,29 @@ public class TeamEditRequests {
     public record RemoveMembersRequest(
             List<Long> participantIds
     ) {}
+
+    /**
+     * Several edits applied in order, atomically: either all of them succeed or none is stored.
+     */
+    public record BatchEditRequest(
+            List<EditOperation> operations
+    ) {}
+
+    /**
+     * One edit of a batch.
+     * ADD puts {@code participantId} into {@code teamId}, REMOVE takes it out of {@code teamId},
+     * MOVE moves it from {@code teamId} into {@code toTeamId}.
+     */
+    public record EditOperation(
+            EditType type,
+            UUID teamId,
+            Long participantId,
+            UUID toTeamId
+    ) {}
+
+    public enum EditType {
+        ADD,
+        REMOVE,
+        MOVE
+    }
 }
@@ -0,0 +1,102 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Readers for the internal (array-shaped) answer format.
+ */
+final class AnswerUtil {
+    private AnswerUtil() {}
+
+    static String firstOptionId(JsonNode answerNode) {
+        if (answerNode == null || answerNode.isNull()) return null;
+
+        JsonNode arr = answerNode.path("valueOptionIds");
+        if (arr.isArray()) {
+            for (JsonNode it : arr) {
+                String id = it.asText("").trim();
+                if (!id.isBlank()) return id;
+            }
+        }
+
+        String single = answerNode.path("valueOptionId").asText("").trim();
+        if (!single.isBlank()) return single;
+
+        String txt = answerNode.path("valueText").asText("").trim();
+        return txt.isBlank() ? null : txt;
+    }
+
+    static List<String> optionIds(JsonNode answerNode) {
+        if (answerNode == null || answerNode.isNull()) return List.of();
+
+        JsonNode arr = answerNode.path("valueOptionIds");
+        if (arr.isArray()) {
+            List<String> out = new ArrayList<>();
+            for (JsonNode it : arr) {
+                String id = it.asText("").trim();
+                if (!id.isBlank()) out.add(id);
+            }
+            if (!out.isEmpty()) return out;
+        }
+
+        String single = answerNode.path("valueOptionId").asText("").trim();
+        if (!single.isBlank()) return List.of(single);
+
+        String txt = answerNode.path("valueText").asText("").trim();
+        if (txt.isBlank()) return List.of();
+        return Arrays.stream(txt.split(",")).map(String::trim).filter(s -> !s.isBlank()).toList();
+    }
+
+    static int numberLike(JsonNode answerNode) {
+        if (answerNode == null || answerNode.isNull()) return 0;
+
+        JsonNode n = answerNode.get("valueNumber");
+        if (n != null && n.isNumber()) return n.asInt(0);
+
+        String txt = answerNode.path("valueText").asText(null);
+        if (txt == null) return 0;
+
+        try { return Integer.parseInt(txt.trim()); }
+        catch (Exception ignored) { return 0; }
+    }
+
+    static int motivationAverage(JsonNode answerNode) {
+        if (answerNode == null || answerNode.isNull()) return 0;
+
+        JsonNode obj = answerNode.path("valueJson");
+        if (obj != null && obj.isObject()) {
+            int count = 0;
+            double sum = 0.0;
+
+            Iterator<Map.Entry<String, JsonNode>> it = obj.fields();
+            while (it.hasNext()) {
+                JsonNode v = it.next().getValue();
+                if (v == null) continue;
+
+                if (v.isNumber()) {
+                    sum += v.asDouble();
+                    count++;
+                } else if (v.isTextual()) {
+                    try {
+                        sum += Double.parseDouble(v.asText().trim());
+                        count++;
+                    } catch (Exception ignored) {}
+                }
+            }
+
+            if (count > 0) return (int) Math.round(sum / (double) count);
+        }
+
+        JsonNode n = answerNode.get("valueNumber");
+        if (n != null && n.isNumber()) return n.asInt(0);
+
+        String txt = answerNode.path("valueText").asText(null);
+        if (txt != null) {
+            try { return Integer.parseInt(txt.trim()); }
+            catch (Exception ignored) {}
+        }
+        return 0;
+    }
+}
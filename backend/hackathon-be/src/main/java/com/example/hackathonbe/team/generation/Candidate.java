@@ -0,0 +1,122 @@
+package com.example.hackathonbe.team.generation;
+
+import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
+import com.example.hackathonbe.importing.model.Keys;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Flat view of one participant's answer, as used by team generation and scoring.
+ */
+public final class Candidate {
+    private static final String SINGLE_CHOICE = "SINGLE_CHOICE";
+
+    private Long participantId;
+
+    private String roleLabel;
+    private Set<String> skillLabels = Set.of();
+
+    private int motivation;
+    private int yearsExperience;
+
+    public Long participantId() { return participantId; }
+    public String roleLabel() { return roleLabel; }
+    public Set<String> skillLabels() { return skillLabels; }
+    public int motivation() { return motivation; }
+    public int yearsExperience() { return yearsExperience; }
+
+    public void setParticipantId(Long participantId) { this.participantId = participantId; }
+    public void setRoleLabel(String roleLabel) { this.roleLabel = roleLabel; }
+    public void setSkillLabels(Set<String> skillLabels) { this.skillLabels = (skillLabels == null ? Set.of() : skillLabels); }
+    public void setMotivation(int motivation) { this.motivation = motivation; }
+    public void setYearsExperience(int yearsExperience) { this.yearsExperience = yearsExperience; }
+
+    public static Candidate fromAnswer(QuestionnaireAnswer questionnaireAnswer, OptionLabelIndex optionIndex) {
+        return fromData(questionnaireAnswer.getParticipant().getId(), questionnaireAnswer.getData(), optionIndex);
+    }
+
+    public static Candidate fromData(Long participantId, JsonNode data, OptionLabelIndex optionIndex) {
+        Candidate c = new Candidate();
+        c.setParticipantId(participantId);
+
+        if (data == null || data.isNull()) return c;
+
+        if (data.isArray()) {
+            Map<String, JsonNode> byKey = new HashMap<>();
+            for (JsonNode item : data) {
+                String key = item.path("key").asText("").trim();
+                if (!key.isBlank()) byKey.put(key, item);
+            }
+
+            String roleOptionId = AnswerUtil.firstOptionId(byKey.get("role"));
+            c.setRoleLabel(optionIndex.labelOrFallback(roleOptionId));
+
+            List<String> skillOptionIds = AnswerUtil.optionIds(byKey.get("skills"));
+            c.setSkillLabels(optionIndex.labelsOrFallbacks(skillOptionIds));
+
+            int motivation = AnswerUtil.motivationAverage(byKey.get("motivation"));
+            c.setMotivation(Math.max(0, motivation));
+
+            int years = AnswerUtil.numberLike(byKey.get("years_experience"));
+            c.setYearsExperience(Math.max(0, years));
+
+            return c;
+        }
+
+        c.setRoleLabel(TextUtil.safe(data.path("role").asText(null)));
+
+        JsonNode skillsNode = data.path("skills");
+        if (skillsNode.isArray()) {
+            LinkedHashSet<String> skills = new LinkedHashSet<>();
+            for (JsonNode s : skillsNode) {
+                String val = s.asText("").trim();
+                if (!val.isBlank()) skills.add(val);
+            }
+            c.setSkillLabels(skills);
+        } else {
+            c.setSkillLabels(SkillUtil.parseCommaSeparated(skillsNode.asText("")));
+        }
+
+        c.setMotivation(Math.max(0, data.path("motivation").asInt(0)));
+        c.setYearsExperience(Math.max(0, data.path("years_experience").asInt(0)));
+
+        return c;
+    }
+
+    /**
+     * Labels of the answered single-choice questions by answer key (for imported answers, the fields in
+     * {@link Keys#PARTITIONABLE}). Names, contact details and free text are left out. When an answer key
+     * repeats, the last answer wins, as in {@link #fromData}. Stored with the features so candidates can be
+     * split into partitions by answer key without re-reading the answers.
+     */
+    public static Map<String, String> answerLabels(JsonNode data, OptionLabelIndex optionIndex) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        if (data == null || data.isNull()) return labels;
+
+        if (data.isArray()) {
+            Map<String, JsonNode> byKey = new LinkedHashMap<>();
+            for (JsonNode item : data) {
+                String key = item.path("key").asText("").trim();
+                if (!key.isBlank()) byKey.put(key, item);
+            }
+            byKey.forEach((key, item) -> {
+                if (!SINGLE_CHOICE.equals(item.path("type").asText(null))) return;
+                String label = optionIndex.labelOrFallback(AnswerUtil.firstOptionId(item));
+                if (!label.isBlank()) labels.put(key, label);
+            });
+            return labels;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = data.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!Keys.PARTITIONABLE.contains(field.getKey())) continue;
+            JsonNode value = field.getValue();
+            if (value.isArray()) value = value.path(0);
+            String label = TextUtil.safe(value.asText(null));
+            if (!label.isBlank()) labels.put(field.getKey(), label);
+        }
+        return labels;
+    }
+}
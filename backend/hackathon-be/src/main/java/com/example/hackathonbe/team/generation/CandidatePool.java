@@ -0,0 +1,94 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sorted candidates encoded as parallel primitive arrays, so the greedy and
+ * scoring loops index plain ints/longs instead of chasing objects and string sets.
+ * Position {@code i} in every array refers to the same candidate.
+ */
+final class CandidatePool {
+    private final Candidate[] candidates;
+    private final int[] motivation;
+    private final int[] roleBucket;
+    private final long[] skillMask;
+    private final double[] motivation01;
+    private final double[] years01;
+
+    // inputs of TeamCompatibilityScoring, used by delta scoring in local search
+    private final int[] motivationLevel;
+    private final int[] cappedYears;
+    private final int[] roleKey;
+    private final int[][] skillKeys;
+    private int keyCount;
+
+    private CandidatePool(int size) {
+        this.candidates = new Candidate[size];
+        this.motivation = new int[size];
+        this.roleBucket = new int[size];
+        this.skillMask = new long[size];
+        this.motivation01 = new double[size];
+        this.years01 = new double[size];
+        this.motivationLevel = new int[size];
+        this.cappedYears = new int[size];
+        this.roleKey = new int[size];
+        this.skillKeys = new int[size][];
+    }
+
+    static CandidatePool from(List<Candidate> sortedCandidates, RoleSkillBucketer bucketer) {
+        CandidatePool pool = new CandidatePool(sortedCandidates.size());
+        Map<String, Integer> keyIds = new HashMap<>();
+
+        for (int i = 0; i < sortedCandidates.size(); i++) {
+            Candidate c = sortedCandidates.get(i);
+            pool.candidates[i] = c;
+            pool.motivation[i] = c.motivation();
+            pool.roleBucket[i] = bucketer.roleBucket(c.roleLabel());
+            pool.skillMask[i] = bucketer.skillBuckets(c.skillLabels());
+            pool.motivation01[i] = TeamPickScoring.normalizeMotivation01(c.motivation());
+            pool.years01[i] = TeamPickScoring.normalizeYears01(c.yearsExperience());
+            pool.motivationLevel[i] = TeamCompatibilityScoring.motivationLevel(c.motivation());
+            pool.cappedYears[i] = TeamCompatibilityScoring.cappedYears(c.yearsExperience());
+            pool.roleKey[i] = keyId(keyIds, "r:", c.roleLabel());
+            pool.skillKeys[i] = skillKeyIds(keyIds, c.skillLabels());
+        }
+        pool.keyCount = keyIds.size();
+        return pool;
+    }
+
+    /** Interned variety key, or -1 when the label is blank. Roles and skills share one id space. */
+    private static int keyId(Map<String, Integer> keyIds, String prefix, String label) {
+        String key = TeamCompatibilityScoring.varietyKey(label);
+        if (key.isBlank()) return -1;
+        return keyIds.computeIfAbsent(prefix + key, k -> keyIds.size());
+    }
+
+    private static int[] skillKeyIds(Map<String, Integer> keyIds, Set<String> skills) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (String s : skills) {
+            int id = keyId(keyIds, "s:", s);
+            if (id >= 0) ids.add(id);
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    int size() { return candidates.length; }
+
+    Candidate candidate(int i) { return candidates[i]; }
+    int motivation(int i) { return motivation[i]; }
+    int roleBucket(int i) { return roleBucket[i]; }
+    long skillMask(int i) { return skillMask[i]; }
+    double motivation01(int i) { return motivation01[i]; }
+    double years01(int i) { return years01[i]; }
+    int motivationLevel(int i) { return motivationLevel[i]; }
+    int cappedYears(int i) { return cappedYears[i]; }
+    int roleKey(int i) { return roleKey[i]; }
+    int[] skillKeys(int i) { return skillKeys[i]; }
+
+    /** Number of distinct role and skill keys; ids run from 0 to {@code keyCount() - 1}. */
+    int keyCount() { return keyCount; }
+}
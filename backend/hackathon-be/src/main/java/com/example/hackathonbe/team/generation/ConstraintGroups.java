@@ -0,0 +1,156 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link GenerationConstraints} resolved against a {@link CandidatePool}.
+ * <p>
+ * Keep-together pairs are merged with union-find into groups that are placed as one
+ * super-candidate. Each group is represented by its first member in sorted order, so the
+ * greedy walk meets it at its most motivated member. Keep-apart pairs become adjacency
+ * lists between representatives; a builder marks the representatives blocked by the team it is
+ * filling, which makes the per-pick conflict check one array read.
+ */
+final class ConstraintGroups {
+
+    private static final int[] NO_GROUPS = new int[0];
+
+    private final int[] groupOf;
+    private final int[][] members;
+    private final int[][] apart;
+
+    private ConstraintGroups(int[] groupOf, int[][] members, int[][] apart) {
+        this.groupOf = groupOf;
+        this.members = members;
+        this.apart = apart;
+    }
+
+    /**
+     * @return the resolved groups, or {@code null} when no constraint names two candidates
+     * @throws InfeasibleConstraintsException if a group exceeds {@code maxTeamSize} or a pair must be both together and apart
+     */
+    static ConstraintGroups build(CandidatePool pool, GenerationConstraints constraints, int maxTeamSize) {
+        if (constraints == null || constraints.isEmpty()) return null;
+
+        int n = pool.size();
+        Map<Long, Integer> positions = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) positions.put(pool.candidate(i).participantId(), i);
+
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+
+        boolean any = false;
+        for (GenerationConstraints.Pair pair : constraints.keepTogether()) {
+            Integer a = positions.get(pair.first());
+            Integer b = positions.get(pair.second());
+            if (a == null || b == null) continue;
+            union(parent, size, a, b);
+            any = true;
+        }
+
+        // representative = smallest sorted position in the group
+        int[] groupOf = new int[n];
+        int[] representativeOfRoot = new int[n];
+        Arrays.fill(representativeOfRoot, -1);
+        for (int i = 0; i < n; i++) {
+            int root = find(parent, i);
+            if (representativeOfRoot[root] < 0) representativeOfRoot[root] = i;
+            groupOf[i] = representativeOfRoot[root];
+        }
+
+        int[] groupSize = new int[n];
+        for (int i = 0; i < n; i++) groupSize[groupOf[i]]++;
+
+        int[][] members = new int[n][];
+        int[] filled = new int[n];
+        for (int i = 0; i < n; i++) {
+            int g = groupOf[i];
+            if (members[g] == null) members[g] = new int[groupSize[g]];
+            members[g][filled[g]++] = i;
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (groupSize[i] > maxTeamSize) {
+                throw new InfeasibleConstraintsException("A keep-together group has " + groupSize[i]
+                        + " participants but teams have at most " + maxTeamSize + " seats");
+            }
+        }
+
+        int[] degree = new int[n];
+        int[][] apartPairs = new int[constraints.keepApart().size()][];
+        int pairs = 0;
+        for (GenerationConstraints.Pair pair : constraints.keepApart()) {
+            Integer a = positions.get(pair.first());
+            Integer b = positions.get(pair.second());
+            if (a == null || b == null) continue;
+
+            int ga = groupOf[a];
+            int gb = groupOf[b];
+            if (ga == gb) {
+                throw new InfeasibleConstraintsException("Participants " + pair.first() + " and " + pair.second()
+                        + " must be kept apart but are linked by keep-together constraints");
+            }
+            apartPairs[pairs++] = new int[]{ga, gb};
+            degree[ga]++;
+            degree[gb]++;
+            any = true;
+        }
+        if (!any) return null;
+
+        int[][] apart = new int[n][];
+        int[] added = new int[n];
+        for (int p = 0; p < pairs; p++) {
+            int ga = apartPairs[p][0];
+            int gb = apartPairs[p][1];
+            if (apart[ga] == null) apart[ga] = new int[degree[ga]];
+            if (apart[gb] == null) apart[gb] = new int[degree[gb]];
+            apart[ga][added[ga]++] = gb;
+            apart[gb][added[gb]++] = ga;
+        }
+
+        return new ConstraintGroups(groupOf, members, apart);
+    }
+
+    /** Representative position of the group containing {@code i}. */
+    int groupOf(int i) { return groupOf[i]; }
+
+    boolean isRepresentative(int i) { return groupOf[i] == i; }
+
+    /** Positions of the group represented by {@code representative}, the representative first. */
+    int[] members(int representative) { return members[representative]; }
+
+    int groupSize(int representative) { return members[representative].length; }
+
+    /** Representatives of groups that must not share a team with {@code representative}'s group. */
+    int[] apart(int representative) {
+        int[] a = apart[representative];
+        return a == null ? NO_GROUPS : a;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int[] size, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra == rb) return;
+        if (size[ra] < size[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Locale;
+
+/**
+ * Age-verification gate applied before a participant can be placed in a team.
+ */
+public final class Eligibility {
+    private Eligibility() {}
+
+    public static boolean isAllowed(JsonNode data) {
+        if (data == null || data.isNull()) return false;
+
+        if (data.isArray()) {
+            for (JsonNode item : data) {
+                if (!"age_verification".equals(item.path("key").asText(""))) continue;
+
+                JsonNode b = item.get("valueBoolean");
+                if (b != null && b.isBoolean()) return b.asBoolean();
+
+                String txt = item.path("valueText").asText("").trim().toLowerCase(Locale.ROOT);
+                return txt.startsWith("yes") || txt.equals("true");
+            }
+            return true;
+        }
+
+        if (data.has("age_verification")) {
+            String txt = data.path("age_verification").asText("").trim().toLowerCase(Locale.ROOT);
+            return txt.startsWith("yes") || txt.equals("true");
+        }
+
+        return true;
+    }
+}
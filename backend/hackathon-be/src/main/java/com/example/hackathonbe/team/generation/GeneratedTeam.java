@@ -0,0 +1,12 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.List;
+
+/**
+ * One team of a generation result, ready to be persisted.
+ */
+public record GeneratedTeam(
+        String name,
+        double score,
+        List<Candidate> members
+) {}
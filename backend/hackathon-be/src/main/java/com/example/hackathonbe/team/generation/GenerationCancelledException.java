@@ -0,0 +1,11 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Thrown from inside a generation run once its {@link GenerationProgress} reports cancellation.
+ * Unchecked so it rolls back the surrounding transaction.
+ */
+public class GenerationCancelledException extends RuntimeException {
+    public GenerationCancelledException() {
+        super("Team generation was cancelled");
+    }
+}
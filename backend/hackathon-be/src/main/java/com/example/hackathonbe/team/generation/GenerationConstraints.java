@@ -0,0 +1,45 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Placement rules for team generation.
+ * <p>
+ * Pairs are by participant id. Keep-together pairs are transitive (A-B and B-C puts all three in
+ * one team); pairs naming participants who are not candidates are ignored.
+ * {@code partitionBy} names a single-choice answer key (e.g. {@code field_of_interest}); when set, candidates
+ * are split by their answer to it and each partition gets its own teams.
+ */
+public record GenerationConstraints(List<Pair> keepTogether, List<Pair> keepApart, String partitionBy) {
+
+    public static final GenerationConstraints NONE = new GenerationConstraints(List.of(), List.of(), null);
+
+    public record Pair(Long first, Long second) {}
+
+    public GenerationConstraints {
+        keepTogether = clean(keepTogether);
+        keepApart = clean(keepApart);
+        partitionBy = partitionBy == null || partitionBy.isBlank() ? null : partitionBy.trim();
+    }
+
+    public GenerationConstraints(List<Pair> keepTogether, List<Pair> keepApart) {
+        this(keepTogether, keepApart, null);
+    }
+
+    public static GenerationConstraints orNone(GenerationConstraints constraints) {
+        return constraints == null ? NONE : constraints;
+    }
+
+    public boolean isEmpty() {
+        return keepTogether.isEmpty() && keepApart.isEmpty() && partitionBy == null;
+    }
+
+    private static List<Pair> clean(List<Pair> pairs) {
+        if (pairs == null) return List.of();
+        return pairs.stream()
+                .filter(p -> p != null && p.first() != null && p.second() != null)
+                .filter(p -> !Objects.equals(p.first(), p.second()))
+                .toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.hackathonbe.team.generation;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SHA-256 over everything that decides a generation's outcome, written in a canonical order:
+ * candidates sorted by participant id, constraint pairs as sorted (low, high) id pairs.
+ * Two requests with the same hash get the same teams from a seeded run.
+ */
+final class GenerationInputHash {
+
+    private static final Comparator<long[]> PAIR_ORDER = Comparator
+            .<long[]>comparingLong(p -> p[0])
+            .thenComparingLong(p -> p[1]);
+
+    private final MessageDigest digest;
+    private final DataOutputStream out;
+
+    GenerationInputHash() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        this.out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+    }
+
+    GenerationInputHash add(long value) {
+        try {
+            out.writeLong(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /** Length-prefixed, so adjacent strings can't run into each other; {@code null} differs from "". */
+    GenerationInputHash add(String value) {
+        if (value == null) return add(-1L);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        add(bytes.length);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    GenerationInputHash addCandidates(List<Candidate> candidates) {
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparing(Candidate::participantId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        add(sorted.size());
+        for (Candidate c : sorted) {
+            add(c.participantId() == null ? -1L : c.participantId());
+            add(c.roleLabel());
+            add(c.skillLabels().size());
+            for (String skill : c.skillLabels()) add(skill);
+            add(c.motivation());
+            add(c.yearsExperience());
+        }
+        return this;
+    }
+
+    GenerationInputHash addConstraints(GenerationConstraints constraints) {
+        addPairs(constraints.keepTogether());
+        addPairs(constraints.keepApart());
+        return add(constraints.partitionBy());
+    }
+
+    private void addPairs(List<GenerationConstraints.Pair> pairs) {
+        List<long[]> sorted = new ArrayList<>(pairs.size());
+        for (GenerationConstraints.Pair pair : pairs) {
+            long a = pair.first();
+            long b = pair.second();
+            sorted.add(new long[]{Math.min(a, b), Math.max(a, b)});
+        }
+        sorted.sort(PAIR_ORDER);
+
+        add(sorted.size());
+        for (long[] pair : sorted) add(pair[0]).add(pair[1]);
+    }
+
+    String hex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.List;
+
+/**
+ * Objective used to compare complete assignments in multi-start generation:
+ * the mean team compatibility score (0..5) plus a bonus for how motivated the power team is.
+ */
+final class GenerationObjective {
+    private GenerationObjective() {}
+
+    /** Weight of the power team's average normalized motivation (0..1). */
+    static final double POWER_TEAM_WEIGHT = 2.0;
+
+    static double score(List<Double> teamScores, CandidatePool pool, TeamDraft2 powerTeam) {
+        if (teamScores.isEmpty()) return 0.0;
+
+        double sum = 0.0;
+        for (double s : teamScores) sum += s;
+
+        return sum / teamScores.size() + POWER_TEAM_WEIGHT * averageMotivation01(pool, powerTeam);
+    }
+
+    private static double averageMotivation01(CandidatePool pool, TeamDraft2 team) {
+        if (team == null || team.size() == 0) return 0.0;
+        double sum = 0.0;
+        for (int k = 0; k < team.size(); k++) sum += pool.motivation01(team.member(k));
+        return sum / team.size();
+    }
+}
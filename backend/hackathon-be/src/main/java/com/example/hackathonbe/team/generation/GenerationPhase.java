@@ -0,0 +1,11 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Steps of a team generation run, in order.
+ */
+public enum GenerationPhase {
+    LOADING_CANDIDATES,
+    BUILDING_TEAMS,
+    IMPROVING,
+    PERSISTING
+}
@@ -0,0 +1,26 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Receives progress of a generation run and tells it whether to stop.
+ * Callbacks may come from generation worker threads, so implementations must be thread-safe.
+ */
+public interface GenerationProgress {
+
+    /** No reporting, never cancelled: what synchronous generation uses. */
+    GenerationProgress NONE = new GenerationProgress() {};
+
+    default void phase(GenerationPhase phase) {}
+
+    /** Items handled so far in the current phase (answers loaded, members persisted); {@code total} is 0 when unknown. */
+    default void candidatesProcessed(int processed, int total) {}
+
+    /** Objective of the best assignment found so far; only ever increases within a run. */
+    default void bestObjective(double objective) {}
+
+    default boolean isCancelled() { return false; }
+
+    /** @throws GenerationCancelledException if the run was cancelled */
+    default void checkCancelled() {
+        if (isCancelled()) throw new GenerationCancelledException();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Parameters of one team generation run.
+ *
+ * @param teamSize    target team size; {@code null} or below 1 becomes 1, so it is never {@code null}
+ * @param starts      greedy starts to try; {@code null} uses the configured default
+ * @param constraints placement rules; {@code null} becomes {@link GenerationConstraints#NONE}
+ * @param seed        makes the run reproducible; {@code null} for a run bounded by the time budget
+ */
+public record GenerationRequest(Integer teamSize, Integer starts, GenerationConstraints constraints, Long seed) {
+
+    public GenerationRequest {
+        teamSize = teamSize == null || teamSize < 1 ? 1 : teamSize;
+        constraints = GenerationConstraints.orNone(constraints);
+    }
+
+    /** Unconstrained, unseeded run. */
+    public GenerationRequest(Integer teamSize, Integer starts) {
+        this(teamSize, starts, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.List;
+
+/**
+ * Best assignment found by {@link TeamGenerationEngine}.
+ *
+ * @param objective        value of the generation objective for {@code teams}
+ * @param greedyObjective  objective of the best greedy assignment, before local search
+ * @param startsCompleted  how many greedy starts finished inside the time budget
+ * @param improvementMoves swaps kept by local search (0 if it did not run or did not help)
+ */
+public record GenerationResult(
+        List<GeneratedTeam> teams,
+        double objective,
+        double greedyObjective,
+        int startsCompleted,
+        int improvementMoves
+) {
+    public static GenerationResult empty() {
+        return new GenerationResult(List.of(), 0.0, 0.0, 0, 0);
+    }
+}
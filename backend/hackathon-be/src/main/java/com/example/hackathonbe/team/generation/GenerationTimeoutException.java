@@ -0,0 +1,11 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Thrown when a seeded run cannot finish within the engine's seeded time limit. Seeded runs don't
+ * drop late starts (that would make them depend on timing), so they fail instead.
+ */
+public class GenerationTimeoutException extends RuntimeException {
+    public GenerationTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.*;
+
+/**
+ * Builds a full team assignment with the power-team greedy fill.
+ * A non-null {@link Random} perturbs every pick score slightly, which is how
+ * multi-start generation explores different assignments.
+ * <p>
+ * With {@link ConstraintGroups}, only group representatives are walked and a pick places the
+ * whole group; groups that don't fit the free seats or conflict with the team are skipped and
+ * placed once all teams are built. Everyone else left over stays unplaced, as without constraints.
+ */
+final class GreedyTeamBuilder {
+
+    /** Upper bound of the uniform noise added to a pick score in perturbed starts. */
+    static final double PICK_JITTER = 0.35;
+
+    private GreedyTeamBuilder() {}
+
+    /**
+     * @return the drafts in team order, or {@code null} if {@code deadlineNanos} passed before all teams were built
+     */
+    static List<TeamDraft2> build(
+            CandidatePool pool,
+            TeamLayout layout,
+            Random jitter,
+            long deadlineNanos
+    ) {
+        return build(pool, layout, null, jitter, deadlineNanos);
+    }
+
+    /**
+     * @param groups keep-together/keep-apart constraints, or {@code null} for none
+     * @return the drafts in team order, or {@code null} if {@code deadlineNanos} passed before all teams were built
+     * @throws InfeasibleConstraintsException if a group conflicts with every team
+     */
+    static List<TeamDraft2> build(
+            CandidatePool pool,
+            TeamLayout layout,
+            ConstraintGroups groups,
+            Random jitter,
+            long deadlineNanos
+    ) {
+        // Build teams sequentially:
+        // Team 1 is the "power team": use a larger top window to ensure "most motivated"
+        List<TeamDraft2> drafts = new ArrayList<>();
+        RemainingCandidates remaining = new RemainingCandidates(pool.size());
+        Placement placement = groups == null ? null : new Placement(pool, groups, remaining);
+
+        int teamCount = layout.numberOfTeams();
+        List<Integer> capacities = layout.maxSizesPerTeam();
+
+        for (int teamIndex = 0; teamIndex < teamCount; teamIndex++) {
+            if (System.nanoTime() - deadlineNanos > 0) return null;
+
+            int capacity = capacities.get(teamIndex);
+            String teamName = "Team " + (teamIndex + 1);
+
+            TeamDraft2 draft = new TeamDraft2(teamName, capacity);
+
+            // Window size:
+            // - Power team considers more top candidates to optimize variety without dropping motivation too much.
+            // - Other teams consider a smaller band, keeping motivation high per team.
+            int window = (teamIndex == 0)
+                    ? capacity * 5  // power team: bigger pool
+                    : capacity * 3; // other teams: banded
+
+            if (placement == null) {
+                fillTeamGreedy(
+                        draft,
+                        pool,
+                        remaining,
+                        window,
+                        teamIndex == 0, // powerTeam flag influences weights
+                        jitter
+                );
+            } else {
+                placement.fillTeam(draft, teamIndex, window, jitter);
+            }
+
+            drafts.add(draft);
+        }
+
+        if (placement != null) placement.placeLeftovers(drafts);
+        return drafts;
+    }
+
+    /**
+     * Greedy fill:
+     * - always picks from the top 'window' highest-motivation remaining candidates
+     * - objective heavily favors motivation, with bonuses for adding a new role bucket and common skill buckets
+     * <p>
+     * Each pick walks at most {@code window} entries of {@link RemainingCandidates}, so a pick
+     * costs O(window) regardless of how many candidates the event has.
+     */
+    private static void fillTeamGreedy(
+            TeamDraft2 team,
+            CandidatePool pool,
+            RemainingCandidates remaining,
+            int window,
+            boolean powerTeam,
+            Random jitter
+    ) {
+        // Seed with the highest motivation remaining. Candidates are sorted by motivation desc,
+        // so if the head is not eligible for the power team, nobody further down is either.
+        int seed = remaining.first();
+        if (seed == RemainingCandidates.NONE) return;
+        if (powerTeam && pool.motivation(seed) < 3) return;
+
+        team.add(pool, seed);
+        remaining.remove(seed);
+
+        while (!team.isFull()) {
+            int best = RemainingCandidates.NONE;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            // only consider the top window of remaining candidates (to keep motivation high)
+            int seen = 0;
+            for (int i = remaining.first(); i != RemainingCandidates.NONE && seen < window; i = remaining.next(i), seen++) {
+                double score = score(team, pool, i, powerTeam, jitter);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+
+            // Nobody in the window fits: remaining is empty, or (power team) nobody left has motivation >= 3
+            if (best == RemainingCandidates.NONE) break;
+
+            team.add(pool, best);
+            remaining.remove(best);
+        }
+    }
+
+    private static double score(TeamDraft2 team, CandidatePool pool, int i, boolean powerTeam, Random jitter) {
+        double score = TeamPickScoring.pickScore(team, pool, i, powerTeam);
+
+        // slight bias towards higher motivation still (tie-breaker)
+        score += 0.0001 * pool.motivation(i);
+
+        if (jitter != null) score += PICK_JITTER * jitter.nextDouble();
+        return score;
+    }
+
+    /** Per-build state of constrained generation: which team each group went to and which groups the current team blocks. */
+    private static final class Placement {
+        private final CandidatePool pool;
+        private final ConstraintGroups groups;
+        private final RemainingCandidates remaining;
+        private final int[] teamOf;
+        /** {@code blockedBy[g] == t + 1} when team {@code t} holds a group that must be kept apart from {@code g}. */
+        private final int[] blockedBy;
+        /** Groups passed over for lack of seats or a keep-apart conflict, rather than on their score. */
+        private final boolean[] deferred;
+
+        Placement(CandidatePool pool, ConstraintGroups groups, RemainingCandidates remaining) {
+            this.pool = pool;
+            this.groups = groups;
+            this.remaining = remaining;
+            this.teamOf = new int[pool.size()];
+            this.blockedBy = new int[pool.size()];
+            this.deferred = new boolean[pool.size()];
+            Arrays.fill(teamOf, -1);
+
+            // the remaining list walks super-candidates only
+            for (int i = 0; i < pool.size(); i++) {
+                if (!groups.isRepresentative(i)) remaining.remove(i);
+            }
+        }
+
+        void fillTeam(TeamDraft2 team, int teamIndex, int window, Random jitter) {
+            boolean powerTeam = teamIndex == 0;
+            int stamp = teamIndex + 1;
+
+            // Seed with the first group that fits, mirroring the unconstrained seed. A group's rank is
+            // its best member's, so for the power team a group holding someone below motivation 3 can
+            // come before eligible ones: skip it rather than give up on the team.
+            int seed = RemainingCandidates.NONE;
+            int seen = 0;
+            for (int g = remaining.first(); g != RemainingCandidates.NONE && seen < window; g = remaining.next(g), seen++) {
+                if (groups.groupSize(g) > team.freeSeats()) {
+                    deferred[g] = true;
+                    continue;
+                }
+                if (powerTeam && groupScore(team, g, true, null) == Double.NEGATIVE_INFINITY) continue;
+                seed = g;
+                break;
+            }
+            if (seed == RemainingCandidates.NONE) return;
+            place(team, teamIndex, seed);
+
+            while (!team.isFull()) {
+                int best = RemainingCandidates.NONE;
+                double bestScore = Double.NEGATIVE_INFINITY;
+
+                seen = 0;
+                for (int g = remaining.first(); g != RemainingCandidates.NONE && seen < window; g = remaining.next(g), seen++) {
+                    if (blockedBy[g] == stamp || groups.groupSize(g) > team.freeSeats()) {
+                        deferred[g] = true;
+                        continue;
+                    }
+                    double score = groupScore(team, g, powerTeam, jitter);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = g;
+                    }
+                }
+                if (best == RemainingCandidates.NONE) break;
+
+                place(team, teamIndex, best);
+            }
+        }
+
+        /**
+         * Groups that found no seat because of the constraints (too big for the free seats, or kept
+         * apart from the team being filled) join the conflict-free team with the most free seats, even
+         * if that overfills it. The power team only takes groups whose members all qualify for it.
+         * Groups left over on their score or motivation stay unplaced, as without constraints.
+         */
+        void placeLeftovers(List<TeamDraft2> drafts) {
+            int g = remaining.first();
+            while (g != RemainingCandidates.NONE) {
+                int next = remaining.next(g);
+                if (deferred[g]) {
+                    boolean conflictFree = false;
+                    int target = -1;
+                    for (int t = 0; t < drafts.size(); t++) {
+                        if (conflicts(g, t)) continue;
+                        conflictFree = true;
+                        if (t == 0 && !qualifiesForPowerTeam(g)) continue;
+                        if (target < 0 || drafts.get(t).freeSeats() > drafts.get(target).freeSeats()) target = t;
+                    }
+                    if (!conflictFree) {
+                        throw new InfeasibleConstraintsException("Participant " + pool.candidate(g).participantId()
+                                + " must be kept apart from someone in every team");
+                    }
+                    if (target >= 0) place(drafts.get(target), target, g);
+                }
+                g = next;
+            }
+        }
+
+        private boolean qualifiesForPowerTeam(int group) {
+            for (int m : groups.members(group)) {
+                if (pool.motivation(m) < 3) return false;
+            }
+            return true;
+        }
+
+        private void place(TeamDraft2 team, int teamIndex, int group) {
+            for (int m : groups.members(group)) team.add(pool, m);
+            remaining.remove(group);
+            teamOf[group] = teamIndex;
+            for (int other : groups.apart(group)) blockedBy[other] = teamIndex + 1;
+        }
+
+        private boolean conflicts(int group, int teamIndex) {
+            for (int other : groups.apart(group)) {
+                if (teamOf[other] == teamIndex) return true;
+            }
+            return false;
+        }
+
+        /** Mean pick score of the group's members; equals {@link #score} for a single candidate. */
+        private double groupScore(TeamDraft2 team, int group, boolean powerTeam, Random jitter) {
+            int[] members = groups.members(group);
+            double sum = 0.0;
+            for (int m : members) {
+                sum += TeamPickScoring.pickScore(team, pool, m, powerTeam) + 0.0001 * pool.motivation(m);
+            }
+            double score = sum / members.length;
+            if (jitter != null) score += PICK_JITTER * jitter.nextDouble();
+            return score;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Thrown when {@link GenerationConstraints} cannot be satisfied, e.g. a keep-together group
+ * larger than a team or two participants that must be both together and apart.
+ */
+public class InfeasibleConstraintsException extends RuntimeException {
+    public InfeasibleConstraintsException(String message) {
+        super(message);
+    }
+}
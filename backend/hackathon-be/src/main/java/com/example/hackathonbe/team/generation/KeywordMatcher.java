@@ -0,0 +1,119 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over normalized tokens ({@code [a-z0-9 ]}), mapping keywords to bucket ids.
+ * <p>
+ * The failure links are folded into a dense transition table, so scanning a token is one
+ * array read per character however many keywords there are. {@link #firstMatch} returns the
+ * lowest bucket with a keyword anywhere in the token, which is what checking the buckets in
+ * order with {@code contains} would return.
+ */
+final class KeywordMatcher {
+
+    static final int NO_MATCH = -1;
+
+    private static final int ALPHABET = 26 + 10 + 1;
+
+    private final int[][] next;
+    /** Lowest bucket of any keyword ending at the state, following failure links. */
+    private final int[] bucket;
+
+    private KeywordMatcher(int[][] next, int[] bucket) {
+        this.next = next;
+        this.bucket = bucket;
+    }
+
+    /**
+     * @param keywordsPerBucket keywords of bucket {@code i} at index {@code i}; keywords are normalized
+     *                          with {@link LabelTaxonomy#normalize} and blank ones are ignored
+     */
+    static KeywordMatcher compile(List<List<String>> keywordsPerBucket) {
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> out = new ArrayList<>();
+        trie.add(newState());
+        out.add(Integer.MAX_VALUE);
+
+        for (int b = 0; b < keywordsPerBucket.size(); b++) {
+            for (String raw : keywordsPerBucket.get(b)) {
+                String keyword = LabelTaxonomy.normalize(raw);
+                if (keyword.isEmpty()) continue;
+
+                int state = 0;
+                for (int k = 0; k < keyword.length(); k++) {
+                    int c = symbol(keyword.charAt(k));
+                    if (trie.get(state)[c] < 0) {
+                        trie.get(state)[c] = trie.size();
+                        trie.add(newState());
+                        out.add(Integer.MAX_VALUE);
+                    }
+                    state = trie.get(state)[c];
+                }
+                out.set(state, Math.min(out.get(state), b));
+            }
+        }
+
+        int states = trie.size();
+        int[][] next = trie.toArray(new int[0][]);
+        int[] bucket = out.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[states];
+
+        // breadth-first: a state's failure target is always settled before the state itself
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            if (next[0][c] < 0) {
+                next[0][c] = 0;
+            } else {
+                fail[next[0][c]] = 0;
+                queue.add(next[0][c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            bucket[s] = Math.min(bucket[s], bucket[fail[s]]);
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = next[s][c];
+                if (child < 0) {
+                    next[s][c] = next[fail[s]][c];
+                } else {
+                    fail[child] = next[fail[s]][c];
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new KeywordMatcher(next, bucket);
+    }
+
+    /** Lowest bucket with a keyword contained in {@code token}, or {@link #NO_MATCH}. */
+    int firstMatch(String token) {
+        int state = 0;
+        int best = Integer.MAX_VALUE;
+        for (int k = 0; k < token.length(); k++) {
+            int c = symbol(token.charAt(k));
+            state = c < 0 ? 0 : next[state][c];
+            if (bucket[state] < best) {
+                best = bucket[state];
+                if (best == 0) break;
+            }
+        }
+        return best == Integer.MAX_VALUE ? NO_MATCH : best;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static int symbol(char ch) {
+        if (ch >= 'a' && ch <= 'z') return ch - 'a';
+        if (ch >= '0' && ch <= '9') return 26 + (ch - '0');
+        if (ch == ' ') return 36;
+        return -1;
+    }
+}
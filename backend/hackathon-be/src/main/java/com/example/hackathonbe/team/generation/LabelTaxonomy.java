@@ -0,0 +1,161 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical role and skill buckets with their keywords, compiled into one {@link KeywordMatcher} each.
+ * <p>
+ * Loaded from a JSON dictionary ({@code team-taxonomy.json} by default):
+ * <pre>{"roles": [{"bucket": "ROLE_DEVELOPER", "keywords": ["dev", ...]}, ...], "skills": [...]}</pre>
+ * A label maps to the first bucket (in file order) that has a keyword contained in the normalized label.
+ * <p>
+ * Normalized labels and their canonical bucket are cached per raw label, so repeated generations
+ * over the same answers skip normalization and matching. The caches are bounded: once one is full
+ * it is cleared and refilled.
+ */
+final class LabelTaxonomy {
+
+    static final String DEFAULT_LOCATION = "team-taxonomy.json";
+    static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** A normalized label and its canonical bucket, or {@link KeywordMatcher#NO_MATCH}. */
+    record Label(String token, int canonical) {
+        static final Label BLANK = new Label("", KeywordMatcher.NO_MATCH);
+
+        boolean isBlank() { return token.isEmpty(); }
+    }
+
+    /** JSON shape of the dictionary. */
+    record Dictionary(List<Bucket> roles, List<Bucket> skills) {}
+
+    record Bucket(String bucket, List<String> keywords) {}
+
+    private final List<String> roleBuckets;
+    private final List<String> skillBuckets;
+    private final KeywordMatcher roleMatcher;
+    private final KeywordMatcher skillMatcher;
+    private final int cacheSize;
+    private final int fingerprint;
+    private final Map<String, Label> roleCache = new ConcurrentHashMap<>();
+    private final Map<String, Label> skillCache = new ConcurrentHashMap<>();
+
+    LabelTaxonomy(Dictionary dictionary, int cacheSize) {
+        List<Bucket> roles = dictionary.roles() == null ? List.of() : dictionary.roles();
+        List<Bucket> skills = dictionary.skills() == null ? List.of() : dictionary.skills();
+
+        // canonical buckets + OTHER + learned top tokens must fit the 64-bit bucket masks
+        if (roles.size() + 1 + RoleSkillBucketer.TOP_ROLES > Long.SIZE
+                || skills.size() + 1 + RoleSkillBucketer.TOP_SKILLS > Long.SIZE) {
+            throw new IllegalArgumentException("Taxonomy has too many buckets: role/skill buckets must fit into 64 bits");
+        }
+
+        this.roleBuckets = roles.stream().map(Bucket::bucket).toList();
+        this.skillBuckets = skills.stream().map(Bucket::bucket).toList();
+        this.roleMatcher = KeywordMatcher.compile(roles.stream().map(LabelTaxonomy::keywords).toList());
+        this.skillMatcher = KeywordMatcher.compile(skills.stream().map(LabelTaxonomy::keywords).toList());
+        this.cacheSize = Math.max(1, cacheSize);
+        this.fingerprint = 31 * roles.hashCode() + skills.hashCode();
+    }
+
+    /** The bundled dictionary with the default cache size, shared by engines built without configuration. */
+    static LabelTaxonomy defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static final class DefaultHolder {
+        static final LabelTaxonomy INSTANCE = load(new ClassPathResource(DEFAULT_LOCATION), DEFAULT_CACHE_SIZE);
+    }
+
+    static LabelTaxonomy load(Resource resource, int cacheSize) {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        try (InputStream in = resource.getInputStream()) {
+            return new LabelTaxonomy(mapper.readValue(in, Dictionary.class), cacheSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read team taxonomy from " + resource.getDescription(), e);
+        }
+    }
+
+    /** Canonical role bucket names; their ids are their positions. */
+    List<String> roleBuckets() { return roleBuckets; }
+
+    /** Canonical skill bucket names; their ids are their positions. */
+    List<String> skillBuckets() { return skillBuckets; }
+
+    /** Hash of the bucket names and keywords, so callers can tell whether two taxonomies bucket labels alike. */
+    int fingerprint() { return fingerprint; }
+
+    Label role(String raw) {
+        return lookup(roleCache, roleMatcher, raw);
+    }
+
+    Label skill(String raw) {
+        return lookup(skillCache, skillMatcher, raw);
+    }
+
+    private Label lookup(Map<String, Label> cache, KeywordMatcher matcher, String raw) {
+        if (raw == null) return Label.BLANK;
+
+        Label label = cache.get(raw);
+        if (label != null) return label;
+
+        String token = normalize(raw);
+        label = token.isEmpty() ? Label.BLANK : new Label(token, matcher.firstMatch(token));
+
+        if (cache.size() >= cacheSize) cache.clear();
+        cache.put(raw, label);
+        return label;
+    }
+
+    /**
+     * Lower-cases and collapses every run of characters outside {@code [a-z0-9]} into one space,
+     * trimmed, so "DevOps / cloud" and "devops cloud" compare equal. ASCII input takes a single pass;
+     * anything else goes through {@link String#toLowerCase} first, whose result can differ from
+     * per-character lower-casing.
+     */
+    static String normalize(String raw) {
+        if (raw == null) return "";
+
+        StringBuilder out = new StringBuilder(raw.length());
+        boolean pendingSpace = false;
+        for (int k = 0; k < raw.length(); k++) {
+            char ch = raw.charAt(k);
+            if (ch >= 0x80) return normalizeSlow(raw);
+            if (ch >= 'A' && ch <= 'Z') ch = (char) (ch + ('a' - 'A'));
+
+            if ((ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9')) {
+                if (pendingSpace && out.length() > 0) out.append(' ');
+                pendingSpace = false;
+                out.append(ch);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private static String normalizeSlow(String raw) {
+        String t = raw.trim().toLowerCase(Locale.ROOT);
+        if (t.isBlank()) return "";
+        t = NON_ALPHANUMERIC.matcher(t).replaceAll(" ").trim();
+        return WHITESPACE.matcher(t).replaceAll(" ");
+    }
+
+    private static List<String> keywords(Bucket bucket) {
+        return bucket.keywords() == null ? List.of() : bucket.keywords();
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Improvement stage after the greedy fill: swaps members between two teams with
+ * simulated annealing until the time budget is used up. Given a move budget instead, the search
+ * depends only on its inputs and the random sequence, so a seeded run is reproducible.
+ * <p>
+ * Every team keeps the aggregates {@link TeamCompatibilityScoring#weightedScore} needs
+ * (moments plus role/skill key counts), so evaluating a swap touches only the two
+ * swapped candidates instead of rescoring both teams from scratch.
+ * Team sizes never change, and the power team only accepts candidates with motivation >= 3.
+ * With {@link ConstraintGroups}, members of keep-together groups stay where they are and a swap
+ * is skipped if it would put a candidate in a team holding someone they must be kept apart from.
+ * <p>
+ * Accepted swaps since the best assignment seen so far are journaled, so the search
+ * can rewind to that best state at the end instead of copying every team on each improvement.
+ */
+final class LocalSearchImprover {
+
+    /** Starting temperature, in team-score points (one team scores 0..5). */
+    static final double INITIAL_TEMPERATURE = 0.1;
+
+    /** Journal cap; when reached the search rewinds to the best state and continues from there. */
+    private static final int MAX_JOURNAL_MOVES = 1 << 18;
+
+    /** Moves between two clock reads; keeps the budget check cheap but tight. */
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private LocalSearchImprover() {}
+
+    record Outcome(List<TeamDraft2> drafts, int movesTried, int movesAccepted) {}
+
+    /**
+     * @param stop checked together with the clock; when it returns true the search ends early
+     */
+    static Outcome improve(CandidatePool pool, List<TeamDraft2> drafts, long budgetNanos, Random random,
+                           BooleanSupplier stop) {
+        return improve(pool, drafts, null, budgetNanos, 0, random, stop);
+    }
+
+    /**
+     * @param groups   keep-together/keep-apart constraints the drafts satisfy, or {@code null} for none
+     * @param maxMoves when positive, the budget in tried moves (rounded up to a multiple of 64);
+     *                 {@code budgetNanos} is then ignored
+     */
+    static Outcome improve(CandidatePool pool, List<TeamDraft2> drafts, ConstraintGroups groups, long budgetNanos,
+                           long maxMoves, Random random, BooleanSupplier stop) {
+        List<TeamState> teams = new ArrayList<>(drafts.size());
+        List<Integer> swappable = new ArrayList<>();
+        for (int t = 0; t < drafts.size(); t++) {
+            TeamState state = new TeamState(pool, drafts.get(t));
+            teams.add(state);
+            if (state.size > 0) swappable.add(t);
+        }
+        if (swappable.size() < 2 || (budgetNanos <= 0 && maxMoves <= 0)) return new Outcome(drafts, 0, 0);
+
+        // team index per pool position, kept current across swaps for keep-apart checks
+        int[] teamOf = null;
+        if (groups != null) {
+            teamOf = new int[pool.size()];
+            for (int t = 0; t < teams.size(); t++) {
+                for (int m : teams.get(t).members) teamOf[m] = t;
+            }
+        }
+
+        int teamCount = drafts.size();
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        double temperature = INITIAL_TEMPERATURE;
+
+        // objective change relative to the starting assignment, in team-score points (objective * teamCount)
+        double current = 0.0;
+        double best = 0.0;
+        Journal journal = new Journal();
+
+        int tried = 0;
+        int accepted = 0;
+        while (true) {
+            if (tried % CLOCK_CHECK_INTERVAL == 0) {
+                double remaining;
+                if (maxMoves > 0) {
+                    if (tried >= maxMoves || stop.getAsBoolean()) break;
+                    remaining = (maxMoves - tried) / (double) maxMoves;
+                } else {
+                    long now = System.nanoTime();
+                    if (now - deadline >= 0 || stop.getAsBoolean()) break;
+                    remaining = (deadline - now) / (double) budgetNanos;
+                }
+                // linear cooling over the budget: ends as plain hill climbing
+                temperature = INITIAL_TEMPERATURE * remaining;
+            }
+            tried++;
+
+            int p = swappable.get(random.nextInt(swappable.size()));
+            int q = swappable.get(random.nextInt(swappable.size()));
+            if (p == q) continue;
+
+            TeamState tp = teams.get(p);
+            TeamState tq = teams.get(q);
+            int kp = random.nextInt(tp.size);
+            int kq = random.nextInt(tq.size);
+            int a = tp.members[kp];
+            int b = tq.members[kq];
+
+            if ((p == 0 && pool.motivation(b) < 3) || (q == 0 && pool.motivation(a) < 3)) continue;
+            if (groups != null && !swapAllowed(groups, teamOf, a, p, b, q)) continue;
+
+            double newP = tp.scoreAfterSwap(pool, a, b);
+            double newQ = tq.scoreAfterSwap(pool, b, a);
+            double delta = 5.0 * (newP - tp.score + newQ - tq.score);
+            if (p == 0) delta += teamCount * powerTeamDelta(pool, tp, a, b);
+            if (q == 0) delta += teamCount * powerTeamDelta(pool, tq, b, a);
+
+            if (delta > 0 || (temperature > 0 && random.nextDouble() < Math.exp(delta / temperature))) {
+                tp.replace(pool, kp, b, newP);
+                tq.replace(pool, kq, a, newQ);
+                if (teamOf != null) {
+                    teamOf[a] = q;
+                    teamOf[b] = p;
+                }
+                accepted++;
+                current += delta;
+
+                if (current > best + 1e-12) {
+                    best = current;
+                    journal.clear();
+                } else {
+                    journal.add(p, kp, q, kq);
+                    if (journal.size() >= MAX_JOURNAL_MOVES) {
+                        journal.rewind(pool, teams, teamOf);
+                        current = best;
+                    }
+                }
+            }
+        }
+        journal.rewind(pool, teams, teamOf);
+
+        List<TeamDraft2> improved = new ArrayList<>(drafts.size());
+        for (int t = 0; t < drafts.size(); t++) {
+            TeamDraft2 original = drafts.get(t);
+            TeamDraft2 draft = new TeamDraft2(original.name(), original.capacity());
+            TeamState state = teams.get(t);
+            for (int k = 0; k < state.size; k++) draft.add(pool, state.members[k]);
+            improved.add(draft);
+        }
+        return new Outcome(improved, tried, accepted);
+    }
+
+    private static void swap(CandidatePool pool, TeamState tp, int kp, TeamState tq, int kq) {
+        int a = tp.members[kp];
+        int b = tq.members[kq];
+        double newP = tp.scoreAfterSwap(pool, a, b);
+        double newQ = tq.scoreAfterSwap(pool, b, a);
+        tp.replace(pool, kp, b, newP);
+        tq.replace(pool, kq, a, newQ);
+    }
+
+    /** Grouped candidates never move; a single candidate may not join a team holding someone it must avoid. */
+    private static boolean swapAllowed(ConstraintGroups groups, int[] teamOf, int a, int p, int b, int q) {
+        if (groups.groupSize(groups.groupOf(a)) > 1 || groups.groupSize(groups.groupOf(b)) > 1) return false;
+        return !conflicts(groups, teamOf, a, q, b) && !conflicts(groups, teamOf, b, p, a);
+    }
+
+    /** Whether {@code moving} conflicts with team {@code team} once {@code leaving} has left it. */
+    private static boolean conflicts(ConstraintGroups groups, int[] teamOf, int moving, int team, int leaving) {
+        for (int other : groups.apart(moving)) {
+            if (other != leaving && teamOf[other] == team) return true;
+        }
+        return false;
+    }
+
+    /** Change of the {@link GenerationObjective} power-team term when {@code out} leaves and {@code in} joins. */
+    private static double powerTeamDelta(CandidatePool pool, TeamState power, int out, int in) {
+        return GenerationObjective.POWER_TEAM_WEIGHT * (pool.motivation01(in) - pool.motivation01(out)) / power.size;
+    }
+
+    /** Swaps accepted since the best state; swapping the same two slots again undoes a move. */
+    private static final class Journal {
+        private int[] moves = new int[4 * 64];
+        private int size;
+
+        int size() { return size; }
+
+        void clear() { size = 0; }
+
+        void add(int p, int kp, int q, int kq) {
+            if (4 * size + 4 > moves.length) moves = Arrays.copyOf(moves, moves.length * 2);
+            int o = 4 * size++;
+            moves[o] = p;
+            moves[o + 1] = kp;
+            moves[o + 2] = q;
+            moves[o + 3] = kq;
+        }
+
+        void rewind(CandidatePool pool, List<TeamState> teams, int[] teamOf) {
+            for (int m = size - 1; m >= 0; m--) {
+                int o = 4 * m;
+                TeamState tp = teams.get(moves[o]);
+                TeamState tq = teams.get(moves[o + 2]);
+                swap(pool, tp, moves[o + 1], tq, moves[o + 3]);
+                if (teamOf != null) {
+                    teamOf[tp.members[moves[o + 1]]] = moves[o];
+                    teamOf[tq.members[moves[o + 3]]] = moves[o + 2];
+                }
+            }
+            size = 0;
+        }
+    }
+
+    /** A team's members plus the aggregates its compatibility score is computed from. */
+    private static final class TeamState {
+        final int[] members;
+        final int size;
+        long motivationSum, motivationSumSq, yearsSum, yearsSumSq;
+        final int[] keyCounts;
+        int distinctRoles, distinctSkills;
+        double score;
+
+        TeamState(CandidatePool pool, TeamDraft2 draft) {
+            this.size = draft.size();
+            this.members = new int[size];
+            this.keyCounts = new int[pool.keyCount()];
+            for (int k = 0; k < size; k++) {
+                members[k] = draft.member(k);
+                addMoments(pool, members[k], 1);
+                addKeys(pool, members[k], 1);
+            }
+            this.score = currentScore();
+        }
+
+        double scoreAfterSwap(CandidatePool pool, int out, int in) {
+            int mOut = pool.motivationLevel(out), mIn = pool.motivationLevel(in);
+            int yOut = pool.cappedYears(out), yIn = pool.cappedYears(in);
+
+            int roles = distinctRoles;
+            int roleOut = pool.roleKey(out), roleIn = pool.roleKey(in);
+            if (roleOut != roleIn) {
+                if (roleOut >= 0 && count(roleOut) == 1) roles--;
+                if (roleIn >= 0 && count(roleIn) == 0) roles++;
+            }
+
+            int skills = distinctSkills;
+            int[] skillsOut = pool.skillKeys(out), skillsIn = pool.skillKeys(in);
+            for (int s : skillsOut) {
+                if (!contains(skillsIn, s) && count(s) == 1) skills--;
+            }
+            for (int s : skillsIn) {
+                if (!contains(skillsOut, s) && count(s) == 0) skills++;
+            }
+
+            return TeamCompatibilityScoring.weightedScore(size,
+                    motivationSum - mOut + mIn,
+                    motivationSumSq - (long) mOut * mOut + (long) mIn * mIn,
+                    yearsSum - yOut + yIn,
+                    yearsSumSq - (long) yOut * yOut + (long) yIn * yIn,
+                    roles, skills);
+        }
+
+        void replace(CandidatePool pool, int k, int in, double newScore) {
+            int out = members[k];
+            addMoments(pool, out, -1);
+            addKeys(pool, out, -1);
+            addMoments(pool, in, 1);
+            addKeys(pool, in, 1);
+            members[k] = in;
+            score = newScore;
+        }
+
+        private double currentScore() {
+            return TeamCompatibilityScoring.weightedScore(size,
+                    motivationSum, motivationSumSq, yearsSum, yearsSumSq, distinctRoles, distinctSkills);
+        }
+
+        private void addMoments(CandidatePool pool, int i, int sign) {
+            int m = pool.motivationLevel(i);
+            int y = pool.cappedYears(i);
+            motivationSum += sign * m;
+            motivationSumSq += sign * (long) m * m;
+            yearsSum += sign * y;
+            yearsSumSq += sign * (long) y * y;
+        }
+
+        private void addKeys(CandidatePool pool, int i, int sign) {
+            int role = pool.roleKey(i);
+            if (role >= 0) distinctRoles += adjust(role, sign);
+            for (int s : pool.skillKeys(i)) distinctSkills += adjust(s, sign);
+        }
+
+        /** @return the change in the number of distinct keys (-1, 0 or +1) */
+        private int adjust(int key, int sign) {
+            int before = keyCounts[key];
+            int after = before + sign;
+            keyCounts[key] = after;
+            return (after > 0 ? 1 : 0) - (before > 0 ? 1 : 0);
+        }
+
+        private int count(int key) {
+            return keyCounts[key];
+        }
+
+        private static boolean contains(int[] values, int v) {
+            for (int x : values) if (x == v) return true;
+            return false;
+        }
+    }
+}
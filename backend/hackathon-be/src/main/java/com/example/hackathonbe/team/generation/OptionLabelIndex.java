@@ -0,0 +1,58 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+
+/**
+ * Option lookup built from Questionnaire.questions JsonNode.
+ */
+public final class OptionLabelIndex {
+    private final Map<String, String> optionIdToLabel;
+
+    private OptionLabelIndex(Map<String, String> optionIdToLabel) {
+        this.optionIdToLabel = optionIdToLabel;
+    }
+
+    public static OptionLabelIndex from(JsonNode questionnaireQuestionsJson) {
+        Map<String, String> map = new HashMap<>();
+        if (questionnaireQuestionsJson == null || questionnaireQuestionsJson.isNull()) {
+            return new OptionLabelIndex(map);
+        }
+
+        JsonNode questionsArr = questionnaireQuestionsJson.path("questions");
+        if (!questionsArr.isArray()) return new OptionLabelIndex(map);
+
+        for (JsonNode q : questionsArr) {
+            JsonNode options = q.path("options");
+            if (!options.isArray()) continue;
+
+            for (JsonNode opt : options) {
+                String id = opt.path("id").asText("").trim();
+                String label = opt.path("label").asText("").trim();
+                if (!id.isBlank() && !label.isBlank()) {
+                    map.put(id, label);
+                }
+            }
+        }
+
+        return new OptionLabelIndex(map);
+    }
+
+    public String labelOrFallback(String optionId) {
+        if (optionId == null) return "";
+        String trimmed = optionId.trim();
+        if (trimmed.isBlank()) return "";
+        return optionIdToLabel.getOrDefault(trimmed, trimmed);
+    }
+
+    public Set<String> labelsOrFallbacks(Collection<String> optionIds) {
+        if (optionIds == null || optionIds.isEmpty()) return Set.of();
+        LinkedHashSet<String> out = new LinkedHashSet<>();
+        for (String id : optionIds) {
+            String label = labelOrFallback(id);
+            if (!label.isBlank()) out.add(label);
+        }
+        return out;
+    }
+}
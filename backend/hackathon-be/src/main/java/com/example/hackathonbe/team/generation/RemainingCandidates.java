@@ -0,0 +1,47 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Candidates not yet placed in a team, kept in their sorted order.
+ * <p>
+ * A doubly linked list over the sorted positions: walking the first {@code k}
+ * remaining candidates costs O(k) no matter how many have already been placed,
+ * and removing a placed candidate is O(1).
+ */
+final class RemainingCandidates {
+    static final int NONE = -1;
+
+    private final int[] next;
+    private final int[] prev;
+    private int head;
+    private int size;
+
+    RemainingCandidates(int count) {
+        this.next = new int[count];
+        this.prev = new int[count];
+        for (int i = 0; i < count; i++) {
+            next[i] = i + 1 < count ? i + 1 : NONE;
+            prev[i] = i - 1;
+        }
+        this.head = count > 0 ? 0 : NONE;
+        this.size = count;
+    }
+
+    int first() { return head; }
+
+    int next(int position) { return next[position]; }
+
+    boolean isEmpty() { return size == 0; }
+
+    int size() { return size; }
+
+    void remove(int position) {
+        int p = prev[position];
+        int n = next[position];
+        if (p == NONE) head = n;
+        else next[p] = n;
+        if (n != NONE) prev[n] = p;
+        next[position] = NONE;
+        prev[position] = NONE;
+        size--;
+    }
+}
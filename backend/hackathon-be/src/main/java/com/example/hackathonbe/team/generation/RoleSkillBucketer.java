@@ -0,0 +1,120 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Learns “stable buckets” from a mixed dataset:
+ * - map messy imported roles/skills into:
+ *   - known canonical buckets via the keyword dictionary of a {@link LabelTaxonomy}
+ *   - otherwise top-N most frequent normalized values
+ *   - else OTHER
+ */
+final class RoleSkillBucketer {
+    // Canonical buckets get the first ids, then OTHER; learned top tokens are appended after them.
+    // skill buckets are bits of a long, role buckets are bits of TeamDraft2's role mask
+    // (LabelTaxonomy checks that all of them fit into 64 bits)
+    static final int TOP_ROLES = 8;
+    static final int TOP_SKILLS = 24;
+
+    private final LabelTaxonomy taxonomy;
+    private final int otherRole;
+    private final int otherSkill;
+    private final Map<String, Integer> topRoleIds;
+    private final Map<String, Integer> topSkillIds;
+    private final List<String> roleNames;
+    private final List<String> skillNames;
+
+    private RoleSkillBucketer(LabelTaxonomy taxonomy, Set<String> topRoleTokens, Set<String> topSkillTokens) {
+        this.taxonomy = taxonomy;
+        this.roleNames = new ArrayList<>(taxonomy.roleBuckets());
+        this.skillNames = new ArrayList<>(taxonomy.skillBuckets());
+        this.otherRole = roleNames.size();
+        this.otherSkill = skillNames.size();
+        roleNames.add("OTHER_ROLE");
+        skillNames.add("OTHER_SKILL");
+        this.topRoleIds = intern(topRoleTokens, roleNames, "ROLE_");
+        this.topSkillIds = intern(topSkillTokens, skillNames, "SKILL_");
+    }
+
+    static RoleSkillBucketer build(List<Candidate> candidates) {
+        return build(candidates, LabelTaxonomy.defaults());
+    }
+
+    static RoleSkillBucketer build(List<Candidate> candidates, LabelTaxonomy taxonomy) {
+        Map<String, Integer> roleFreq = new HashMap<>();
+        Map<String, Integer> skillFreq = new HashMap<>();
+
+        for (Candidate c : candidates) {
+            LabelTaxonomy.Label role = taxonomy.role(c.roleLabel());
+            if (!role.isBlank()) roleFreq.merge(role.token(), 1, Integer::sum);
+
+            for (String s : c.skillLabels()) {
+                LabelTaxonomy.Label skill = taxonomy.skill(s);
+                if (!skill.isBlank()) skillFreq.merge(skill.token(), 1, Integer::sum);
+            }
+        }
+
+        // pick top roles/skills by frequency (kept small on purpose)
+        Set<String> topRoles = topK(roleFreq, TOP_ROLES);
+        Set<String> topSkills = topK(skillFreq, TOP_SKILLS);
+
+        return new RoleSkillBucketer(taxonomy, topRoles, topSkills);
+    }
+
+    /** Role bucket id, {@code 0 <= id < 64}. */
+    int roleBucket(String roleLabel) {
+        LabelTaxonomy.Label role = taxonomy.role(roleLabel);
+        if (role.isBlank()) return otherRole;
+
+        // First: keyword canonicalization (helps imported chaos)
+        if (role.canonical() != KeywordMatcher.NO_MATCH) return role.canonical();
+
+        // Then: frequent buckets
+        Integer top = topRoleIds.get(role.token());
+        return top != null ? top : otherRole;
+    }
+
+    /** Skill buckets as a bit mask: bit {@code i} set means skill bucket {@code i} is present. */
+    long skillBuckets(Set<String> skills) {
+        if (skills == null || skills.isEmpty()) return bit(otherSkill);
+
+        long mask = 0L;
+        for (String s : skills) {
+            LabelTaxonomy.Label skill = taxonomy.skill(s);
+            if (skill.isBlank()) continue;
+
+            if (skill.canonical() != KeywordMatcher.NO_MATCH) {
+                mask |= bit(skill.canonical());
+                continue;
+            }
+
+            Integer top = topSkillIds.get(skill.token());
+            mask |= bit(top != null ? top : otherSkill);
+        }
+        return mask == 0L ? bit(otherSkill) : mask;
+    }
+
+    String roleBucketName(int id) { return roleNames.get(id); }
+    String skillBucketName(int id) { return skillNames.get(id); }
+
+    static long bit(int id) { return 1L << id; }
+
+    private static Map<String, Integer> intern(Set<String> tokens, List<String> names, String prefix) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (String tok : tokens) {
+            ids.put(tok, names.size());
+            names.add(prefix + tok);
+        }
+        return ids;
+    }
+
+    private static Set<String> topK(Map<String, Integer> freq, int k) {
+        if (freq.isEmpty()) return Set.of();
+        return freq.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class SkillUtil {
+    private SkillUtil() {}
+
+    public static Set<String> parseCommaSeparated(String raw) {
+        if (raw == null) return Set.of();
+        String t = raw.trim();
+        if (t.isBlank()) return Set.of();
+        return Arrays.stream(t.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
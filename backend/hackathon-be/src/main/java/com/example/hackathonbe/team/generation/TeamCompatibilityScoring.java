@@ -0,0 +1,116 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Team score (0..5) reflecting motivation, experience, role and skill variety.
+ * <p>
+ * The score only depends on member count, the sum and sum of squares of the clamped
+ * motivation and experience values, and the number of distinct roles and skills, so
+ * callers that keep those aggregates per team can rescore a change in O(1)
+ * via {@link #weightedScore} (see {@link TeamScoreAggregate}).
+ */
+public final class TeamCompatibilityScoring {
+    private TeamCompatibilityScoring() {}
+
+    private static final double W_MOTIVATION = 0.55;
+    private static final double W_EXPERIENCE = 0.20;
+    private static final double W_ROLE_VARIETY = 0.15;
+    private static final double W_SKILL_VARIETY = 0.10;
+
+    /** Motivation is clamped to 1..5 and scored as 0..4 steps. */
+    static final int MOTIVATION_STEPS = 4;
+    /** Experience is clamped to 0..20 years. */
+    static final int YEARS_CAP = 20;
+
+    public static double teamCompatibilityScore(List<Candidate> members) {
+        if (members == null || members.isEmpty()) return 0.0;
+
+        long motivationSum = 0, motivationSumSq = 0, yearsSum = 0, yearsSumSq = 0;
+        Set<String> roles = new HashSet<>();
+        Set<String> skills = new HashSet<>();
+
+        for (Candidate c : members) {
+            int m = motivationLevel(c.motivation());
+            int y = cappedYears(c.yearsExperience());
+            motivationSum += m;
+            motivationSumSq += (long) m * m;
+            yearsSum += y;
+            yearsSumSq += (long) y * y;
+
+            String role = varietyKey(c.roleLabel());
+            if (!role.isBlank()) roles.add(role);
+            for (String s : c.skillLabels()) {
+                String t = varietyKey(s);
+                if (!t.isBlank()) skills.add(t);
+            }
+        }
+
+        double weighted = weightedScore(members.size(),
+                motivationSum, motivationSumSq, yearsSum, yearsSumSq, roles.size(), skills.size());
+        return toTeamScore(weighted);
+    }
+
+    /** Scales a {@link #weightedScore} to the persisted 0..5 team score. */
+    static double toTeamScore(double weighted) {
+        return round2(weighted * 5.0);
+    }
+
+    /**
+     * Unrounded score in 0..1 from team aggregates.
+     *
+     * @param motivationSum sum of {@link #motivationLevel} over members (squares in {@code motivationSumSq})
+     * @param yearsSum      sum of {@link #cappedYears} over members (squares in {@code yearsSumSq})
+     * @param distinctRoles number of distinct non-blank {@link #varietyKey role keys}
+     * @param distinctSkills number of distinct non-blank {@link #varietyKey skill keys}
+     */
+    static double weightedScore(int n, long motivationSum, long motivationSumSq,
+                                long yearsSum, long yearsSumSq, int distinctRoles, int distinctSkills) {
+        if (n <= 0) return 0.0;
+
+        double motivation = clamp01(0.7 * mean(n, motivationSum, MOTIVATION_STEPS)
+                + 0.3 * cohesion(n, motivationSum, motivationSumSq, MOTIVATION_STEPS, 0.25));
+        double experience = clamp01(0.6 * mean(n, yearsSum, YEARS_CAP)
+                + 0.4 * cohesion(n, yearsSum, yearsSumSq, YEARS_CAP, 0.35));
+        double roleVariety = distinctRoles == 0 ? 0.4 : clamp01(distinctRoles / (double) n);
+        double skillVariety = distinctSkills == 0 ? 0.3 : clamp01(distinctSkills / (3.0 * n));
+
+        double weighted =
+                W_MOTIVATION * motivation +
+                        W_EXPERIENCE * experience +
+                        W_ROLE_VARIETY * roleVariety +
+                        W_SKILL_VARIETY * skillVariety;
+
+        return clamp01(weighted);
+    }
+
+    static int motivationLevel(int motivation) {
+        return Math.max(1, Math.min(5, motivation)) - 1;
+    }
+
+    static int cappedYears(int years) {
+        return Math.max(0, Math.min(YEARS_CAP, years));
+    }
+
+    /** Key under which roles and skills count as "the same" for variety. */
+    static String varietyKey(String label) {
+        return label == null ? "" : label.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static double mean(int n, long sum, int scale) {
+        return sum / ((double) n * scale);
+    }
+
+    private static double cohesion(int n, long sum, long sumSq, int scale, double sdThreshold) {
+        // population variance of the normalized values; n*sumSq - sum^2 is exact in integers
+        double var = Math.max(0L, n * sumSq - sum * sum) / ((double) n * n * scale * scale);
+        double sd = Math.sqrt(var);
+        return clamp01(1.0 - (sd / sdThreshold));
+    }
+
+    private static double clamp01(double v) { return Math.max(0.0, Math.min(1.0, v)); }
+    private static double round2(double v) { return Math.round(v * 100.0) / 100.0; }
+}
@@ -0,0 +1,45 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.Arrays;
+
+/**
+ * A team being filled: member positions in a {@link CandidatePool} plus the
+ * role/skill buckets already covered, kept as bit masks.
+ * <p>
+ * Only constrained generation adds members past {@link #capacity()}, when a keep-together
+ * group has no other team to go to.
+ */
+final class TeamDraft2 {
+    private final String name;
+    private final int capacity;
+    private int[] members;
+    private int size;
+    private long roleMask;
+    private long skillMask;
+
+    TeamDraft2(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.members = new int[capacity];
+    }
+
+    String name() { return name; }
+
+    int capacity() { return capacity; }
+    int size() { return size; }
+    int member(int k) { return members[k]; }
+
+    int freeSeats() { return capacity - size; }
+
+    boolean isFull() { return size >= capacity; }
+
+    void add(CandidatePool pool, int i) {
+        if (size == members.length) members = Arrays.copyOf(members, Math.max(1, size * 2));
+        members[size++] = i;
+        roleMask |= RoleSkillBucketer.bit(pool.roleBucket(i));
+        skillMask |= pool.skillMask(i);
+    }
+
+    boolean hasRole(int roleBucket) { return (roleMask & RoleSkillBucketer.bit(roleBucket)) != 0; }
+    long skillMask() { return skillMask; }
+}
@@ -0,0 +1,461 @@
+package com.example.hackathonbe.team.generation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Turns loaded candidates into teams.
+ *
+ * With one start this is the deterministic power-team greedy pass. With more starts,
+ * perturbed greedy passes run concurrently on a dedicated ForkJoinPool until the
+ * wall-clock budget is used up, and the assignment with the best
+ * {@link GenerationObjective} wins. The unperturbed pass always runs, so the result
+ * is never worse than single-pass generation.
+ * <p>
+ * When a local-search budget is configured, the winning assignment is then improved
+ * by {@link LocalSearchImprover}; the improved teams are only kept if the objective went up.
+ * <p>
+ * {@link GenerationConstraints} are resolved once per run into {@link ConstraintGroups}, which
+ * every start and the local search share read-only.
+ * <p>
+ * {@link #generatePartitioned} runs one such generation per partition (e.g. per track), with the starts
+ * of all partitions sharing the pool and one time budget.
+ * <p>
+ * A run given a seed is reproducible: the seed drives every perturbed start and the local search,
+ * all starts run to completion instead of racing the wall-clock budget, and the local search gets
+ * a move budget equivalent to its time budget. {@link #inputHash} identifies such a run's inputs.
+ * Seeded runs are still bounded by a hard time limit; one that can't finish in time fails with
+ * {@link GenerationTimeoutException} rather than returning a timing-dependent result.
+ */
+@Component
+@Slf4j
+public class TeamGenerationEngine {
+
+    /** Bumped whenever a change to the algorithm alters results for the same inputs and seed. */
+    public static final int ALGORITHM_VERSION = 1;
+
+    /**
+     * Local-search moves a seeded run tries per millisecond of the configured budget; roughly what a
+     * warmed-up search manages on 2k candidates, so seeded and timed runs take similar time.
+     */
+    static final long SEEDED_MOVES_PER_MILLI = 2_000;
+
+    static final long DEFAULT_SEEDED_TIME_LIMIT_MILLIS = 10_000;
+
+    private final ForkJoinPool pool;
+    private final int defaultStarts;
+    private final int maxStarts;
+    private final long timeBudgetNanos;
+    private final long localSearchNanos;
+    private final long seededTimeLimitNanos;
+    private final LabelTaxonomy taxonomy;
+
+    /** Engine with the bundled role/skill taxonomy. */
+    public TeamGenerationEngine(int parallelism, int defaultStarts, int maxStarts, long timeBudgetMillis,
+                                long localSearchMillis) {
+        this(parallelism, defaultStarts, maxStarts, timeBudgetMillis, localSearchMillis, DEFAULT_SEEDED_TIME_LIMIT_MILLIS);
+    }
+
+    /** Engine with the bundled role/skill taxonomy and the given limit for seeded runs. */
+    public TeamGenerationEngine(int parallelism, int defaultStarts, int maxStarts, long timeBudgetMillis,
+                                long localSearchMillis, long seededTimeLimitMillis) {
+        this(parallelism, defaultStarts, maxStarts, timeBudgetMillis, localSearchMillis, seededTimeLimitMillis,
+                LabelTaxonomy.defaults());
+    }
+
+    @Autowired
+    public TeamGenerationEngine(
+            @Value("${app.teams.generation.parallelism:0}") int parallelism,
+            @Value("${app.teams.generation.default-starts:1}") int defaultStarts,
+            @Value("${app.teams.generation.max-starts:256}") int maxStarts,
+            @Value("${app.teams.generation.time-budget-ms:2000}") long timeBudgetMillis,
+            @Value("${app.teams.generation.local-search-ms:0}") long localSearchMillis,
+            @Value("${app.teams.generation.seeded-time-limit-ms:10000}") long seededTimeLimitMillis,
+            @Value("${app.teams.taxonomy.location:classpath:team-taxonomy.json}") Resource taxonomy,
+            @Value("${app.teams.taxonomy.cache-size:100000}") int taxonomyCacheSize
+    ) {
+        this(parallelism, defaultStarts, maxStarts, timeBudgetMillis, localSearchMillis, seededTimeLimitMillis,
+                LabelTaxonomy.load(taxonomy, taxonomyCacheSize));
+    }
+
+    private TeamGenerationEngine(int parallelism, int defaultStarts, int maxStarts, long timeBudgetMillis,
+                                 long localSearchMillis, long seededTimeLimitMillis, LabelTaxonomy taxonomy) {
+        this.taxonomy = taxonomy;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.maxStarts = Math.max(1, maxStarts);
+        this.defaultStarts = Math.max(1, Math.min(defaultStarts, this.maxStarts));
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeBudgetMillis));
+        this.localSearchNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, localSearchMillis));
+        this.seededTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, seededTimeLimitMillis));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Unconstrained, unseeded run without progress reporting.
+     *
+     * @param requestedStarts number of greedy starts to try; {@code null} uses the configured default
+     */
+    public GenerationResult generate(List<Candidate> rawCandidates, int targetTeamSize, Integer requestedStarts) {
+        return generate(rawCandidates, new GenerationRequest(targetTeamSize, requestedStarts), GenerationProgress.NONE);
+    }
+
+    /**
+     * Generates teams for {@code request}, reporting phases and the best objective to {@code progress}.
+     * A seeded request is reproducible (see the class comment).
+     *
+     * @throws GenerationCancelledException   if {@code progress} reports cancellation while the run is in flight
+     * @throws InfeasibleConstraintsException if the constraints cannot all be met
+     * @throws GenerationTimeoutException     if a seeded run doesn't finish within the seeded time limit
+     */
+    public GenerationResult generate(List<Candidate> rawCandidates, GenerationRequest request, GenerationProgress progress) {
+        if (rawCandidates == null || rawCandidates.isEmpty()) return GenerationResult.empty();
+        progress.phase(GenerationPhase.BUILDING_TEAMS);
+
+        Long seed = request.seed();
+        long hardDeadline = hardDeadline(seed);
+        Prepared part = prepare(rawCandidates, request.teamSize(), request.constraints());
+        Start best = buildTeams(List.of(part), resolveStarts(request.starts()), seed, hardDeadline, progress).get(0);
+        progress.checkCancelled();
+        progress.bestObjective(best.result().objective());
+
+        return improve(part, best, seed, localSearchNanos, hardDeadline, progress);
+    }
+
+    /** One set of candidates ready for team building: encoded, laid out and with constraints resolved. */
+    private record Prepared(CandidatePool candidates, TeamLayout layout, ConstraintGroups groups) {}
+
+    private Prepared prepare(List<Candidate> rawCandidates, int targetTeamSize, GenerationConstraints constraints) {
+        // Sort by motivation desc (then experience desc) once; participant id keeps ties stable
+        List<Candidate> sorted = new ArrayList<>(rawCandidates);
+        sorted.sort(Comparator
+                .comparingInt(Candidate::motivation)
+                .thenComparingInt(Candidate::yearsExperience)
+                .reversed()
+                .thenComparing(Candidate::participantId, Comparator.nullsLast(Comparator.naturalOrder()))
+        );
+
+        // Compute how many teams and their capacities
+        TeamLayout layout = TeamLayout.compute(sorted.size(), targetTeamSize);
+
+        // Build role/skill buckets:
+        // - Internal has stable option labels
+        // - Imported can be messy, so we learn most common normalized values too
+        RoleSkillBucketer bucketer = RoleSkillBucketer.build(sorted, taxonomy);
+
+        // Encode once into primitive arrays for team selection
+        CandidatePool candidates = CandidatePool.from(sorted, bucketer);
+
+        // Collapse keep-together groups and index keep-apart pairs (null when unconstrained)
+        int maxTeamSize = layout.maxSizesPerTeam().stream().mapToInt(Integer::intValue).max().orElse(targetTeamSize);
+        return new Prepared(candidates, layout, ConstraintGroups.build(candidates, constraints, maxTeamSize));
+    }
+
+    /**
+     * Content hash of a run's inputs: the algorithm version and engine settings, the request
+     * parameters and every candidate's features. Candidate order within a partition doesn't matter;
+     * partition order does, since it orders the merged teams.
+     *
+     * @param partitions candidates by partition name; a single unnamed partition for unpartitioned runs
+     * @return lower-case hex SHA-256
+     */
+    public String inputHash(Map<String, List<Candidate>> partitions, GenerationRequest request) {
+        GenerationInputHash hash = new GenerationInputHash()
+                .add(ALGORITHM_VERSION)
+                .add(taxonomy.fingerprint())
+                .add(localSearchNanos)
+                .add(request.teamSize())
+                .add(resolveStarts(request.starts()))
+                .add(request.seed() == null ? "unseeded" : Long.toString(request.seed()))
+                .addConstraints(request.constraints());
+
+        hash.add(partitions.size());
+        partitions.forEach((name, members) -> hash.add(name).addCandidates(members));
+        return hash.hex();
+    }
+
+    private int resolveStarts(Integer requestedStarts) {
+        return requestedStarts == null
+                ? defaultStarts
+                : Math.max(1, Math.min(requestedStarts, maxStarts));
+    }
+
+    /**
+     * Generates teams for each partition independently (own layout, own power team), then merges them
+     * in partition order. Team names are prefixed with the partition name unless it is blank.
+     * <p>
+     * The starts of all partitions run as one set of tasks on the engine's pool under a single time
+     * budget, and the local search budget is shared out between partitions, so a partitioned run takes
+     * about as long as an unpartitioned one. The merged objective is the team-count weighted mean of the
+     * partition objectives.
+     *
+     * @param partitions candidates by partition name; iteration order is the order of the merged teams
+     * @throws InfeasibleConstraintsException if the constraints cannot be met within some partition
+     * @throws GenerationTimeoutException     if a seeded run doesn't finish within the seeded time limit
+     */
+    public GenerationResult generatePartitioned(Map<String, List<Candidate>> partitions, GenerationRequest request,
+                                                GenerationProgress progress) {
+        Long seed = request.seed();
+        long hardDeadline = hardDeadline(seed);
+        List<String> names = new ArrayList<>();
+        List<Prepared> parts = new ArrayList<>();
+        partitions.forEach((name, members) -> {
+            if (members == null || members.isEmpty()) return;
+            names.add(name);
+            parts.add(prepare(members, request.teamSize(), request.constraints()));
+        });
+        if (parts.isEmpty()) return GenerationResult.empty();
+        progress.phase(GenerationPhase.BUILDING_TEAMS);
+
+        // partitions report only cancellation; the merged objective is published once at the end
+        GenerationProgress partitionProgress = new GenerationProgress() {
+            @Override
+            public boolean isCancelled() { return progress.isCancelled(); }
+        };
+
+        List<Start> bests = buildTeams(parts, resolveStarts(request.starts()), seed, hardDeadline, partitionProgress);
+        progress.checkCancelled();
+        if (localSearchNanos > 0) progress.phase(GenerationPhase.IMPROVING);
+        List<GenerationResult> results = improveAll(parts, bests, seed, hardDeadline, partitionProgress);
+
+        List<GeneratedTeam> teams = new ArrayList<>();
+        double objectiveSum = 0.0;
+        double greedyObjectiveSum = 0.0;
+        int startsCompleted = Integer.MAX_VALUE;
+        int improvementMoves = 0;
+
+        for (int p = 0; p < parts.size(); p++) {
+            GenerationResult result = results.get(p);
+            String prefix = names.get(p) == null || names.get(p).isBlank() ? "" : names.get(p) + " – ";
+            for (GeneratedTeam team : result.teams()) {
+                teams.add(new GeneratedTeam(prefix + team.name(), team.score(), team.members()));
+            }
+            objectiveSum += result.objective() * result.teams().size();
+            greedyObjectiveSum += result.greedyObjective() * result.teams().size();
+            startsCompleted = Math.min(startsCompleted, result.startsCompleted());
+            improvementMoves += result.improvementMoves();
+        }
+        progress.checkCancelled();
+        if (teams.isEmpty()) return GenerationResult.empty();
+
+        double objective = objectiveSum / teams.size();
+        progress.bestObjective(objective);
+        log.debug("Partitioned generation: {} partitions, {} teams, objective {}", parts.size(), teams.size(), objective);
+        return new GenerationResult(teams, objective, greedyObjectiveSum / teams.size(), startsCompleted, improvementMoves);
+    }
+
+    /** A finished greedy start: the drafts and their evaluation. */
+    private record Start(List<TeamDraft2> drafts, GenerationResult result) {}
+
+    /**
+     * Runs {@code starts} greedy starts for every part and returns the best start of each, with the number
+     * of its completed starts.
+     * <p>
+     * All starts are submitted from the calling thread as one flat set of pool tasks sharing one
+     * deadline, so no pool thread ever blocks on another task. Baseline starts are queued first and
+     * always awaited; perturbed starts still queued or running at the deadline are dropped. A seeded run
+     * instead needs every start and fails once {@code hardDeadline} passes.
+     */
+    private List<Start> buildTeams(List<Prepared> parts, int starts, Long seed, long hardDeadline,
+                                   GenerationProgress progress) {
+        if (parts.size() == 1 && starts == 1) {
+            Prepared part = parts.get(0);
+            return List.of(runStart(part, 0, 0L, Long.MAX_VALUE));
+        }
+
+        // a seeded run waits for every start, so which starts finish never depends on timing
+        long deadline = seed == null ? System.nanoTime() + timeBudgetNanos : hardDeadline;
+        long base = seed == null ? 0L : seed;
+
+        // tasks[start * parts + part]: every part's baseline first, then the perturbed starts round-robin
+        List<ForkJoinTask<Start>> tasks = new ArrayList<>(starts * parts.size());
+        for (int start = 0; start < starts; start++) {
+            final int index = start;
+            for (Prepared part : parts) {
+                tasks.add(pool.submit(() -> progress.isCancelled() ? null : runStart(part, index, base, deadline)));
+            }
+        }
+
+        List<Start> bests = new ArrayList<>(parts.size());
+        try {
+            for (int p = 0; p < parts.size(); p++) {
+                Start best = null;
+                int completed = 0;
+                for (int start = 0; start < starts; start++) {
+                    if (progress.isCancelled()) throw new GenerationCancelledException();
+
+                    long startDeadline = start == 0 && seed == null ? Long.MAX_VALUE : deadline;
+                    Start result = awaitStart(tasks.get(start * parts.size() + p), startDeadline);
+                    if (result == null && seed != null) throw seededTimeout();
+                    if (result == null) continue;
+
+                    completed++;
+                    // strict comparison keeps the lowest start index on ties, so the unperturbed pass wins a draw
+                    if (best == null || result.result().objective() > best.result().objective()) {
+                        best = result;
+                        progress.bestObjective(best.result().objective());
+                    }
+                }
+
+                progress.checkCancelled();
+                if (best == null) throw new IllegalStateException("Team generation was interrupted");
+
+                double objective = best.result().objective();
+                log.debug("Multi-start generation: {}/{} starts completed, best objective {}", completed, starts, objective);
+                bests.add(new Start(best.drafts(), new GenerationResult(best.result().teams(), objective, objective, completed, 0)));
+            }
+        } catch (RuntimeException e) {
+            tasks.forEach(t -> t.cancel(false));
+            throw e;
+        }
+        return bests;
+    }
+
+    private static Start runStart(Prepared part, int index, long seed, long deadline) {
+        // start 0 is the plain greedy pass and must always finish
+        if (index == 0) {
+            List<TeamDraft2> drafts = GreedyTeamBuilder.build(part.candidates(), part.layout(), part.groups(), null, Long.MAX_VALUE);
+            return new Start(drafts, evaluate(part.candidates(), drafts, 1));
+        }
+        if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0) return null;
+
+        List<TeamDraft2> drafts = GreedyTeamBuilder.build(part.candidates(), part.layout(), part.groups(),
+                new Random(startSeed(seed, index)), deadline);
+        return drafts == null ? null : new Start(drafts, evaluate(part.candidates(), drafts, 1));
+    }
+
+    /** Wall-clock limit of a seeded run; unseeded runs have none beyond their budgets. */
+    private long hardDeadline(Long seed) {
+        return seed == null ? Long.MAX_VALUE : System.nanoTime() + seededTimeLimitNanos;
+    }
+
+    private GenerationTimeoutException seededTimeout() {
+        return new GenerationTimeoutException("Seeded team generation did not finish within "
+                + TimeUnit.NANOSECONDS.toMillis(seededTimeLimitNanos) + " ms; ask for fewer starts");
+    }
+
+    /** Jitter seed of one start; seed 0 gives start {@code i} the seed {@code i}, as unseeded runs always had. */
+    private static long startSeed(long seed, int index) {
+        return seed * 0x9E3779B97F4A7C15L + index;
+    }
+
+    /** @return the start, or {@code null} if it missed the deadline or was dropped */
+    private static Start awaitStart(ForkJoinTask<Start> task, long deadline) {
+        try {
+            if (deadline == Long.MAX_VALUE) return task.get();
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 && !task.isDone()) {
+                task.cancel(false);
+                return null;
+            }
+            return task.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            task.cancel(false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(false);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Team generation start failed", e.getCause());
+        }
+    }
+
+    /**
+     * Local search for every part. Parts are searched concurrently on the pool; when there are more
+     * parts than pool threads, each gets a proportionally smaller budget so the phase still takes
+     * about one configured budget.
+     */
+    private List<GenerationResult> improveAll(List<Prepared> parts, List<Start> bests, Long seed, long hardDeadline,
+                                              GenerationProgress progress) {
+        if (localSearchNanos == 0 || parts.size() == 1) {
+            List<GenerationResult> results = new ArrayList<>(parts.size());
+            for (int p = 0; p < parts.size(); p++) {
+                results.add(improve(parts.get(p), bests.get(p), seed, localSearchNanos, hardDeadline, progress));
+            }
+            return results;
+        }
+
+        long budgetNanos = parts.size() <= pool.getParallelism()
+                ? localSearchNanos
+                : localSearchNanos * pool.getParallelism() / parts.size();
+
+        List<ForkJoinTask<GenerationResult>> tasks = new ArrayList<>(parts.size());
+        for (int p = 0; p < parts.size(); p++) {
+            Prepared part = parts.get(p);
+            Start best = bests.get(p);
+            tasks.add(pool.submit(() -> improve(part, best, seed, budgetNanos, hardDeadline, progress)));
+        }
+
+        List<GenerationResult> results = new ArrayList<>(parts.size());
+        try {
+            for (ForkJoinTask<GenerationResult> task : tasks) results.add(task.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.forEach(t -> t.cancel(false));
+            throw new GenerationCancelledException();
+        } catch (ExecutionException e) {
+            tasks.forEach(t -> t.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Local search of a partition failed", e.getCause());
+        }
+        return results;
+    }
+
+    private GenerationResult improve(Prepared part, Start best, Long seed, long budgetNanos, long hardDeadline,
+                                     GenerationProgress progress) {
+        GenerationResult before = best.result();
+        if (budgetNanos == 0) return before;
+
+        progress.phase(GenerationPhase.IMPROVING);
+        long maxMoves = seed == null ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(budgetNanos)) * SEEDED_MOVES_PER_MILLI;
+        // a seeded search runs on its move budget, so only the hard deadline bounds its time
+        BooleanSupplier pastHardDeadline = () -> hardDeadline != Long.MAX_VALUE && System.nanoTime() - hardDeadline >= 0;
+        LocalSearchImprover.Outcome outcome = LocalSearchImprover.improve(part.candidates(), best.drafts(), part.groups(),
+                budgetNanos, maxMoves, new Random(seed == null ? 0L : seed),
+                () -> progress.isCancelled() || pastHardDeadline.getAsBoolean());
+        progress.checkCancelled();
+        if (seed != null && outcome.movesTried() < maxMoves && pastHardDeadline.getAsBoolean()) throw seededTimeout();
+
+        GenerationResult after = evaluate(part.candidates(), outcome.drafts(), before.startsCompleted());
+
+        log.info("Local search: objective {} -> {} ({} of {} moves accepted)",
+                before.objective(), after.objective(), outcome.movesAccepted(), outcome.movesTried());
+
+        // the search optimizes unrounded team scores, so only keep its result if the reported objective agrees
+        if (after.objective() <= before.objective()) return before;
+        progress.bestObjective(after.objective());
+        return new GenerationResult(after.teams(), after.objective(), before.objective(),
+                before.startsCompleted(), outcome.movesAccepted());
+    }
+
+    private static GenerationResult evaluate(CandidatePool pool, List<TeamDraft2> drafts, int startsCompleted) {
+        List<GeneratedTeam> teams = new ArrayList<>(drafts.size());
+        List<Double> scores = new ArrayList<>(drafts.size());
+
+        for (TeamDraft2 draft : drafts) {
+            List<Candidate> members = new ArrayList<>(draft.size());
+            for (int k = 0; k < draft.size(); k++) members.add(pool.candidate(draft.member(k)));
+            double score = TeamCompatibilityScoring.teamCompatibilityScore(members);
+            scores.add(score);
+            teams.add(new GeneratedTeam(draft.name(), score, members));
+        }
+
+        double objective = GenerationObjective.score(scores, pool, drafts.isEmpty() ? null : drafts.get(0));
+        return new GenerationResult(teams, objective, objective, startsCompleted, 0);
+    }
+}
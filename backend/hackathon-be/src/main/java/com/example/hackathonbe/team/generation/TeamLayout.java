@@ -0,0 +1,35 @@
+package com.example.hackathonbe.team.generation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How many teams to build and the seat count of each one.
+ */
+final class TeamLayout {
+    private final int numberOfTeams;
+    private final List<Integer> maxSizesPerTeam;
+
+    private TeamLayout(int numberOfTeams, List<Integer> maxSizesPerTeam) {
+        this.numberOfTeams = numberOfTeams;
+        this.maxSizesPerTeam = maxSizesPerTeam;
+    }
+
+    int numberOfTeams() { return numberOfTeams; }
+    List<Integer> maxSizesPerTeam() { return maxSizesPerTeam; }
+
+    static TeamLayout compute(int totalCandidates, int targetTeamSize) {
+        int teams = (int) Math.ceil((double) totalCandidates / (double) targetTeamSize);
+        teams = Math.max(1, teams);
+
+        int base = totalCandidates / teams;
+        int extra = totalCandidates % teams;
+
+        List<Integer> maxSizes = new ArrayList<>(teams);
+        for (int i = 0; i < teams; i++) {
+            maxSizes.add(base + (i < extra ? 1 : 0));
+        }
+
+        return new TeamLayout(teams, maxSizes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.hackathonbe.team.generation;
+
+/**
+ * Power-team pick scoring used by the greedy fill.
+ */
+final class TeamPickScoring {
+    private TeamPickScoring() {}
+
+    // Motivation dominates. Variety is still meaningful.
+    // Power team leans even harder toward motivation.
+    static double pickScore(TeamDraft2 team, CandidatePool pool, int i, boolean powerTeam) {
+        if (powerTeam && pool.motivation(i) < 3) return Double.NEGATIVE_INFINITY;
+
+        double motivationW = powerTeam ? 4.2 : 2.8;
+        double newRoleW = 1.2;
+        double newSkillW = 0.10;
+        double duplicateRolePenalty = 0.6;
+
+        double score = 0.0;
+
+        // Motivation normalized to 0..1 based on 1..5 (your current scale)
+        score += motivationW * pool.motivation01(i);
+
+        // New role bonus; if role already exists, apply penalty to avoid stacking same role too much
+        if (team.hasRole(pool.roleBucket(i))) score -= duplicateRolePenalty;
+        else score += newRoleW;
+
+        // Skill bucket bonuses (count only new skill buckets)
+        int newSkillCount = Long.bitCount(pool.skillMask(i) & ~team.skillMask());
+        score += newSkillW * newSkillCount;
+
+        // Small experience nudge (optional): helps power team avoid all-newcomers or all-vets
+        score += 0.08 * pool.years01(i);
+
+        return score;
+    }
+
+    static double normalizeMotivation01(int motivation) {
+        int clamped = Math.max(1, Math.min(5, motivation));
+        return (clamped - 1) / 4.0;
+    }
+
+    static double normalizeYears01(int years) {
+        int clamped = Math.max(0, years);
+        double capped = Math.min(20.0, clamped);
+        return capped / 20.0;
+    }
+}
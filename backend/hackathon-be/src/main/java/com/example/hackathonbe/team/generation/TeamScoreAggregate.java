@@ -0,0 +1,80 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running aggregates behind a team's score, kept with the team so member edits rescore in O(1).
+ * <p>
+ * Holds the member count, the sums and sums of squares of the clamped motivation and experience
+ * values, and multiset counts of role and skill {@link TeamCompatibilityScoring#varietyKey keys}.
+ * {@link #score()} always equals {@link TeamCompatibilityScoring#teamCompatibilityScore} over the
+ * same members. Serialized as JSON (field access) into {@code team.score_aggregate}.
+ */
+@JsonAutoDetect(
+        fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE
+)
+public final class TeamScoreAggregate {
+
+    private int members;
+    private long motivationSum;
+    private long motivationSumSq;
+    private long yearsSum;
+    private long yearsSumSq;
+    private Map<String, Integer> roleCounts = new HashMap<>();
+    private Map<String, Integer> skillCounts = new HashMap<>();
+
+    public static TeamScoreAggregate of(Collection<Candidate> members) {
+        TeamScoreAggregate aggregate = new TeamScoreAggregate();
+        if (members != null) members.forEach(aggregate::add);
+        return aggregate;
+    }
+
+    public int members() { return members; }
+
+    public void add(Candidate c) {
+        apply(c, 1);
+    }
+
+    public void remove(Candidate c) {
+        if (members == 0) return;
+        apply(c, -1);
+    }
+
+    /** Team score in 0..5, rounded to two decimals. */
+    public double score() {
+        if (members == 0) return 0.0;
+        double weighted = TeamCompatibilityScoring.weightedScore(members,
+                motivationSum, motivationSumSq, yearsSum, yearsSumSq, roleCounts.size(), skillCounts.size());
+        return TeamCompatibilityScoring.toTeamScore(weighted);
+    }
+
+    private void apply(Candidate c, int sign) {
+        int m = TeamCompatibilityScoring.motivationLevel(c.motivation());
+        int y = TeamCompatibilityScoring.cappedYears(c.yearsExperience());
+
+        members += sign;
+        motivationSum += sign * m;
+        motivationSumSq += sign * (long) m * m;
+        yearsSum += sign * y;
+        yearsSumSq += sign * (long) y * y;
+
+        count(roleCounts, c.roleLabel(), sign);
+        for (String s : c.skillLabels()) count(skillCounts, s, sign);
+    }
+
+    private static void count(Map<String, Integer> counts, String label, int sign) {
+        String key = TeamCompatibilityScoring.varietyKey(label);
+        if (key.isBlank()) return;
+        // drop keys at zero so the map size is the number of distinct keys
+        counts.compute(key, (k, n) -> {
+            int next = (n == null ? 0 : n) + sign;
+            return next > 0 ? next : null;
+        });
+    }
+}
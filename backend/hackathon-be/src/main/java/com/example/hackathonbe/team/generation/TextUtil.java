@@ -0,0 +1,11 @@
+package com.example.hackathonbe.team.generation;
+
+public final class TextUtil {
+    private TextUtil() {}
+
+    public static String safe(String text) {
+        if (text == null) return "";
+        String t = text.trim();
+        return t.isBlank() ? "" : t;
+    }
+}
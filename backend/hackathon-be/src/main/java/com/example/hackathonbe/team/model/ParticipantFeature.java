@@ -0,0 +1,52 @@
+package com.example.hackathonbe.team.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Type;
+
+/**
+ * Team-generation features of one questionnaire answer, extracted once from the answer JSON.
+ * Rows are written by {@code ParticipantFeatureService}; the entity is only used for reads.
+ */
+@Entity
+@Table(name = "participant_features")
+@Data
+public class ParticipantFeature {
+
+    /** Same id as the {@code QuestionnaireAnswer} the row was extracted from. */
+    @Id
+    @Column(name = "answer_id")
+    private Long answerId;
+
+    @Column(name = "questionnaire_id", nullable = false)
+    private Long questionnaireId;
+
+    @Column(name = "participant_id", nullable = false)
+    private Long participantId;
+
+    private String roleLabel;
+
+    /** JSON array of skill labels, in answer order. */
+    @Type(JsonType.class)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private JsonNode skillLabels;
+
+    private int motivation;
+
+    private int yearsExperience;
+
+    private boolean consent;
+
+    /** Result of the eligibility check (age verification) at extraction time. */
+    private boolean eligible;
+
+    /** JSON object of answer key to answer label, for the answered single-choice questions. */
+    @Type(JsonType.class)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private JsonNode answerLabels;
+
+    /** {@code ParticipantFeatureService.EXTRACTOR_VERSION} the row was extracted with. */
+    private int extractorVersion;
+}
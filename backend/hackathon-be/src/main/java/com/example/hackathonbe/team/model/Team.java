@@ -1,8 +1,11 @@
 package com.example.hackathonbe.team.model;
 
 import com.example.hackathonbe.hackathon.model.Hackathon;
+import com.example.hackathonbe.team.generation.TeamScoreAggregate;
+import com.vladmihalcea.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Type;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -22,6 +25,11 @@ public class Team {
 
     private Double score;
 
+    /** Aggregates behind {@link #score}, so member edits can rescore without reloading the team. */
+    @Type(JsonType.class)
+    @Column(name = "score_aggregate", columnDefinition = "jsonb")
+    private TeamScoreAggregate scoreAggregate;
+
     private UUID generationId; // to group one “run”
 
     @Column(nullable = false, columnDefinition = "timestamptz")
@@ -0,0 +1,69 @@
+package com.example.hackathonbe.team.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with multi-row {@code INSERT ... VALUES (...), (...)} statements, as many rows per
+ * statement as the bind-parameter limit allows.
+ */
+final class MultiRowInsert {
+
+    /** Stay below the PostgreSQL limit of 32767 bind parameters per statement. */
+    static final int MAX_PARAMETERS_PER_STATEMENT = 32_000;
+
+    private MultiRowInsert() {}
+
+    @FunctionalInterface
+    interface RowBinder<T> {
+        /** Binds {@code row} starting at 1-based parameter index {@code firstIndex}. */
+        void bind(PreparedStatement ps, int firstIndex, T row) throws SQLException;
+    }
+
+    /** A value tuple of {@code params} plain placeholders: {@code (?, ?, ...)}. */
+    static String tuple(int params) {
+        return "(" + String.join(", ", Collections.nCopies(params, "?")) + ")";
+    }
+
+    /**
+     * @param insertPrefix everything up to and including {@code values }
+     * @param tuple        the value tuple repeated for every row, e.g. {@code (?, ?::jsonb)}
+     * @param suffix       appended after the value tuples (e.g. an {@code on conflict} clause), may be empty
+     */
+    static <T> void execute(JdbcTemplate jdbcTemplate, String insertPrefix, String tuple, String suffix,
+                            List<T> rows, RowBinder<T> binder) {
+        if (rows == null || rows.isEmpty()) return;
+
+        int paramsPerRow = (int) tuple.chars().filter(ch -> ch == '?').count();
+        int rowsPerStatement = MAX_PARAMETERS_PER_STATEMENT / paramsPerRow;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<T> chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+            jdbcTemplate.update(sql(insertPrefix, tuple, suffix, chunk.size()), ps -> {
+                int index = 1;
+                for (T row : chunk) {
+                    binder.bind(ps, index, row);
+                    index += paramsPerRow;
+                }
+            });
+        }
+    }
+
+    static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) ps.setNull(index, sqlType);
+        else ps.setObject(index, value, sqlType);
+    }
+
+    private static String sql(String insertPrefix, String tuple, String suffix, int rowCount) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + suffix.length() + rowCount * (tuple.length() + 2));
+        sql.append(insertPrefix);
+        for (int r = 0; r < rowCount; r++) {
+            if (r > 0) sql.append(", ");
+            sql.append(tuple);
+        }
+        return sql.append(suffix).toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hackathonbe.team.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based writes for the {@code participant_features} table. Rows are upserted on the answer id,
+ * so re-submitting or re-importing an answer overwrites its previous features. Also reads single
+ * answer labels out of the jsonb column, which the JPA model can't express.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipantFeatureJdbcRepository {
+
+    private static final String COLUMNS = "insert into participant_features (answer_id, questionnaire_id, participant_id, "
+            + "role_label, skill_labels, motivation, years_experience, consent, eligible, answer_labels, extractor_version) values ";
+    private static final String TUPLE = "(?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?::jsonb, ?)";
+    private static final String ON_CONFLICT = " on conflict (answer_id) do update set "
+            + "questionnaire_id = excluded.questionnaire_id, participant_id = excluded.participant_id, "
+            + "role_label = excluded.role_label, skill_labels = excluded.skill_labels, "
+            + "motivation = excluded.motivation, years_experience = excluded.years_experience, "
+            + "consent = excluded.consent, eligible = excluded.eligible, "
+            + "answer_labels = excluded.answer_labels, extractor_version = excluded.extractor_version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record FeatureRow(
+            Long answerId,
+            Long questionnaireId,
+            Long participantId,
+            String roleLabel,
+            String skillLabelsJson,
+            int motivation,
+            int yearsExperience,
+            boolean consent,
+            boolean eligible,
+            String answerLabelsJson,
+            int extractorVersion
+    ) {}
+
+    public void upsert(List<FeatureRow> rows) {
+        MultiRowInsert.execute(jdbcTemplate, COLUMNS, TUPLE, ON_CONFLICT, rows, (ps, i, r) -> {
+            ps.setLong(i, r.answerId());
+            ps.setLong(i + 1, r.questionnaireId());
+            ps.setLong(i + 2, r.participantId());
+            ps.setString(i + 3, r.roleLabel());
+            ps.setString(i + 4, r.skillLabelsJson());
+            ps.setInt(i + 5, r.motivation());
+            ps.setInt(i + 6, r.yearsExperience());
+            ps.setBoolean(i + 7, r.consent());
+            ps.setBoolean(i + 8, r.eligible());
+            ps.setString(i + 9, r.answerLabelsJson());
+            ps.setInt(i + 10, r.extractorVersion());
+        });
+    }
+
+    /**
+     * Each participant's label for the answer {@code key} (see {@code Candidate.answerLabels}); participants
+     * who didn't answer it are left out.
+     */
+    public Map<Long, String> findAnswerLabels(Long questionnaireId, String key) {
+        Map<Long, String> labels = new HashMap<>();
+        // ->> rather than the jsonb ? operator, which JDBC would take for a parameter
+        jdbcTemplate.query("select participant_id, answer_labels ->> ? from participant_features "
+                        + "where questionnaire_id = ? and answer_labels ->> ? is not null",
+                rs -> { labels.put(rs.getLong(1), rs.getString(2)); },
+                key, questionnaireId, key);
+        return labels;
+    }
+
+    public int deleteByQuestionnaireId(Long questionnaireId) {
+        return jdbcTemplate.update("delete from participant_features where questionnaire_id = ?", questionnaireId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hackathonbe.team.repository;
+
+import com.example.hackathonbe.team.dto.ParticipantFeatureRow;
+import com.example.hackathonbe.team.model.ParticipantFeature;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.stream.Stream;
+
+public interface ParticipantFeatureRepository extends JpaRepository<ParticipantFeature, Long> {
+
+    long countByQuestionnaireIdAndExtractorVersion(Long questionnaireId, int extractorVersion);
+
+    /**
+     * Eligible candidates of a hackathon, as one streamed query over the feature table.
+     * Consent is only enforced when {@code consentRequired} is set.
+     * Must be consumed inside a transaction and closed (try-with-resources).
+     */
+    @Query("""
+            select new com.example.hackathonbe.team.dto.ParticipantFeatureRow(
+                f.participantId, f.roleLabel, f.skillLabels, f.motivation, f.yearsExperience)
+            from ParticipantFeature f
+            where f.questionnaireId = :questionnaireId
+              and f.eligible = true
+              and (f.consent = true or :consentRequired = false)
+              and exists (
+                  select 1 from Hackathon h join h.participants p
+                  where h.id = :hackathonId and p.id = f.participantId
+              )
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ParticipantFeatureRow> streamCandidates(@Param("questionnaireId") Long questionnaireId,
+                                                   @Param("hackathonId") Long hackathonId,
+                                                   @Param("consentRequired") boolean consentRequired);
+}
@@ -0,0 +1,60 @@
+package com.example.hackathonbe.team.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Provenance of persisted generations in {@code team_generation}: seed, input hash and algorithm version.
+ * Rows outlive their teams, so the seed of any past generation can be looked up to reproduce it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamGenerationJdbcRepository {
+
+    private static final String REUSABLE_QUERY = """
+            select g.id
+            from team_generation g
+            where g.hackathon_id = ? and g.input_hash = ? and g.edited_at is null
+              and exists (select 1 from team t where t.generation_id = g.id)
+            order by g.created_at desc
+            limit 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record GenerationRow(
+            UUID id,
+            Long hackathonId,
+            Long seed,
+            String inputHash,
+            int algorithmVersion,
+            OffsetDateTime createdAt
+    ) {}
+
+    public void insert(GenerationRow row) {
+        jdbcTemplate.update("insert into team_generation (id, hackathon_id, seed, input_hash, algorithm_version, created_at) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                row.id(), row.hackathonId(), row.seed(), row.inputHash(), row.algorithmVersion(), row.createdAt());
+    }
+
+    /**
+     * The generation whose teams the hackathon currently has, if it was generated from {@code inputHash}
+     * and nobody has edited its teams since.
+     */
+    public Optional<UUID> findReusable(Long hackathonId, String inputHash) {
+        return jdbcTemplate.query(REUSABLE_QUERY, (rs, i) -> rs.getObject(1, UUID.class), hackathonId, inputHash)
+                .stream()
+                .findFirst();
+    }
+
+    /** Marks a generation as edited by hand; it is no longer returned by {@link #findReusable}. */
+    public void markEdited(UUID generationId) {
+        if (generationId == null) return;
+        jdbcTemplate.update("update team_generation set edited_at = now() where id = ? and edited_at is null", generationId);
+    }
+}
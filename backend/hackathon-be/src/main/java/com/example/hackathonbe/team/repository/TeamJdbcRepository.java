@@ -0,0 +1,140 @@
+package com.example.hackathonbe.team.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Set-based writes for generated teams, bypassing the entity lifecycle.
+ * <p>
+ * Rows are written with {@link MultiRowInsert}, so thousands of teams cost a handful of round trips.
+ * Ids are generated up front by the caller, which lets member rows reference their team without
+ * reading anything back. Callers must run inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamJdbcRepository {
+
+    private static final String TEAM_COLUMNS = "insert into team (id, hackathon_id, name, score, score_aggregate, "
+            + "generation_id, created_at) values ";
+    private static final String TEAM_TUPLE = "(?, ?, ?, ?, ?::jsonb, ?, ?)";
+
+    private static final String MEMBER_COLUMNS = "insert into team_member (id, team_id, generation_id, participant_id, "
+            + "role_snapshot, skills_snapshot, motivation_snapshot, years_experience_snapshot) values ";
+    private static final String MEMBER_TUPLE = MultiRowInsert.tuple(8);
+
+    private static final String ROSTER_QUERY = """
+            select t.name, t.score, p.id, p.first_name, p.last_name, p.email,
+                   m.role_snapshot, m.skills_snapshot, m.motivation_snapshot, m.years_experience_snapshot
+            from team t
+            left join team_member m on m.team_id = t.id
+            left join participants p on p.id = m.participant_id
+            where t.hackathon_id = ?
+            order by t.name, t.id, p.last_name, p.first_name, p.id
+            """;
+    private static final int ROSTER_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TeamRow(
+            UUID id,
+            Long hackathonId,
+            String name,
+            Double score,
+            String scoreAggregateJson,
+            UUID generationId,
+            OffsetDateTime createdAt
+    ) {}
+
+    public record TeamMemberRow(
+            UUID id,
+            UUID teamId,
+            UUID generationId,
+            Long participantId,
+            String roleSnapshot,
+            String skillsSnapshot,
+            Integer motivationSnapshot,
+            Integer yearsExperienceSnapshot
+    ) {}
+
+    /** One exported roster line: a member with their team, or a team without members (member fields null). */
+    public record RosterRow(
+            String teamName,
+            Double teamScore,
+            Long participantId,
+            String firstName,
+            String lastName,
+            String email,
+            String role,
+            String skills,
+            Integer motivation,
+            Integer yearsExperience
+    ) {}
+
+    /**
+     * Streams the hackathon's roster ordered by team, reading {@value #ROSTER_FETCH_SIZE} rows per fetch.
+     * Postgres only uses a cursor inside a transaction, so call this in one to keep memory flat.
+     */
+    public void streamRoster(Long hackathonId, Consumer<RosterRow> sink) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ROSTER_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(ROSTER_FETCH_SIZE);
+            ps.setLong(1, hackathonId);
+            return ps;
+        }, (ResultSet rs) -> {
+            sink.accept(new RosterRow(
+                    rs.getString(1),
+                    rs.getObject(2, Double.class),
+                    rs.getObject(3, Long.class),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getString(7),
+                    rs.getString(8),
+                    rs.getObject(9, Integer.class),
+                    rs.getObject(10, Integer.class)
+            ));
+        });
+    }
+
+    /**
+     * Deletes every team of the hackathon in one statement; members go with them via
+     * {@code ON DELETE CASCADE} on {@code team_member.team_id}.
+     */
+    public int deleteByHackathonId(Long hackathonId) {
+        return jdbcTemplate.update("delete from team where hackathon_id = ?", hackathonId);
+    }
+
+    public void insertTeams(List<TeamRow> rows) {
+        MultiRowInsert.execute(jdbcTemplate, TEAM_COLUMNS, TEAM_TUPLE, "", rows, (ps, i, r) -> {
+            ps.setObject(i, r.id());
+            ps.setLong(i + 1, r.hackathonId());
+            ps.setString(i + 2, r.name());
+            MultiRowInsert.setNullable(ps, i + 3, r.score(), Types.DOUBLE);
+            ps.setString(i + 4, r.scoreAggregateJson());
+            ps.setObject(i + 5, r.generationId());
+            ps.setObject(i + 6, r.createdAt());
+        });
+    }
+
+    public void insertMembers(List<TeamMemberRow> rows) {
+        MultiRowInsert.execute(jdbcTemplate, MEMBER_COLUMNS, MEMBER_TUPLE, "", rows, (ps, i, r) -> {
+            ps.setObject(i, r.id());
+            ps.setObject(i + 1, r.teamId());
+            ps.setObject(i + 2, r.generationId());
+            ps.setLong(i + 3, r.participantId());
+            ps.setString(i + 4, r.roleSnapshot());
+            ps.setString(i + 5, r.skillsSnapshot());
+            MultiRowInsert.setNullable(ps, i + 6, r.motivationSnapshot(), Types.INTEGER);
+            MultiRowInsert.setNullable(ps, i + 7, r.yearsExperienceSnapshot(), Types.INTEGER);
+        });
+    }
+}
@@ -2,7 +2,10 @@ package com.example.hackathonbe.team.repository;
 
 import com.example.hackathonbe.team.model.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +21,13 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, UUID> {
     Optional<TeamMember> findByGenerationIdAndParticipantId(UUID generationId, Long participantId);
 
     boolean existsByGenerationIdAndParticipantId(UUID generationId, Long participantId);
+
+    /** The participants among {@code participantIds} that already have a team in the generation. */
+    @Query("""
+            select m.participantId
+            from TeamMember m
+            where m.generationId = :generationId and m.participantId in :participantIds
+            """)
+    List<Long> findParticipantIdsInGeneration(@Param("generationId") UUID generationId,
+                                              @Param("participantIds") Collection<Long> participantIds);
 }
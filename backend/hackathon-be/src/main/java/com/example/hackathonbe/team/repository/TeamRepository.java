@@ -1,7 +1,10 @@
 package com.example.hackathonbe.team.repository;
 
+import com.example.hackathonbe.team.dto.TeamBoardRow;
 import com.example.hackathonbe.team.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,4 +16,21 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
 
     List<Team> findByHackathonIdOrderByScoreDesc(Long hackathonId);
     List<Team> findByHackathonIdOrderByNameAsc(Long hackathonId);
+
+    /**
+     * The hackathon's teams with their members and participants in one query, ordered by team name,
+     * then member name. Teams without members yield one row with null member fields.
+     */
+    @Query("""
+            select new com.example.hackathonbe.team.dto.TeamBoardRow(
+                t.id, t.name, t.score, t.generationId, t.createdAt,
+                m.participantId, m.roleSnapshot, m.skillsSnapshot, m.motivationSnapshot, m.yearsExperienceSnapshot,
+                p.id, p.firstName, p.lastName, p.email)
+            from Team t
+            left join t.members m
+            left join Participant p on p.id = m.participantId
+            where t.hackathon.id = :hackathonId
+            order by t.name, t.id, p.lastName, p.firstName, m.participantId
+            """)
+    List<TeamBoardRow> findBoardRows(@Param("hackathonId") Long hackathonId);
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.team.generation.GenerationPhase;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.model.GenerationJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+/**
+ * In-memory state of one background generation run. Written by the worker thread
+ * through {@link GenerationProgress}, read by polling requests, so every field is volatile.
+ */
+class GenerationJob implements GenerationProgress {
+
+    private final UUID id = UUID.randomUUID();
+    private final Long hackathonId;
+    private final GenerationRequest request;
+    private final OffsetDateTime createdAt = OffsetDateTime.now();
+
+    private volatile GenerationJobStatus status = GenerationJobStatus.QUEUED;
+    private volatile GenerationPhase phase;
+    private volatile int candidatesProcessed;
+    private volatile int candidatesTotal;
+    private volatile Double bestObjective;
+    private volatile UUID generationId;
+    private volatile String error;
+    private volatile OffsetDateTime finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+
+    GenerationJob(Long hackathonId, GenerationRequest request) {
+        this.hackathonId = hackathonId;
+        this.request = request;
+    }
+
+    // ---- GenerationProgress (worker thread) ----
+
+    @Override
+    public void phase(GenerationPhase phase) {
+        this.phase = phase;
+        this.candidatesProcessed = 0;
+        this.candidatesTotal = 0;
+    }
+
+    @Override
+    public void candidatesProcessed(int processed, int total) {
+        this.candidatesProcessed = processed;
+        this.candidatesTotal = total;
+    }
+
+    @Override
+    public void bestObjective(double objective) {
+        this.bestObjective = objective;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested || Thread.currentThread().isInterrupted();
+    }
+
+    // ---- lifecycle ----
+
+    synchronized boolean start() {
+        if (status != GenerationJobStatus.QUEUED) return false;
+        status = GenerationJobStatus.RUNNING;
+        return true;
+    }
+
+    synchronized void succeed(UUID generationId) {
+        this.generationId = generationId;
+        finish(GenerationJobStatus.SUCCEEDED);
+    }
+
+    synchronized void fail(String error) {
+        this.error = error;
+        finish(GenerationJobStatus.FAILED);
+    }
+
+    synchronized void cancelled() {
+        finish(GenerationJobStatus.CANCELLED);
+    }
+
+    /** Queued jobs are cancelled right away; running jobs stop at their next cancellation check. */
+    synchronized void requestCancel() {
+        if (status.isFinished()) return;
+        cancelRequested = true;
+        if (status == GenerationJobStatus.QUEUED) {
+            if (future != null) future.cancel(false);
+            finish(GenerationJobStatus.CANCELLED);
+        }
+    }
+
+    private void finish(GenerationJobStatus status) {
+        if (this.status.isFinished()) return;
+        this.status = status;
+        this.finishedAt = OffsetDateTime.now();
+    }
+
+    void setFuture(Future<?> future) { this.future = future; }
+
+    // ---- read side ----
+
+    UUID getId() { return id; }
+    Long getHackathonId() { return hackathonId; }
+    GenerationRequest getRequest() { return request; }
+    OffsetDateTime getCreatedAt() { return createdAt; }
+    GenerationJobStatus getStatus() { return status; }
+    GenerationPhase getPhase() { return phase; }
+    int getCandidatesProcessed() { return candidatesProcessed; }
+    int getCandidatesTotal() { return candidatesTotal; }
+    Double getBestObjective() { return bestObjective; }
+    UUID getGenerationId() { return generationId; }
+    String getError() { return error; }
+    OffsetDateTime getFinishedAt() { return finishedAt; }
+    boolean isCancelRequested() { return cancelRequested; }
+}
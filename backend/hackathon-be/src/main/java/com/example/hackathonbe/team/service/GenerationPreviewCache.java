@@ -0,0 +1,67 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.team.dto.GenerationPreviewDTO;
+import com.example.hackathonbe.team.generation.GenerationConstraints;
+import com.example.hackathonbe.team.generation.GenerationResult;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded LRU cache of generation previews, addressable by input key (to reuse a preview)
+ * and by preview id (to commit it). The least recently used entry is evicted first.
+ */
+final class GenerationPreviewCache {
+
+    /** Everything a preview depends on; a change of any part means a different preview. */
+    record Key(
+            Long hackathonId,
+            Long questionnaireId,
+            long questionsVersion,
+            long answersVersion,
+            int teamSize,
+            Integer starts,
+            GenerationConstraints constraints
+    ) {}
+
+    /** {@code inputHash} is recorded with the generation when the preview is committed. */
+    record Entry(Key key, GenerationResult result, String inputHash, GenerationPreviewDTO preview) {
+        UUID id() { return preview.previewId(); }
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, Entry> byKey = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Entry> byId = new HashMap<>();
+
+    GenerationPreviewCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    synchronized Entry get(Key key) {
+        return byKey.get(key);
+    }
+
+    synchronized Entry get(UUID previewId) {
+        Entry entry = byId.get(previewId);
+        if (entry != null) byKey.get(entry.key()); // touch for LRU order
+        return entry;
+    }
+
+    synchronized void put(Entry entry) {
+        Entry replaced = byKey.put(entry.key(), entry);
+        if (replaced != null) byId.remove(replaced.id());
+        byId.put(entry.id(), entry);
+
+        while (byKey.size() > maxEntries) {
+            Entry eldest = byKey.values().iterator().next();
+            byKey.remove(eldest.key());
+            byId.remove(eldest.id());
+        }
+    }
+
+    synchronized int size() {
+        return byKey.size();
+    }
+}
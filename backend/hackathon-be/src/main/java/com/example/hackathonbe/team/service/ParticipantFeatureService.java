@@ -0,0 +1,153 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.hackathon.dto.AnswerDataRow;
+import com.example.hackathonbe.hackathon.model.Questionnaire;
+import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireAnswerRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
+import com.example.hackathonbe.team.generation.Candidate;
+import com.example.hackathonbe.team.generation.Eligibility;
+import com.example.hackathonbe.team.generation.OptionLabelIndex;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository.FeatureRow;
+import com.example.hackathonbe.team.repository.ParticipantFeatureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@code participant_features} table in step with questionnaire answers.
+ * <p>
+ * Role, skills, motivation, experience, consent, eligibility and the labels of single-choice answers
+ * (used to partition candidates) are extracted from the answer JSON
+ * once, when the answer is stored, so team generation reads flat rows instead of re-parsing every
+ * answer. Changing a questionnaire's questions drops its features (labels may have changed); they are
+ * rebuilt from the answers the next time teams are generated. So are rows written by an older
+ * {@link #EXTRACTOR_VERSION}.
+ * <p>
+ * Both paths bump the questionnaire's change counters, which key cached generation previews.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantFeatureService {
+
+    /**
+     * Bumped whenever a change to the extraction ({@code Candidate.fromData}, {@code Candidate.answerLabels}, {@code OptionLabelIndex},
+     * {@code Eligibility}) alters the features stored for the same answer.
+     */
+    public static final int EXTRACTOR_VERSION = 3;
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final ParticipantFeatureRepository featureRepository;
+    private final ParticipantFeatureJdbcRepository featureJdbcRepository;
+    private final QuestionnaireAnswerRepository questionnaireAnswerRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Re-extracts the features of one stored answer. */
+    @Transactional
+    public void refresh(QuestionnaireAnswer answer) {
+        refreshAll(answer.getQuestionnaire(), List.of(answer));
+    }
+
+    /** Re-extracts the features of stored answers to the same questionnaire, in one round trip per chunk. */
+    @Transactional
+    public void refreshAll(Questionnaire questionnaire, Collection<QuestionnaireAnswer> answers) {
+        if (answers == null || answers.isEmpty()) return;
+
+        OptionLabelIndex optionIndex = OptionLabelIndex.from(questionnaire.getQuestions());
+        List<FeatureRow> rows = new ArrayList<>(answers.size());
+        for (QuestionnaireAnswer answer : answers) {
+            rows.add(extract(answer.getId(), questionnaire.getId(), answer.getParticipant().getId(),
+                    answer.isConsent(), answer.getData(), optionIndex));
+        }
+        featureJdbcRepository.upsert(rows);
+        questionnaireRepository.bumpAnswersVersion(questionnaire.getId());
+    }
+
+    /** Drops the features of a questionnaire whose questions changed; see {@link #ensureComplete}. */
+    @Transactional
+    public void invalidate(Long questionnaireId) {
+        if (questionnaireId == null) return;
+        featureJdbcRepository.deleteByQuestionnaireId(questionnaireId);
+        questionnaireRepository.bumpQuestionsVersion(questionnaireId);
+    }
+
+    /**
+     * Rebuilds the features of a questionnaire unless every answer has a row from the current
+     * {@link #EXTRACTOR_VERSION}, e.g. after {@link #invalidate}, for answers stored before the feature
+     * table existed or after a deploy that changed the extraction.
+     */
+    @Transactional
+    public void ensureComplete(Questionnaire questionnaire) {
+        long answers = questionnaireAnswerRepository.countByQuestionnaireId(questionnaire.getId());
+        long features = featureRepository.countByQuestionnaireIdAndExtractorVersion(questionnaire.getId(), EXTRACTOR_VERSION);
+        if (answers != features) {
+            log.info("Rebuilding participant features of questionnaire {} ({} answers, {} current feature rows)",
+                    questionnaire.getId(), answers, features);
+            rebuild(questionnaire);
+        }
+    }
+
+    /** Replaces all features of a questionnaire with freshly extracted ones. */
+    @Transactional
+    public void rebuild(Questionnaire questionnaire) {
+        Long questionnaireId = questionnaire.getId();
+        OptionLabelIndex optionIndex = OptionLabelIndex.from(questionnaire.getQuestions());
+
+        featureJdbcRepository.deleteByQuestionnaireId(questionnaireId);
+
+        List<FeatureRow> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        try (Stream<AnswerDataRow> answers = questionnaireAnswerRepository.streamAnswerData(questionnaireId)) {
+            Iterator<AnswerDataRow> it = answers.iterator();
+            while (it.hasNext()) {
+                AnswerDataRow row = it.next();
+                batch.add(extract(row.answerId(), questionnaireId, row.participantId(), row.consent(), row.data(), optionIndex));
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    featureJdbcRepository.upsert(batch);
+                    batch.clear();
+                }
+            }
+        }
+        featureJdbcRepository.upsert(batch);
+    }
+
+    private FeatureRow extract(Long answerId, Long questionnaireId, Long participantId, boolean consent,
+                               JsonNode data, OptionLabelIndex optionIndex) {
+        Candidate c = Candidate.fromData(participantId, data, optionIndex);
+        return new FeatureRow(
+                answerId,
+                questionnaireId,
+                participantId,
+                c.roleLabel(),
+                toJson(c.skillLabels()),
+                c.motivation(),
+                c.yearsExperience(),
+                consent,
+                Eligibility.isAllowed(data),
+                toJson(Candidate.answerLabels(data, optionIndex)),
+                EXTRACTOR_VERSION
+        );
+    }
+
+    private String toJson(Object labels) {
+        try {
+            return objectMapper.writeValueAsString(labels);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize feature labels", e);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.tx.AfterCommit;
+import com.example.hackathonbe.team.dto.TeamBoardEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Server-Sent Events feed of team board changes, one stream per hackathon.
+ * <p>
+ * {@link TeamService} publishes deltas; they are numbered and appended once the writing transaction
+ * commits, so subscribers never see a change that was rolled back. Each stream keeps its last
+ * {@code history} events, which lets a client that reconnects with {@code Last-Event-ID} resume where
+ * it stopped. When that is impossible (the id is too old, or from before a restart or from a stream
+ * that has since been dropped) the client gets a {@link TeamBoardEvent.Type#RESYNC} event and
+ * re-fetches the board.
+ * <p>
+ * Every subscriber has its own queue of pending events, drained in order by a small pool of sender
+ * threads, so a writer never waits for a client and a client that stops reading holds up at most one
+ * sender. A subscriber that is {@code max-pending} events behind is dropped; it reconnects and
+ * resumes or resyncs. Streams are removed when their hackathon is deleted or after they have had no
+ * subscribers and no events for {@code idle-minutes}. State is in memory, like {@link TeamBoardVersions}.
+ */
+@Service
+@Slf4j
+public class TeamBoardFeed {
+
+    /** A published event and its position in the hackathon's stream. */
+    record Event(long seq, TeamBoardEvent payload) {}
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class Stream {
+        /** Prefix of this stream's event ids; a stream created again after removal never resumes the old one's ids. */
+        private final String idPrefix;
+        private long lastSeq;
+        private long lastActivity;
+        private boolean closed;
+        private final ArrayDeque<Event> history = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+
+        Stream(String idPrefix, long now) {
+            this.idPrefix = idPrefix;
+            this.lastActivity = now;
+        }
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong incarnations = new AtomicLong();
+    private final int historySize;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final long idleNanos;
+    private final LongSupplier clock;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, Stream> streams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TeamBoardFeed(
+            @Value("${app.teams.feed.history:1000}") int historySize,
+            @Value("${app.teams.feed.heartbeat-seconds:25}") long heartbeatSeconds,
+            @Value("${app.teams.feed.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${app.teams.feed.send-threads:4}") int sendThreads,
+            @Value("${app.teams.feed.max-pending:256}") int maxPending,
+            @Value("${app.teams.feed.idle-minutes:60}") long idleMinutes
+    ) {
+        this(historySize, heartbeatSeconds, timeoutMinutes, sendThreads, maxPending,
+                TimeUnit.MINUTES.toNanos(Math.max(1, idleMinutes)), System::nanoTime);
+    }
+
+    TeamBoardFeed(int historySize, long heartbeatSeconds, long timeoutMinutes, int sendThreads, int maxPending,
+                  long idleNanos, LongSupplier clock) {
+        this.historySize = Math.max(1, historySize);
+        this.maxPending = Math.max(1, maxPending);
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(Math.max(1, timeoutMinutes));
+        this.idleNanos = idleNanos;
+        this.clock = clock;
+        this.senders = Executors.newFixedThreadPool(Math.max(1, sendThreads), daemonThreads("team-board-feed-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("team-board-feed-heartbeat-"));
+
+        long heartbeat = Math.max(1, heartbeatSeconds);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        for (Stream stream : streams.values()) {
+            synchronized (stream) {
+                stream.closed = true;
+                stream.subscribers.forEach(s -> s.emitter.complete());
+                stream.subscribers.clear();
+            }
+        }
+        streams.clear();
+    }
+
+    /** Appends {@code events} to the hackathon's stream once the current transaction (if any) commits. */
+    public void publish(Long hackathonId, List<TeamBoardEvent> events) {
+        if (hackathonId == null || events.isEmpty()) return;
+        List<TeamBoardEvent> copy = List.copyOf(events);
+        AfterCommit.run(() -> append(hackathonId, copy));
+    }
+
+    /**
+     * Drops the hackathon's stream and ends its subscriptions once the current transaction (if any)
+     * commits; used when the hackathon is deleted.
+     */
+    public void close(Long hackathonId) {
+        if (hackathonId == null) return;
+        AfterCommit.run(() -> {
+            Stream stream = streams.remove(hackathonId);
+            if (stream == null) return;
+            synchronized (stream) {
+                stream.closed = true;
+                List.copyOf(stream.subscribers).forEach(s -> drop(stream, s));
+            }
+        });
+    }
+
+    /**
+     * Opens a subscription. Without {@code lastEventId} only new events are sent, so clients should
+     * subscribe before fetching the board; with one, the missed events are replayed first.
+     */
+    public SseEmitter subscribe(Long hackathonId, String lastEventId) {
+        return subscribe(hackathonId, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long hackathonId, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        withStream(hackathonId, stream -> {
+            emitter.onCompletion(() -> unsubscribe(stream, subscriber));
+            emitter.onTimeout(() -> unsubscribe(stream, subscriber));
+            emitter.onError(e -> unsubscribe(stream, subscriber));
+
+            // queued under the lock: replayed events go out before anything published after this point
+            Optional<List<Event>> replay = replay(stream, lastEventId);
+            stream.subscribers.add(subscriber);
+            stream.lastActivity = clock.getAsLong();
+            enqueue(stream, subscriber, replay.orElseGet(() -> List.of(new Event(stream.lastSeq, TeamBoardEvent.resync()))));
+            return null;
+        });
+        return emitter;
+    }
+
+    /** Events after {@code lastEventId}, or empty when the client has to re-fetch the board instead. */
+    Optional<List<Event>> replay(Long hackathonId, String lastEventId) {
+        Stream stream = streams.get(hackathonId);
+        if (stream == null) return lastEventId == null || lastEventId.isBlank() ? Optional.of(List.of()) : Optional.empty();
+        synchronized (stream) {
+            return replay(stream, lastEventId);
+        }
+    }
+
+    /** Id of event {@code seq} in the hackathon's current stream. */
+    String eventId(Long hackathonId, long seq) {
+        return withStream(hackathonId, stream -> stream.idPrefix + seq);
+    }
+
+    int streamCount() {
+        return streams.size();
+    }
+
+    int subscriberCount(Long hackathonId) {
+        Stream stream = streams.get(hackathonId);
+        if (stream == null) return 0;
+        synchronized (stream) {
+            return stream.subscribers.size();
+        }
+    }
+
+    /** Removes streams that have had no subscribers and no events for the idle period. */
+    void pruneIdle() {
+        long now = clock.getAsLong();
+        streams.forEach((hackathonId, stream) -> {
+            synchronized (stream) {
+                if (stream.subscribers.isEmpty() && now - stream.lastActivity >= idleNanos) {
+                    stream.closed = true;
+                    streams.remove(hackathonId, stream);
+                }
+            }
+        });
+    }
+
+    private Optional<List<Event>> replay(Stream stream, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return Optional.of(List.of());
+
+        if (!lastEventId.startsWith(stream.idPrefix)) return Optional.empty();
+        long seq;
+        try {
+            seq = Long.parseLong(lastEventId.substring(stream.idPrefix.length()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        long oldest = stream.history.isEmpty() ? stream.lastSeq + 1 : stream.history.peekFirst().seq();
+        if (seq > stream.lastSeq || seq < oldest - 1) return Optional.empty();
+
+        return Optional.of(stream.history.stream().filter(e -> e.seq() > seq).toList());
+    }
+
+    private void append(Long hackathonId, List<TeamBoardEvent> events) {
+        withStream(hackathonId, stream -> {
+            List<Event> appended = new ArrayList<>(events.size());
+            for (TeamBoardEvent payload : events) {
+                Event event = new Event(++stream.lastSeq, payload);
+                appended.add(event);
+                stream.history.addLast(event);
+                if (stream.history.size() > historySize) stream.history.removeFirst();
+            }
+            stream.lastActivity = clock.getAsLong();
+
+            List.copyOf(stream.subscribers).forEach(s -> enqueue(stream, s, appended));
+            return null;
+        });
+    }
+
+    /**
+     * Queues events for one subscriber; caller holds the stream's lock. The backlog is checked before
+     * adding, so one large batch of edits never drops a subscriber that was keeping up.
+     */
+    private void enqueue(Stream stream, Subscriber subscriber, List<Event> events) {
+        if (subscriber.closed || events.isEmpty()) return;
+        if (subscriber.pending.size() >= maxPending) {
+            log.debug("Dropping a team board subscriber that is {} events behind", subscriber.pending.size());
+            drop(stream, subscriber);
+            return;
+        }
+        for (Event event : events) {
+            subscriber.pending.addLast(SseEmitter.event()
+                    .id(stream.idPrefix + event.seq())
+                    .name(event.payload().type().name())
+                    .data(event.payload(), MediaType.APPLICATION_JSON));
+        }
+        scheduleDrain(stream, subscriber);
+    }
+
+    /**
+     * Ends a subscription; caller holds the stream's lock. The emitter is completed by a sender, since
+     * completing it waits for a send that may be stuck on the client.
+     */
+    private void drop(Stream stream, Subscriber subscriber) {
+        stream.subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.pending.clear();
+        scheduleDrain(stream, subscriber);
+    }
+
+    private void scheduleDrain(Stream stream, Subscriber subscriber) {
+        if (subscriber.draining) return;
+        subscriber.draining = true;
+        try {
+            senders.execute(() -> drain(stream, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining = false;
+            log.debug("Team board feed is shut down, dropping delivery");
+        }
+    }
+
+    /** Sends the subscriber's queued events in order; only one drain per subscriber runs at a time. */
+    private void drain(Stream stream, Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder next;
+            synchronized (stream) {
+                if (subscriber.closed) {
+                    subscriber.draining = false;
+                    break;
+                }
+                next = subscriber.pending.pollFirst();
+                if (next == null) {
+                    subscriber.draining = false;
+                    return;
+                }
+            }
+            try {
+                subscriber.emitter.send(next);
+            } catch (IOException | IllegalStateException e) {
+                // client went away or the emitter already completed; the container finishes the request
+                unsubscribe(stream, subscriber);
+                return;
+            }
+        }
+        subscriber.emitter.complete();
+    }
+
+    private void heartbeat() {
+        for (Stream stream : streams.values()) {
+            synchronized (stream) {
+                for (Subscriber subscriber : stream.subscribers) {
+                    // a queued event keeps the connection busy anyway
+                    if (!subscriber.pending.isEmpty()) continue;
+                    subscriber.pending.addLast(SseEmitter.event().comment("keep-alive"));
+                    scheduleDrain(stream, subscriber);
+                }
+            }
+        }
+        pruneIdle();
+    }
+
+    private <T> T withStream(Long hackathonId, Function<Stream, T> action) {
+        while (true) {
+            Stream stream = streams.computeIfAbsent(hackathonId,
+                    id -> new Stream(epoch + "." + incarnations.incrementAndGet() + "-", clock.getAsLong()));
+            synchronized (stream) {
+                // lost a race with removal: use the stream that replaces it
+                if (!stream.closed) return action.apply(stream);
+            }
+        }
+    }
+
+    private void unsubscribe(Stream stream, Subscriber subscriber) {
+        synchronized (stream) {
+            if (stream.subscribers.remove(subscriber)) stream.lastActivity = clock.getAsLong();
+            subscriber.closed = true;
+            subscriber.pending.clear();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
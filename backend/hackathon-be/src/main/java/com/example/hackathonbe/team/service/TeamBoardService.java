@@ -0,0 +1,91 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.tx.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serves the team board ({@code GET /api/{hackathonId}/teams}) as ready-made JSON.
+ * <p>
+ * The serialized board is kept per hackathon together with the {@link TeamBoardVersions version} it
+ * was read at, so polls between changes cost neither a query nor serialization, and a client holding
+ * the current ETag gets a 304 without the board being looked at. Boards of the least recently polled
+ * hackathons are dropped first.
+ */
+@Service
+public class TeamBoardService {
+
+    /** Serialized board and its quoted ETag. */
+    public record Board(String etag, byte[] json) {}
+
+    private final TeamService teamService;
+    private final TeamBoardVersions versions;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Board> boards;
+
+    public TeamBoardService(
+            TeamService teamService,
+            TeamBoardVersions versions,
+            ObjectMapper objectMapper,
+            @Value("${app.teams.board-cache.max-hackathons:256}") int maxHackathons
+    ) {
+        this.teamService = teamService;
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        int capacity = Math.max(1, maxHackathons);
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Board> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** The ETag the board has right now; cheap, reads no data. */
+    public String etag(Long hackathonId) {
+        return quote(versions.current(hackathonId));
+    }
+
+    public Board board(Long hackathonId) {
+        // read the version first: data read afterwards is at least that new
+        String etag = etag(hackathonId);
+        synchronized (boards) {
+            Board cached = boards.get(hackathonId);
+            if (cached != null && cached.etag().equals(etag)) return cached;
+        }
+
+        Board board = new Board(etag, serialize(teamService.getTeams(hackathonId)));
+        synchronized (boards) {
+            boards.put(hackathonId, board);
+        }
+        return board;
+    }
+
+    /** Drops a deleted hackathon's board: bumps its version and forgets the cached JSON once the delete commits. */
+    public void forget(Long hackathonId) {
+        if (hackathonId == null) return;
+        versions.bump(hackathonId);
+        AfterCommit.run(() -> {
+            synchronized (boards) {
+                boards.remove(hackathonId);
+            }
+        });
+    }
+
+    private byte[] serialize(Object teams) {
+        try {
+            return objectMapper.writeValueAsBytes(teams);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize team board", e);
+        }
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.tx.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of each hackathon's team board, used as its ETag and to key the serialized board.
+ * <p>
+ * Writers bump a board after their transaction commits, so a reader that sees a new version also sees
+ * the data behind it. Changes that can show up on several boards (participant names) bump a shared
+ * counter instead. Versions start over on restart; the per-process epoch keeps tags issued before a
+ * restart from matching.
+ */
+@Component
+public class TeamBoardVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong shared = new AtomicLong();
+    private final Map<Long, AtomicLong> boards = new ConcurrentHashMap<>();
+
+    /** Opaque version tag of the hackathon's board; changes whenever the board may have changed. */
+    public String current(Long hackathonId) {
+        AtomicLong board = boards.get(hackathonId);
+        return epoch + "-" + shared.get() + "-" + (board == null ? 0 : board.get());
+    }
+
+    /** Marks the hackathon's board changed, once the current transaction (if any) commits. */
+    public void bump(Long hackathonId) {
+        if (hackathonId == null) return;
+        AfterCommit.run(() -> boards.computeIfAbsent(hackathonId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    /** Marks every board changed, once the current transaction (if any) commits. */
+    public void bumpAll() {
+        AfterCommit.run(shared::incrementAndGet);
+    }
+}
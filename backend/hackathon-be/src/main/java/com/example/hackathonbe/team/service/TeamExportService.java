@@ -0,0 +1,137 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository.RosterRow;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Writes a hackathon's team roster (team, score, member contact info and snapshots) straight to an
+ * output stream. Rows are streamed from the database and written as they arrive, so memory stays
+ * flat regardless of event size: CSV goes through a buffered writer, XLSX through a streaming
+ * workbook that keeps only a small window of rows in memory and flushes the rest to a temp file.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamExportService {
+
+    /** Rows of the XLSX sheet kept in memory before older rows are flushed to disk. */
+    private static final int XLSX_ROW_WINDOW = 100;
+
+    static final String[] HEADERS = {
+            "Team", "Team score", "Participant id", "First name", "Last name", "Email",
+            "Role", "Skills", "Motivation", "Years of experience"
+    };
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() { return contentType; }
+        public String extension() { return extension; }
+
+        public static Format parse(String value) {
+            if (value == null || value.isBlank()) return CSV;
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final HackathonRepository hackathonRepository;
+    private final TeamJdbcRepository teamJdbcRepository;
+
+    /** Checked before the response starts, since errors can't change the status once streaming. */
+    public void requireHackathon(Long hackathonId) {
+        if (hackathonId == null || hackathonId <= 0) throw new BadRequestException("Invalid hackathon id");
+        if (!hackathonRepository.existsById(hackathonId)) {
+            throw new NotFoundException("Hackathon not found: " + hackathonId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Long hackathonId, Format format, OutputStream out) throws IOException {
+        switch (format) {
+            case CSV -> writeCsv(hackathonId, out);
+            case XLSX -> writeXlsx(hackathonId, out);
+        }
+    }
+
+    private void writeCsv(Long hackathonId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(HEADERS).build());
+        teamJdbcRepository.streamRoster(hackathonId, r -> {
+            try {
+                printer.printRecord(r.teamName(), r.teamScore(), r.participantId(), r.firstName(), r.lastName(),
+                        r.email(), r.role(), r.skills(), r.motivation(), r.yearsExperience());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        printer.flush();
+    }
+
+    private void writeXlsx(Long hackathonId, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Teams");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) header.createCell(c).setCellValue(HEADERS[c]);
+
+            int[] rowIndex = {1};
+            teamJdbcRepository.streamRoster(hackathonId, r -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                text(row, 0, r.teamName());
+                number(row, 1, r.teamScore());
+                number(row, 2, r.participantId());
+                text(row, 3, r.firstName());
+                text(row, 4, r.lastName());
+                text(row, 5, r.email());
+                text(row, 6, r.role());
+                text(row, 7, r.skills());
+                number(row, 8, r.motivation());
+                number(row, 9, r.yearsExperience());
+            });
+
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();  // also deletes the temp file backing flushed rows
+        }
+    }
+
+    private static void text(Row row, int col, String value) {
+        if (value != null) row.createCell(col).setCellValue(value);
+    }
+
+    private static void number(Row row, int col, Number value) {
+        if (value != null) {
+            Cell cell = row.createCell(col);
+            cell.setCellValue(value.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.ApiException;
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import com.example.hackathonbe.common.exceptions.ConflictException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.team.dto.GenerationJobDTO;
+import com.example.hackathonbe.team.generation.GenerationCancelledException;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs team generation in the background so the HTTP request returns right away.
+ * <p>
+ * Jobs run on a small fixed pool with a bounded queue; when the queue is full, submitting
+ * is rejected instead of piling up work. At most one job per hackathon is queued or running.
+ * Job state lives in memory only and finished jobs are forgotten after the retention period.
+ */
+@Service
+@Slf4j
+public class TeamGenerationJobService {
+
+    private final TeamService teamService;
+    private final HackathonRepository hackathonRepository;
+    private final ThreadPoolExecutor executor;
+    private final long retentionMinutes;
+    private final Map<UUID, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    public TeamGenerationJobService(
+            TeamService teamService,
+            HackathonRepository hackathonRepository,
+            @Value("${app.teams.jobs.threads:2}") int threads,
+            @Value("${app.teams.jobs.queue-capacity:16}") int queueCapacity,
+            @Value("${app.teams.jobs.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.teamService = teamService;
+        this.hackathonRepository = hackathonRepository;
+        this.retentionMinutes = retentionMinutes;
+
+        int poolSize = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> new Thread(r, "team-generation-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(GenerationJob::requestCancel);
+        executor.shutdownNow();
+    }
+
+    public GenerationJobDTO submit(Long hackathonId, GenerationRequest request) {
+        if (hackathonId == null || hackathonId <= 0) throw new BadRequestException("Invalid hackathon id");
+        if (request.starts() != null && request.starts() < 1) throw new BadRequestException("starts must be at least 1");
+        if (!hackathonRepository.existsById(hackathonId)) {
+            throw new NotFoundException("Hackathon not found: " + hackathonId);
+        }
+
+        evictExpired();
+
+        GenerationJob job = new GenerationJob(hackathonId, request);
+        synchronized (jobs) {
+            GenerationJob active = jobs.values().stream()
+                    .filter(j -> j.getHackathonId().equals(hackathonId) && !j.getStatus().isFinished())
+                    .findFirst()
+                    .orElse(null);
+            if (active != null) {
+                throw new ConflictException("A team generation job is already in progress for this hackathon: " + active.getId());
+            }
+
+            jobs.put(job.getId(), job);
+            try {
+                job.setFuture(executor.submit(() -> run(job)));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.getId());
+                throw new ConflictException("Too many team generation jobs queued. Try again later.");
+            }
+        }
+
+        return toDTO(job);
+    }
+
+    public GenerationJobDTO getJob(Long hackathonId, UUID jobId) {
+        return toDTO(findJob(hackathonId, jobId));
+    }
+
+    /**
+     * Requests cancellation. A queued job is cancelled immediately; a running job stops at its next
+     * checkpoint and rolls back, so the hackathon keeps its previous teams.
+     */
+    public GenerationJobDTO cancel(Long hackathonId, UUID jobId) {
+        GenerationJob job = findJob(hackathonId, jobId);
+        job.requestCancel();
+        return toDTO(job);
+    }
+
+    private void run(GenerationJob job) {
+        if (!job.start()) return;
+
+        try {
+            UUID generationId = teamService.generateTeams(job.getHackathonId(), job.getRequest(), job);
+            job.succeed(generationId);
+        } catch (GenerationCancelledException e) {
+            log.info("Team generation job {} cancelled", job.getId());
+            job.cancelled();
+        } catch (ApiException e) {
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Team generation job {} failed", job.getId(), e);
+            job.fail("Team generation failed");
+        }
+    }
+
+    private GenerationJob findJob(Long hackathonId, UUID jobId) {
+        GenerationJob job = jobId == null ? null : jobs.get(jobId);
+        if (job == null || !job.getHackathonId().equals(hackathonId)) {
+            throw new NotFoundException("Generation job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void evictExpired() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(j -> j.getFinishedAt() != null && j.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static GenerationJobDTO toDTO(GenerationJob job) {
+        return new GenerationJobDTO(
+                job.getId(),
+                job.getHackathonId(),
+                job.getStatus(),
+                job.getPhase(),
+                job.getCandidatesProcessed(),
+                job.getCandidatesTotal(),
+                job.getBestObjective(),
+                job.getGenerationId(),
+                job.isCancelRequested(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import com.example.hackathonbe.common.exceptions.ConflictException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.dto.QuestionnaireVersions;
+import com.example.hackathonbe.hackathon.model.Hackathon;
+import com.example.hackathonbe.hackathon.model.Questionnaire;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
+import com.example.hackathonbe.participant.dto.ParticipantDto;
+import com.example.hackathonbe.participant.model.Participant;
+import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.dto.GenerationPreviewDTO;
+import com.example.hackathonbe.team.dto.TeamDTO;
+import com.example.hackathonbe.team.dto.TeamMemberDTO;
+import com.example.hackathonbe.team.generation.Candidate;
+import com.example.hackathonbe.team.generation.GeneratedTeam;
+import com.example.hackathonbe.team.generation.GenerationConstraints;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.generation.GenerationResult;
+import com.example.hackathonbe.team.generation.TeamGenerationEngine;
+import com.example.hackathonbe.team.repository.TeamGenerationJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Dry-run team generation: computes teams without replacing the stored ones, so organisers can
+ * try several team sizes first, and commits a chosen preview later by id.
+ * <p>
+ * Previews are cached, keyed by hackathon, the questionnaire's question and answer versions, and
+ * the parameters (including placement constraints). Asking again with unchanged inputs returns the cached preview without
+ * regenerating. Committing a preview whose inputs have changed since then is rejected; a committed
+ * preview is recorded as a generation with its input hash, like a directly generated one.
+ */
+@Service
+@Slf4j
+public class TeamPreviewService {
+
+    private final TeamService teamService;
+    private final HackathonRepository hackathonRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+    private final ParticipantRepository participantRepository;
+    private final TeamGenerationJdbcRepository teamGenerationRepository;
+    private final GenerationPreviewCache cache;
+
+    public TeamPreviewService(
+            TeamService teamService,
+            HackathonRepository hackathonRepository,
+            QuestionnaireRepository questionnaireRepository,
+            ParticipantRepository participantRepository,
+            TeamGenerationJdbcRepository teamGenerationRepository,
+            @Value("${app.teams.preview.cache-size:32}") int cacheSize
+    ) {
+        this.teamService = teamService;
+        this.hackathonRepository = hackathonRepository;
+        this.questionnaireRepository = questionnaireRepository;
+        this.participantRepository = participantRepository;
+        this.teamGenerationRepository = teamGenerationRepository;
+        this.cache = new GenerationPreviewCache(cacheSize);
+    }
+
+    @Transactional
+    public GenerationPreviewDTO preview(Long hackathonId, Integer teamSize, Integer starts,
+                                        GenerationConstraints constraints) {
+        if (hackathonId == null || hackathonId <= 0) throw new BadRequestException("Invalid hackathon id");
+        if (starts != null && starts < 1) throw new BadRequestException("starts must be at least 1");
+
+        GenerationPreviewCache.Key key = currentKey(hackathonId, teamSize, starts, GenerationConstraints.orNone(constraints));
+        GenerationPreviewCache.Entry cached = cache.get(key);
+        if (cached != null) return cached.preview().asCached();
+
+        TeamService.ComputedTeams computed = teamService.computeTeams(hackathonId,
+                new GenerationRequest(key.teamSize(), starts, key.constraints(), null), GenerationProgress.NONE);
+        GenerationResult result = computed.result();
+        GenerationPreviewDTO preview = new GenerationPreviewDTO(
+                UUID.randomUUID(), false, key.teamSize(), starts, result.objective(), OffsetDateTime.now(),
+                toTeamDTOs(result.teams()));
+
+        cache.put(new GenerationPreviewCache.Entry(key, result, computed.inputHash(), preview));
+        log.info("Generation preview {} for hackathon {}: {} teams, objective {}",
+                preview.previewId(), hackathonId, preview.teams().size(), result.objective());
+        return preview;
+    }
+
+    /**
+     * Persists a cached preview as the hackathon's teams.
+     *
+     * @throws NotFoundException if the preview is unknown or was evicted
+     * @throws ConflictException if questions, answers or participants changed since the preview
+     */
+    @Transactional
+    public UUID commit(Long hackathonId, UUID previewId) {
+        GenerationPreviewCache.Entry entry = previewId == null ? null : cache.get(previewId);
+        if (entry == null || !entry.key().hackathonId().equals(hackathonId)) {
+            throw new NotFoundException("Preview not found or expired: " + previewId);
+        }
+
+        GenerationPreviewCache.Key current = currentKey(hackathonId, entry.key().teamSize(), entry.key().starts(),
+                entry.key().constraints());
+        if (!current.equals(entry.key())) {
+            throw new ConflictException("Participants or answers changed since preview " + previewId + ". Generate a new preview.");
+        }
+
+        UUID generationId = teamService.replaceTeams(hackathonId, entry.result().teams(), GenerationProgress.NONE);
+        if (!entry.result().teams().isEmpty()) {
+            teamGenerationRepository.insert(new TeamGenerationJdbcRepository.GenerationRow(generationId, hackathonId,
+                    null, entry.inputHash(), TeamGenerationEngine.ALGORITHM_VERSION, OffsetDateTime.now()));
+        }
+        return generationId;
+    }
+
+    private GenerationPreviewCache.Key currentKey(Long hackathonId, Integer teamSize, Integer starts,
+                                                  GenerationConstraints constraints) {
+        Hackathon hackathon = hackathonRepository.findById(hackathonId)
+                .orElseThrow(() -> new NotFoundException("Hackathon not found: " + hackathonId));
+
+        Questionnaire questionnaire = hackathon.getQuestionnaire();
+        if (questionnaire == null) {
+            throw new ConflictException("Hackathon has no questionnaire. Cannot generate teams.");
+        }
+
+        QuestionnaireVersions versions = questionnaireRepository.findVersions(questionnaire.getId())
+                .orElseThrow(() -> new NotFoundException("Questionnaire not found: " + questionnaire.getId()));
+
+        int normalizedTeamSize = (teamSize == null || teamSize < 1) ? 1 : teamSize;
+        return new GenerationPreviewCache.Key(hackathonId, questionnaire.getId(),
+                versions.questionsVersion(), versions.answersVersion(), normalizedTeamSize, starts, constraints);
+    }
+
+    private List<TeamDTO> toTeamDTOs(List<GeneratedTeam> teams) {
+        Set<Long> participantIds = teams.stream()
+                .flatMap(t -> t.members().stream())
+                .map(Candidate::participantId)
+                .collect(Collectors.toSet());
+
+        Map<Long, ParticipantDto> participantsById = participantRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Participant::getId, ParticipantDto::new));
+
+        OffsetDateTime now = OffsetDateTime.now();
+        return teams.stream()
+                .map(t -> new TeamDTO(null, t.name(), t.score(), null, now, t.members().stream()
+                        .map(c -> new TeamMemberDTO(
+                                participantsById.get(c.participantId()),
+                                c.roleLabel(),
+                                String.join(", ", c.skillLabels()),
+                                c.motivation(),
+                                c.yearsExperience()))
+                        .toList()))
+                .toList();
+    }
+}
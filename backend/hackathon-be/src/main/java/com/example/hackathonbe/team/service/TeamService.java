@@ -5,41 +5,67 @@ import com.example.hackathonbe.common.exceptions.ConflictException;
 import com.example.hackathonbe.common.exceptions.NotFoundException;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.model.Questionnaire;
-import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
 import com.example.hackathonbe.hackathon.model.QuestionnaireSource;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
-import com.example.hackathonbe.hackathon.repository.QuestionnaireAnswerRepository;
 import com.example.hackathonbe.participant.dto.ParticipantDto;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.dto.ParticipantFeatureRow;
+import com.example.hackathonbe.team.dto.TeamBoardEvent;
+import com.example.hackathonbe.team.dto.TeamBoardRow;
 import com.example.hackathonbe.team.dto.TeamDTO;
 import com.example.hackathonbe.team.dto.TeamEditRequests.AddMembersRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.BatchEditRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditOperation;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditType;
 import com.example.hackathonbe.team.dto.TeamEditRequests.MoveMemberRequest;
 import com.example.hackathonbe.team.dto.TeamEditRequests.UpdateTeamNameRequest;
 import com.example.hackathonbe.team.dto.TeamMemberDTO;
+import com.example.hackathonbe.team.generation.*;
 import com.example.hackathonbe.team.model.Team;
 import com.example.hackathonbe.team.model.TeamMember;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository;
+import com.example.hackathonbe.team.repository.ParticipantFeatureRepository;
+import com.example.hackathonbe.team.repository.TeamGenerationJdbcRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository;
 import com.example.hackathonbe.team.repository.TeamMemberRepository;
 import com.example.hackathonbe.team.repository.TeamRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TeamService {
 
+    private static final int MAX_BATCH_OPERATIONS = 1_000;
+    private static final Pattern ANSWER_KEY = Pattern.compile("[A-Za-z0-9_]+");
+
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final HackathonRepository hackathonRepository;
-    private final QuestionnaireAnswerRepository questionnaireAnswerRepository;
+    private final ParticipantFeatureRepository participantFeatureRepository;
+    private final ParticipantFeatureJdbcRepository participantFeatureJdbcRepository;
+    private final ParticipantFeatureService participantFeatureService;
     private final ParticipantRepository participantRepository;
+    private final TeamGenerationEngine generationEngine;
+    private final TeamJdbcRepository teamJdbcRepository;
+    private final TeamGenerationJdbcRepository teamGenerationRepository;
+    private final TeamBoardVersions boardVersions;
+    private final TeamBoardFeed boardFeed;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     // =========================================================
     // Deletion
@@ -53,6 +79,7 @@ public class TeamService {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new NotFoundException("Team not found: " + teamId));
 
+        teamsEdited(team.getHackathon().getId(), team.getGenerationId(), List.of(TeamBoardEvent.teamDeleted(teamId)));
         teamRepository.delete(team);
     }
 
@@ -68,219 +95,247 @@ public class TeamService {
      */
     @Transactional
     public UUID generateTeams(Integer requestedTeamSize, Long hackathonId) {
-        validateHackathonId(hackathonId);
-
-        int targetTeamSize = normalizeTeamSize(requestedTeamSize);
+        return generateTeams(hackathonId, new GenerationRequest(requestedTeamSize, null), GenerationProgress.NONE);
+    }
 
-        Hackathon hackathon = hackathonRepository.findById(hackathonId)
-                .orElseThrow(() -> new NotFoundException("Hackathon not found: " + hackathonId));
+    /**
+     * Generates and stores teams for {@code request}:
+     * - {@code starts} perturbed greedy passes are tried in parallel within the configured time budget
+     *   and only the best assignment is persisted ({@code null} uses the configured default);
+     * - the constraints keep participant pairs together or apart (pairs naming people who aren't
+     *   candidates are ignored) or split candidates into partitions;
+     * - a seed makes the run reproducible.
+     * <p>
+     * The seed and a hash of the inputs (candidate features, parameters, algorithm version) are recorded
+     * with the generation. When the hackathon's current teams were generated from the same inputs and
+     * haven't been edited since, their generation id is returned and nothing is recomputed.
+     * <p>
+     * Background generation jobs pass themselves as {@code progress}; cancellation through it throws
+     * {@link GenerationCancelledException} and rolls back, leaving the previous teams in place.
+     */
+    @Transactional
+    public UUID generateTeams(Long hackathonId, GenerationRequest request, GenerationProgress progress) {
+        GenerationInputs inputs = loadInputs(hackathonId, request, progress);
+        if (inputs.candidates().isEmpty()) return UUID.randomUUID();
 
-        Questionnaire questionnaire = hackathon.getQuestionnaire();
-        if (questionnaire == null) {
-            throw new ConflictException("Hackathon has no questionnaire. Cannot generate teams.");
+        String inputHash = generationEngine.inputHash(inputs.partitionsOrAll(), request);
+        Optional<UUID> current = teamGenerationRepository.findReusable(hackathonId, inputHash);
+        if (current.isPresent()) {
+            log.info("Hackathon {} already has teams for these inputs, reusing generation {}", hackathonId, current.get());
+            return current.get();
         }
 
-        OptionLabelIndex optionIndex = OptionLabelIndex.from(questionnaire.getQuestions());
-
-        List<Candidate> rawCandidates = loadCandidates(hackathon, optionIndex);
-
-        UUID generationId = UUID.randomUUID();
-        if (rawCandidates.isEmpty()) return generationId;
-
-        deleteExistingTeams(hackathonId);
-
-        // Sort by motivation desc (then experience desc) once
-        rawCandidates.sort(Comparator
-                .comparingInt(Candidate::motivation).reversed()
-                .thenComparingInt(Candidate::yearsExperience).reversed()
-        );
-
-        // Compute how many teams and their capacities
-        TeamLayout layout = TeamLayout.compute(rawCandidates.size(), targetTeamSize);
-
-        // Build role/skill buckets:
-        // - Internal has stable option labels
-        // - Imported can be messy, so we learn most common normalized values too
-        RoleSkillBucketer bucketer = RoleSkillBucketer.build(rawCandidates);
-
-        // Convert to bucketed candidates for team selection
-        List<BucketedCandidate> candidates = rawCandidates.stream()
-                .map(c -> BucketedCandidate.from(c, bucketer))
-                .toList();
-
-        // Build teams sequentially:
-        // Team 1 is the "power team": use a larger top window to ensure "most motivated"
-        List<TeamDraft2> drafts = new ArrayList<>();
-        Set<Long> used = new HashSet<>();
-
-        int teamCount = layout.numberOfTeams();
-        List<Integer> capacities = layout.maxSizesPerTeam();
-
-        for (int teamIndex = 0; teamIndex < teamCount; teamIndex++) {
-            int capacity = capacities.get(teamIndex);
-            String teamName = "Team " + (teamIndex + 1);
-
-            TeamDraft2 draft = new TeamDraft2(teamName, capacity);
-
-            // Window size:
-            // - Power team considers more top candidates to optimize variety without dropping motivation too much.
-            // - Other teams consider a smaller band, keeping motivation high per team.
-            int window = (teamIndex == 0)
-                    ? Math.min(candidates.size(), capacity * 5)  // power team: bigger pool
-                    : Math.min(candidates.size(), capacity * 3); // other teams: banded
-
-            fillTeamGreedy(
-                    draft,
-                    candidates,
-                    used,
-                    window,
-                    teamIndex == 0 // powerTeam flag influences weights
-            );
-
-            drafts.add(draft);
+        GenerationResult result = runGeneration(inputs, request, progress);
+        UUID generationId = replaceTeams(hackathonId, result.teams(), progress);
+        if (!result.teams().isEmpty()) {
+            teamGenerationRepository.insert(new TeamGenerationJdbcRepository.GenerationRow(generationId, hackathonId,
+                    request.seed(), inputHash, TeamGenerationEngine.ALGORITHM_VERSION, OffsetDateTime.now()));
         }
-
-        // Persist teams + snapshot labels
-        persistTeams2(hackathon, generationId, drafts);
-
         return generationId;
     }
 
     /**
-     * Greedy fill:
-     * - always picks from top 'window' highest-motivation remaining candidates
-     * - objective heavily favors motivation, with bonuses for adding a new role bucket and common skill buckets
+     * Runs generation without writing any teams: loads the candidates and returns the best assignment
+     * with the hash of its inputs, to be recorded if the teams are stored later.
+     * Used directly by generation previews.
+     *
+     * @throws BadRequestException if the constraints cannot be met
      */
-    private void fillTeamGreedy(
-            TeamDraft2 team,
-            List<BucketedCandidate> sortedCandidates,
-            Set<Long> used,
-            int window,
-            boolean powerTeam
-    ) {
-        // If no one yet: seed with highest motivation not used
-        BucketedCandidate seed = sortedCandidates.stream()
-                .filter(c -> !used.contains(c.participantId()))
-                .filter(c -> !powerTeam || c.motivation() >= 3)
-                .findFirst()
-                .orElse(null);
-        if (seed == null) return;
-
-        team.add(seed);
-        used.add(seed.participantId());
+    @Transactional
+    public ComputedTeams computeTeams(Long hackathonId, GenerationRequest request, GenerationProgress progress) {
+        GenerationInputs inputs = loadInputs(hackathonId, request, progress);
+        if (inputs.candidates().isEmpty()) return new ComputedTeams(GenerationResult.empty(), null);
 
-        while (!team.isFull()) {
-            BucketedCandidate best = null;
-            double bestScore = Double.NEGATIVE_INFINITY;
+        String inputHash = generationEngine.inputHash(inputs.partitionsOrAll(), request);
+        return new ComputedTeams(runGeneration(inputs, request, progress), inputHash);
+    }
 
-            // only consider the top window (to keep motivation high)
-            int limit = Math.min(sortedCandidates.size(), window);
-            for (int i = 0; i < limit; i++) {
-                BucketedCandidate c = sortedCandidates.get(i);
-                if (used.contains(c.participantId())) continue;
+    /** Result of {@link #computeTeams}; {@code inputHash} is {@code null} when there were no candidates. */
+    public record ComputedTeams(GenerationResult result, String inputHash) {}
 
-                double score = TeamPickScoring.pickScore(team, c, powerTeam);
+    /** Loaded candidates; {@code partitions} is {@code null} unless the constraints partition the candidates. */
+    private record GenerationInputs(List<Candidate> candidates, Map<String, List<Candidate>> partitions) {
 
-                // slight bias towards higher motivation still (tie-breaker)
-                score += 0.0001 * c.motivation();
+        Map<String, List<Candidate>> partitionsOrAll() {
+            return partitions != null ? partitions : Map.of("", candidates);
+        }
+    }
 
-                if (score > bestScore) {
-                    bestScore = score;
-                    best = c;
-                }
-            }
+    private GenerationInputs loadInputs(Long hackathonId, GenerationRequest request, GenerationProgress progress) {
+        validateHackathonId(hackathonId);
+        if (request.starts() != null && request.starts() < 1) throw new BadRequestException("starts must be at least 1");
 
-            // If no one in window fits (e.g. window exhausted), expand to all remaining
-            if (best == null) {
-                for (BucketedCandidate c : sortedCandidates) {
-                    if (used.contains(c.participantId())) continue;
-                    double score = TeamPickScoring.pickScore(team, c, powerTeam);
-                    score += 0.0001 * c.motivation();
-                    if (score > bestScore) {
-                        bestScore = score;
-                        best = c;
-                    }
-                }
-            }
+        Hackathon hackathon = hackathonRepository.findById(hackathonId)
+                .orElseThrow(() -> new NotFoundException("Hackathon not found: " + hackathonId));
 
-            if (best == null) break;
+        Questionnaire questionnaire = hackathon.getQuestionnaire();
+        if (questionnaire == null) {
+            throw new ConflictException("Hackathon has no questionnaire. Cannot generate teams.");
+        }
 
-            team.add(best);
-            used.add(best.participantId());
+        progress.phase(GenerationPhase.LOADING_CANDIDATES);
+        List<Candidate> rawCandidates = loadCandidates(hackathon, progress);
+        GenerationConstraints rules = request.constraints();
+        if (rawCandidates.isEmpty() || rules.partitionBy() == null) {
+            return new GenerationInputs(rawCandidates, null);
         }
+        return new GenerationInputs(rawCandidates, partitionCandidates(questionnaire, rawCandidates, rules));
     }
 
-    private BucketedCandidate firstNotUsed(List<BucketedCandidate> sorted, Set<Long> used) {
-        for (BucketedCandidate c : sorted) {
-            if (!used.contains(c.participantId())) return c;
+    private GenerationResult runGeneration(GenerationInputs inputs, GenerationRequest request, GenerationProgress progress) {
+        try {
+            if (inputs.partitions() == null) {
+                return generationEngine.generate(inputs.candidates(), request, progress);
+            }
+            return generationEngine.generatePartitioned(inputs.partitions(), request, progress);
+        } catch (InfeasibleConstraintsException | GenerationTimeoutException e) {
+            throw new BadRequestException(e.getMessage());
         }
-        return null;
     }
 
-    private List<Candidate> loadCandidates(Hackathon hackathon, OptionLabelIndex optionIndex) {
-        List<Candidate> out = new ArrayList<>();
+    /**
+     * Replaces the hackathon's teams with {@code generatedTeams} under a new generation id.
+     * Nothing is written when there are no teams, so the previous teams stay in place.
+     */
+    @Transactional
+    public UUID replaceTeams(Long hackathonId, List<GeneratedTeam> generatedTeams, GenerationProgress progress) {
+        UUID generationId = UUID.randomUUID();
+        if (generatedTeams.isEmpty()) return generationId;
 
-        for (Participant participant : hackathon.getParticipants()) {
-            QuestionnaireAnswer answer = questionnaireAnswerRepository
-                    .findByQuestionnaireAndParticipant(hackathon.getQuestionnaire(), participant)
-                    .orElse(null);
+        // Replace the previous teams + snapshot labels
+        progress.phase(GenerationPhase.PERSISTING);
+        progress.checkCancelled();
+        teamJdbcRepository.deleteByHackathonId(hackathonId);
+        persistTeams(hackathonId, generationId, generatedTeams, progress);
+        boardVersions.bump(hackathonId);
+        boardFeed.publish(hackathonId, List.of(TeamBoardEvent.generationReplaced(generationId)));
 
-            if (answer == null) continue;
+        return generationId;
+    }
 
-            if (!answer.isConsent() && hackathon.getQuestionnaire().getSource() == QuestionnaireSource.INTERNAL) {
-                log.info("Skipping participant {}: consent=false", participant.getId());
-                continue;
-            }
+    /**
+     * Loads candidates from the materialized feature table with one streamed query; consent and
+     * eligibility were evaluated when the answers were stored, so rejected answers never leave the DB.
+     */
+    private List<Candidate> loadCandidates(Hackathon hackathon, GenerationProgress progress) {
+        Questionnaire questionnaire = hackathon.getQuestionnaire();
+        boolean consentRequired = questionnaire.getSource() == QuestionnaireSource.INTERNAL;
 
-            if (!Eligibility.isAllowed(answer.getData())) {
-                log.info("Skipping participant {}: eligibility check failed", participant.getId());
-                continue;
-            }
+        participantFeatureService.ensureComplete(questionnaire);
 
-            out.add(Candidate.fromAnswer(answer, optionIndex));
+        List<Candidate> out = new ArrayList<>();
+        try (Stream<ParticipantFeatureRow> rows = participantFeatureRepository
+                .streamCandidates(questionnaire.getId(), hackathon.getId(), consentRequired)) {
+            Iterator<ParticipantFeatureRow> it = rows.iterator();
+            while (it.hasNext()) {
+                progress.checkCancelled();
+                out.add(toCandidate(it.next()));
+                progress.candidatesProcessed(out.size(), 0);
+            }
         }
 
         return out;
     }
 
-    private void deleteExistingTeams(Long hackathonId) {
-        List<Team> existing = teamRepository.findByHackathonId(hackathonId);
-        if (!existing.isEmpty()) teamRepository.deleteAll(existing);
+    /**
+     * Splits candidates by their answer to {@code rules.partitionBy()} (e.g. their track), read from the
+     * answer labels stored with the features. Answers are grouped case-insensitively and named after the
+     * first spelling seen; unanswered candidates form the last partition.
+     */
+    private Map<String, List<Candidate>> partitionCandidates(Questionnaire questionnaire, List<Candidate> candidates,
+                                                             GenerationConstraints rules) {
+        String key = rules.partitionBy();
+        if (!ANSWER_KEY.matcher(key).matches()) throw new BadRequestException("Invalid partition key: " + key);
+
+        // loadCandidates has already brought the features up to date
+        Map<Long, String> labels = participantFeatureJdbcRepository.findAnswerLabels(questionnaire.getId(), key);
+
+        Map<Long, String> partitionOf = new HashMap<>();
+        Map<String, String> displayNames = new HashMap<>();
+        SortedMap<String, List<Candidate>> byPartition = new TreeMap<>(
+                Comparator.comparing(String::isEmpty).thenComparing(Comparator.naturalOrder()));
+        for (Candidate c : candidates) {
+            String label = labels.getOrDefault(c.participantId(), "");
+            String partition = label.toLowerCase(Locale.ROOT);
+            partitionOf.put(c.participantId(), partition);
+            displayNames.putIfAbsent(partition, label);
+            byPartition.computeIfAbsent(partition, p -> new ArrayList<>()).add(c);
+        }
+
+        for (GenerationConstraints.Pair pair : rules.keepTogether()) {
+            String first = partitionOf.get(pair.first());
+            String second = partitionOf.get(pair.second());
+            if (first != null && second != null && !first.equals(second)) {
+                throw new BadRequestException("Participants " + pair.first() + " and " + pair.second()
+                        + " answered " + key + " differently and cannot be kept together");
+            }
+        }
+
+        Map<String, List<Candidate>> partitions = new LinkedHashMap<>();
+        byPartition.forEach((partition, members) -> partitions.put(displayNames.get(partition), members));
+        return partitions;
     }
 
-    private void persistTeams2(Hackathon hackathon, UUID generationId, List<TeamDraft2> drafts) {
-        for (TeamDraft2 draft : drafts) {
-            Team team = new Team();
-            team.setHackathon(hackathon);
-            team.setName(draft.name());
-            team.setGenerationId(generationId);
+    private static Candidate toCandidate(ParticipantFeatureRow row) {
+        Candidate c = new Candidate();
+        c.setParticipantId(row.participantId());
+        c.setRoleLabel(row.roleLabel());
+
+        LinkedHashSet<String> skills = new LinkedHashSet<>();
+        if (row.skillLabels() != null) {
+            for (JsonNode s : row.skillLabels()) skills.add(s.asText());
+        }
+        c.setSkillLabels(skills);
 
-            // Optional: keep existing score approach, but now teams are created differently.
-            // Score still measures cohesion/variety; it doesn't drive the "power team" priority.
-            team.setScore(TeamCompatibilityScoring.teamCompatibilityScore(
-                    draft.members().stream().map(BucketedCandidate::base).toList()
-            ));
+        c.setMotivation(row.motivation());
+        c.setYearsExperience(row.yearsExperience());
+        return c;
+    }
 
-            if (team.getMembers() == null) team.setMembers(new ArrayList<>());
+    /**
+     * Writes all teams, then all members, with multi-row inserts. Ids are assigned here so
+     * member rows can point at their team without a round trip per team.
+     */
+    private void persistTeams(Long hackathonId, UUID generationId, List<GeneratedTeam> generatedTeams,
+                              GenerationProgress progress) {
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        List<TeamJdbcRepository.TeamRow> teamRows = new ArrayList<>(generatedTeams.size());
+        List<TeamJdbcRepository.TeamMemberRow> memberRows = new ArrayList<>();
 
-            for (BucketedCandidate bc : draft.members()) {
-                Candidate c = bc.base();
+        for (GeneratedTeam generated : generatedTeams) {
+            UUID teamId = UUID.randomUUID();
 
-                TeamMember m = new TeamMember();
-                m.setTeam(team);
-                m.setGenerationId(generationId);
-                m.setParticipantId(c.participantId());
+            // Score still measures cohesion/variety; it doesn't drive the "power team" priority.
+            teamRows.add(new TeamJdbcRepository.TeamRow(
+                    teamId, hackathonId, generated.name(), generated.score(),
+                    toJson(TeamScoreAggregate.of(generated.members())), generationId, createdAt));
 
+            for (Candidate c : generated.members()) {
                 // store labels for UI
-                m.setRoleSnapshot(c.roleLabel());
-                m.setMotivationSnapshot(c.motivation());
-                m.setYearsExperienceSnapshot(c.yearsExperience());
-                m.setSkillsSnapshot(String.join(", ", c.skillLabels()));
-
-                team.getMembers().add(m);
+                memberRows.add(new TeamJdbcRepository.TeamMemberRow(
+                        UUID.randomUUID(),
+                        teamId,
+                        generationId,
+                        c.participantId(),
+                        c.roleLabel(),
+                        String.join(", ", c.skillLabels()),
+                        c.motivation(),
+                        c.yearsExperience()
+                ));
             }
+        }
 
-            teamRepository.save(team);
+        teamJdbcRepository.insertTeams(teamRows);
+        progress.checkCancelled();
+        teamJdbcRepository.insertMembers(memberRows);
+        progress.candidatesProcessed(memberRows.size(), memberRows.size());
+    }
+
+    private String toJson(TeamScoreAggregate aggregate) {
+        try {
+            return objectMapper.writeValueAsString(aggregate);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize team score aggregate", e);
         }
     }
 
@@ -288,24 +343,37 @@ public class TeamService {
     // Teams read + edits (unchanged from your current file)
     // =========================================================
 
+    /**
+     * The hackathon's team board, built from one projection query: no entities are loaded, so the
+     * number of queries doesn't grow with the number of teams or members.
+     */
     @Transactional(readOnly = true)
     public List<TeamDTO> getTeams(Long hackathonId) {
         validateHackathonId(hackathonId);
 
-        List<Team> teams = teamRepository.findByHackathonIdOrderByNameAsc(hackathonId);
-
-        Set<Long> participantIds = teams.stream()
-                .flatMap(t -> safeMembers(t).stream())
-                .map(TeamMember::getParticipantId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        List<TeamDTO> teams = new ArrayList<>();
+        TeamBoardRow team = null;
+        List<TeamMemberDTO> members = null;
+        for (TeamBoardRow row : teamRepository.findBoardRows(hackathonId)) {
+            // rows arrive grouped by team
+            if (team == null || !team.teamId().equals(row.teamId())) {
+                if (team != null) teams.add(toTeamDTO(team, members));
+                team = row;
+                members = new ArrayList<>();
+            }
+            if (row.memberParticipantId() == null) continue;
+            if (row.participantId() == null) throw new NotFoundException("Participant not found: " + row.memberParticipantId());
 
-        Map<Long, ParticipantDto> participantsById = participantRepository.findAllById(participantIds).stream()
-                .collect(Collectors.toMap(Participant::getId, ParticipantDto::new));
+            members.add(new TeamMemberDTO(
+                    new ParticipantDto(row.participantId(), row.firstName(), row.lastName(), row.email()),
+                    row.role(), row.skills(), row.motivation(), row.yearsExperience()));
+        }
+        if (team != null) teams.add(toTeamDTO(team, members));
+        return teams;
+    }
 
-        return teams.stream()
-                .map(t -> toTeamDTO(t, participantsById))
-                .toList();
+    private static TeamDTO toTeamDTO(TeamBoardRow team, List<TeamMemberDTO> members) {
+        return new TeamDTO(team.teamId(), team.teamName(), team.score(), team.generationId(), team.createdAt(), members);
     }
 
     @Transactional
@@ -320,9 +388,17 @@ public class TeamService {
         if (newName.isBlank()) throw new BadRequestException("Team name must not be blank");
 
         team.setName(newName);
+        teamsEdited(team.getHackathon().getId(), team.getGenerationId(),
+                List.of(TeamBoardEvent.teamRenamed(team.getId(), newName)));
         return toTeamDTO(teamRepository.save(team));
     }
 
+    /**
+     * Adds participants to a team with a fixed number of queries however many are added: one resolves
+     * which ids are participants of the hackathon, one finds those already placed in the generation, and
+     * the new memberships are inserted in JDBC batches. The returned team is built from loaded entities.
+     * Repeated ids in the request are added once.
+     */
     @Transactional
     public TeamDTO addMembers(UUID teamId, AddMembersRequest request) {
         if (teamId == null) throw new BadRequestException("Team id is required");
@@ -334,31 +410,58 @@ public class TeamService {
         UUID generationId = team.getGenerationId();
         if (generationId == null) throw new ConflictException("Team has no generationId");
 
-        List<Long> ids = request.participantIds();
-        if (ids == null || ids.isEmpty()) return toTeamDTO(team);
-
-        if (team.getMembers() == null) team.setMembers(new ArrayList<>());
-
-        for (Long participantId : ids) {
-            if (participantId == null) continue;
+        Set<Long> requested = new LinkedHashSet<>();
+        if (request.participantIds() != null) {
+            request.participantIds().stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        if (requested.isEmpty()) return toTeamDTO(team);
 
-            if (!participantRepository.existsById(participantId)) {
-                throw new NotFoundException("Participant not found: " + participantId);
+        Long hackathonId = team.getHackathon().getId();
+        Map<Long, Participant> added = participantRepository.findAllInHackathon(hackathonId, requested).stream()
+                .collect(Collectors.toMap(Participant::getId, p -> p));
+        for (Long participantId : requested) {
+            if (!added.containsKey(participantId)) {
+                throw new NotFoundException("Participant not found in hackathon " + hackathonId + ": " + participantId);
             }
-            if (teamMemberRepository.existsByGenerationIdAndParticipantId(generationId, participantId)) {
+        }
+
+        Set<Long> placed = new HashSet<>(teamMemberRepository.findParticipantIdsInGeneration(generationId, requested));
+        for (Long participantId : requested) {
+            if (placed.contains(participantId)) {
                 throw new ConflictException("Participant " + participantId + " is already in a team for this generation");
             }
+        }
 
-            TeamMember member = new TeamMember();
-            member.setTeam(team);
-            member.setGenerationId(generationId);
-            member.setParticipantId(participantId);
+        if (team.getMembers() == null) team.setMembers(new ArrayList<>());
+        TeamScoreAggregate aggregate = scoreAggregate(team);
+        Set<Long> existing = team.getMembers().stream()
+                .map(TeamMember::getParticipantId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-            team.getMembers().add(member);
+        List<TeamMember> inserts = new ArrayList<>(requested.size());
+        List<TeamBoardEvent> events = new ArrayList<>(requested.size() + 1);
+        for (Long participantId : requested) {
+            TeamMember member = newMember(generationId, participantId);
+            member.setTeam(team);
+            inserts.add(member);
+            aggregate.add(candidateFromSnapshots(member));
+            events.add(TeamBoardEvent.memberAdded(teamId, new TeamMemberDTO(member, new ParticipantDto(added.get(participantId)))));
         }
+        teamMemberRepository.saveAll(inserts);
+        team.getMembers().addAll(inserts);
 
+        applyScore(team, aggregate);
+        events.add(TeamBoardEvent.scoreChanged(teamId, team.getScore()));
+        teamsEdited(hackathonId, generationId, events);
         teamRepository.save(team);
-        return toTeamDTO(team);
+
+        Map<Long, ParticipantDto> participantsById = new HashMap<>();
+        if (!existing.isEmpty()) {
+            participantRepository.findAllById(existing).forEach(p -> participantsById.put(p.getId(), new ParticipantDto(p)));
+        }
+        added.values().forEach(p -> participantsById.put(p.getId(), new ParticipantDto(p)));
+        return toTeamDTO(team, participantsById);
     }
 
     @Transactional
@@ -379,7 +482,14 @@ public class TeamService {
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException("Participant " + participantId + " is not in team " + teamId));
 
+        TeamScoreAggregate aggregate = scoreAggregate(team);
         members.remove(memberToRemove);
+        aggregate.remove(candidateFromSnapshots(memberToRemove));
+
+        applyScore(team, aggregate);
+        teamsEdited(team.getHackathon().getId(), team.getGenerationId(), List.of(
+                TeamBoardEvent.memberRemoved(teamId, participantId),
+                TeamBoardEvent.scoreChanged(teamId, team.getScore())));
         teamRepository.save(team);
         return toTeamDTO(team);
     }
@@ -411,711 +521,336 @@ public class TeamService {
             throw new BadRequestException("Participant " + participantId + " is not in team " + fromTeamId);
         }
 
+        // aggregates first: a missing one is built from the members as they were before the move
+        TeamScoreAggregate fromAggregate = scoreAggregate(fromTeam);
+        TeamScoreAggregate toAggregate = scoreAggregate(toTeam);
+
         membership.setTeam(toTeam);
         teamMemberRepository.save(membership);
 
-        recalcScoreForTeam(fromTeamId);
-        recalcScoreForTeam(toTeamId);
-    }
-
-    private TeamDTO toTeamDTO(Team team) {
-        List<TeamMember> members = teamMemberRepository.findByTeamId(team.getId());
-
-        Set<Long> participantIds = members.stream()
-                .map(TeamMember::getParticipantId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Map<Long, ParticipantDto> participantsById = participantRepository.findAllById(participantIds).stream()
-                .collect(Collectors.toMap(Participant::getId, ParticipantDto::new));
-
-        List<TeamMemberDTO> memberDtos = members.stream()
-                .map(m -> {
-                    ParticipantDto dto = participantsById.get(m.getParticipantId());
-                    if (dto == null) throw new NotFoundException("Participant not found: " + m.getParticipantId());
-                    return new TeamMemberDTO(m, dto);
-                })
-                .toList();
-
-        return new TeamDTO(team, memberDtos);
-    }
-
-    private TeamDTO toTeamDTO(Team team, Map<Long, ParticipantDto> participantsById) {
-        List<TeamMemberDTO> memberDtos = safeMembers(team).stream()
-                .map(m -> {
-                    ParticipantDto dto = participantsById.get(m.getParticipantId());
-                    if (dto == null) throw new NotFoundException("Participant not found: " + m.getParticipantId());
-                    return new TeamMemberDTO(m, dto);
-                })
-                .toList();
-
-        return new TeamDTO(team, memberDtos);
-    }
-
-    private static List<TeamMember> safeMembers(Team team) {
-        return team.getMembers() == null ? List.of() : team.getMembers();
-    }
-
-    // =========================================================
-    // Score recalculation for edits (unchanged)
-    // =========================================================
-
-    private void recalcScoreForTeam(UUID teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new NotFoundException("Team not found: " + teamId));
-
-        List<TeamMember> members = teamMemberRepository.findByTeamId(teamId);
-
-        List<Candidate> candidates = members.stream()
-                .map(TeamService::candidateFromSnapshots)
-                .toList();
-
-        team.setScore(TeamCompatibilityScoring.teamCompatibilityScore(candidates));
-        teamRepository.save(team);
-    }
-
-    private static Candidate candidateFromSnapshots(TeamMember m) {
-        Candidate c = new Candidate();
-        c.setParticipantId(m.getParticipantId());
-        c.setRoleLabel(TextUtil.safe(m.getRoleSnapshot()));
-        c.setSkillLabels(SkillUtil.parseCommaSeparated(m.getSkillsSnapshot()));
-        c.setMotivation(m.getMotivationSnapshot() == null ? 0 : m.getMotivationSnapshot());
-        c.setYearsExperience(m.getYearsExperienceSnapshot() == null ? 0 : m.getYearsExperienceSnapshot());
-        return c;
-    }
-
-    // =========================================================
-    // Validation
-    // =========================================================
-
-    private static void validateHackathonId(Long hackathonId) {
-        if (hackathonId == null || hackathonId <= 0) throw new BadRequestException("Invalid hackathon id");
-    }
-
-    private static int normalizeTeamSize(Integer requested) {
-        if (requested == null || requested < 1) return 1;
-        return requested;
+        Candidate moved = candidateFromSnapshots(membership);
+        fromAggregate.remove(moved);
+        toAggregate.add(moved);
+
+        applyScore(fromTeam, fromAggregate);
+        applyScore(toTeam, toAggregate);
+        teamsEdited(toTeam.getHackathon().getId(), generationId, List.of(
+                TeamBoardEvent.memberMoved(fromTeamId, toTeamId, participantId),
+                TeamBoardEvent.scoreChanged(fromTeamId, fromTeam.getScore()),
+                TeamBoardEvent.scoreChanged(toTeamId, toTeam.getScore())));
+        teamRepository.save(fromTeam);
+        teamRepository.save(toTeam);
     }
 
-    // =========================================================
-    // Option lookup built from Questionnaire.questions JsonNode
-    // =========================================================
-
-    private static final class OptionLabelIndex {
-        private final Map<String, String> optionIdToLabel;
-
-        private OptionLabelIndex(Map<String, String> optionIdToLabel) {
-            this.optionIdToLabel = optionIdToLabel;
-        }
-
-        static OptionLabelIndex from(JsonNode questionnaireQuestionsJson) {
-            Map<String, String> map = new HashMap<>();
-            if (questionnaireQuestionsJson == null || questionnaireQuestionsJson.isNull()) {
-                return new OptionLabelIndex(map);
-            }
-
-            JsonNode questionsArr = questionnaireQuestionsJson.path("questions");
-            if (!questionsArr.isArray()) return new OptionLabelIndex(map);
-
-            for (JsonNode q : questionsArr) {
-                JsonNode options = q.path("options");
-                if (!options.isArray()) continue;
-
-                for (JsonNode opt : options) {
-                    String id = opt.path("id").asText("").trim();
-                    String label = opt.path("label").asText("").trim();
-                    if (!id.isBlank() && !label.isBlank()) {
-                        map.put(id, label);
-                    }
-                }
-            }
+    /**
+     * Applies an ordered list of add/remove/move edits in one transaction.
+     * <p>
+     * All memberships of the generation are read once and every edit is validated against that
+     * in-memory state, so a later edit sees the effect of earlier ones. Nothing is written unless
+     * every edit is valid. Only the net change per participant is stored (removals in one delete,
+     * the rest batched at flush), and each touched team is rescored once.
+     *
+     * @return the touched teams, in order of first appearance in the batch
+     */
+    @Transactional
+    public List<TeamDTO> applyEdits(Long hackathonId, BatchEditRequest request) {
+        validateHackathonId(hackathonId);
+        if (request == null || request.operations() == null) throw new BadRequestException("Request body is required");
 
-            return new OptionLabelIndex(map);
+        List<EditOperation> operations = request.operations();
+        if (operations.isEmpty()) return List.of();
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new BadRequestException("A batch may contain at most " + MAX_BATCH_OPERATIONS + " operations");
         }
 
-        String labelOrFallback(String optionId) {
-            if (optionId == null) return "";
-            String trimmed = optionId.trim();
-            if (trimmed.isBlank()) return "";
-            return optionIdToLabel.getOrDefault(trimmed, trimmed);
-        }
+        Map<UUID, Team> teams = loadBatchTeams(hackathonId, operations);
+        UUID generationId = teams.values().iterator().next().getGenerationId();
 
-        Set<String> labelsOrFallbacks(Collection<String> optionIds) {
-            if (optionIds == null || optionIds.isEmpty()) return Set.of();
-            LinkedHashSet<String> out = new LinkedHashSet<>();
-            for (String id : optionIds) {
-                String label = labelOrFallback(id);
-                if (!label.isBlank()) out.add(label);
-            }
-            return out;
+        // in-memory snapshot of the generation: participant -> membership, and the original memberships
+        Map<Long, TeamMember> original = new HashMap<>();
+        for (TeamMember m : teamMemberRepository.findByGenerationId(generationId)) {
+            original.put(m.getParticipantId(), m);
         }
-    }
-
-    // =========================================================
-    // Candidate parsing (same as your current file)
-    // =========================================================
-
-    private static final class Candidate {
-        private Long participantId;
-
-        private String roleLabel;
-        private Set<String> skillLabels = Set.of();
-
-        private int motivation;
-        private int yearsExperience;
-
-        public Long participantId() { return participantId; }
-        public String roleLabel() { return roleLabel; }
-        public Set<String> skillLabels() { return skillLabels; }
-        public int motivation() { return motivation; }
-        public int yearsExperience() { return yearsExperience; }
+        Map<Long, TeamMember> current = new HashMap<>(original);
+        Map<Long, UUID> currentTeam = new HashMap<>();
+        original.forEach((participantId, m) -> currentTeam.put(participantId, m.getTeam().getId()));
 
-        public void setParticipantId(Long participantId) { this.participantId = participantId; }
-        public void setRoleLabel(String roleLabel) { this.roleLabel = roleLabel; }
-        public void setSkillLabels(Set<String> skillLabels) { this.skillLabels = (skillLabels == null ? Set.of() : skillLabels); }
-        public void setMotivation(int motivation) { this.motivation = motivation; }
-        public void setYearsExperience(int yearsExperience) { this.yearsExperience = yearsExperience; }
+        Set<Long> existingParticipants = existingParticipantsToAdd(hackathonId, operations, original.keySet());
 
-        static Candidate fromAnswer(QuestionnaireAnswer questionnaireAnswer, OptionLabelIndex optionIndex) {
-            JsonNode data = questionnaireAnswer.getData();
+        Map<UUID, TeamScoreAggregate> aggregates = new LinkedHashMap<>();
+        for (int index = 0; index < operations.size(); index++) {
+            EditOperation op = operations.get(index);
+            String at = "Operation " + index + ": ";
+            Long participantId = op.participantId();
 
-            Candidate c = new Candidate();
-            c.setParticipantId(questionnaireAnswer.getParticipant().getId());
-
-            if (data == null || data.isNull()) return c;
-
-            if (data.isArray()) {
-                Map<String, JsonNode> byKey = new HashMap<>();
-                for (JsonNode item : data) {
-                    String key = item.path("key").asText("").trim();
-                    if (!key.isBlank()) byKey.put(key, item);
+            switch (op.type()) {
+                case ADD -> {
+                    if (currentTeam.containsKey(participantId)) {
+                        throw new ConflictException(at + "participant " + participantId + " is already in a team for this generation");
+                    }
+                    if (!original.containsKey(participantId) && !existingParticipants.contains(participantId)) {
+                        throw new NotFoundException(at + "participant not found in hackathon " + hackathonId + ": " + participantId);
+                    }
+                    // re-adding someone removed earlier in the batch keeps their membership row
+                    TeamMember member = original.containsKey(participantId)
+                            ? original.get(participantId)
+                            : newMember(generationId, participantId);
+                    current.put(participantId, member);
+                    currentTeam.put(participantId, op.teamId());
+                    batchAggregate(aggregates, teams.get(op.teamId()), original).add(candidateFromSnapshots(member));
                 }
-
-                String roleOptionId = AnswerUtil.firstOptionId(byKey.get("role"));
-                c.setRoleLabel(optionIndex.labelOrFallback(roleOptionId));
-
-                List<String> skillOptionIds = AnswerUtil.optionIds(byKey.get("skills"));
-                c.setSkillLabels(optionIndex.labelsOrFallbacks(skillOptionIds));
-
-                int motivation = AnswerUtil.motivationAverage(byKey.get("motivation"));
-                c.setMotivation(Math.max(0, motivation));
-
-                int years = AnswerUtil.numberLike(byKey.get("years_experience"));
-                c.setYearsExperience(Math.max(0, years));
-
-                return c;
-            }
-
-            c.setRoleLabel(TextUtil.safe(data.path("role").asText(null)));
-
-            JsonNode skillsNode = data.path("skills");
-            if (skillsNode.isArray()) {
-                LinkedHashSet<String> skills = new LinkedHashSet<>();
-                for (JsonNode s : skillsNode) {
-                    String val = s.asText("").trim();
-                    if (!val.isBlank()) skills.add(val);
+                case REMOVE -> {
+                    requireInTeam(at, currentTeam, participantId, op.teamId());
+                    currentTeam.remove(participantId);
+                    batchAggregate(aggregates, teams.get(op.teamId()), original)
+                            .remove(candidateFromSnapshots(current.remove(participantId)));
                 }
-                c.setSkillLabels(skills);
-            } else {
-                c.setSkillLabels(SkillUtil.parseCommaSeparated(skillsNode.asText("")));
-            }
-
-            c.setMotivation(Math.max(0, data.path("motivation").asInt(0)));
-            c.setYearsExperience(Math.max(0, data.path("years_experience").asInt(0)));
-
-            return c;
-        }
-    }
-
-    private static final class AnswerUtil {
-        private AnswerUtil() {}
-
-        static String firstOptionId(JsonNode answerNode) {
-            if (answerNode == null || answerNode.isNull()) return null;
-
-            JsonNode arr = answerNode.path("valueOptionIds");
-            if (arr.isArray()) {
-                for (JsonNode it : arr) {
-                    String id = it.asText("").trim();
-                    if (!id.isBlank()) return id;
+                case MOVE -> {
+                    requireInTeam(at, currentTeam, participantId, op.teamId());
+                    if (op.teamId().equals(op.toTeamId())) continue;
+                    Candidate moved = candidateFromSnapshots(current.get(participantId));
+                    currentTeam.put(participantId, op.toTeamId());
+                    batchAggregate(aggregates, teams.get(op.teamId()), original).remove(moved);
+                    batchAggregate(aggregates, teams.get(op.toTeamId()), original).add(moved);
                 }
             }
-
-            String single = answerNode.path("valueOptionId").asText("").trim();
-            if (!single.isBlank()) return single;
-
-            String txt = answerNode.path("valueText").asText("").trim();
-            return txt.isBlank() ? null : txt;
         }
 
-        static List<String> optionIds(JsonNode answerNode) {
-            if (answerNode == null || answerNode.isNull()) return List.of();
-
-            JsonNode arr = answerNode.path("valueOptionIds");
-            if (arr.isArray()) {
-                List<String> out = new ArrayList<>();
-                for (JsonNode it : arr) {
-                    String id = it.asText("").trim();
-                    if (!id.isBlank()) out.add(id);
+        // net change per participant
+        Set<Long> touched = new HashSet<>(original.keySet());
+        touched.addAll(currentTeam.keySet());
+        List<UUID> deletes = new ArrayList<>();
+        List<TeamMember> inserts = new ArrayList<>();
+        List<TeamBoardEvent> events = new ArrayList<>();
+        for (Long participantId : touched) {
+            TeamMember before = original.get(participantId);
+            UUID finalTeamId = currentTeam.get(participantId);
+
+            if (finalTeamId == null) {
+                if (before != null) {
+                    deletes.add(before.getId());
+                    events.add(TeamBoardEvent.memberRemoved(before.getTeam().getId(), participantId));
                 }
-                if (!out.isEmpty()) return out;
+            } else if (before == null) {
+                TeamMember member = current.get(participantId);
+                member.setTeam(teams.get(finalTeamId));
+                inserts.add(member);
+            } else if (!before.getTeam().getId().equals(finalTeamId)) {
+                events.add(TeamBoardEvent.memberMoved(before.getTeam().getId(), finalTeamId, participantId));
+                before.setTeam(teams.get(finalTeamId));
             }
-
-            String single = answerNode.path("valueOptionId").asText("").trim();
-            if (!single.isBlank()) return List.of(single);
-
-            String txt = answerNode.path("valueText").asText("").trim();
-            if (txt.isBlank()) return List.of();
-            return Arrays.stream(txt.split(",")).map(String::trim).filter(s -> !s.isBlank()).toList();
         }
 
-        static int numberLike(JsonNode answerNode) {
-            if (answerNode == null || answerNode.isNull()) return 0;
-
-            JsonNode n = answerNode.get("valueNumber");
-            if (n != null && n.isNumber()) return n.asInt(0);
+        // removals first, so a re-added participant never collides with its old row
+        if (!deletes.isEmpty()) teamMemberRepository.deleteAllByIdInBatch(deletes);
+        teamMemberRepository.saveAll(inserts);
 
-            String txt = answerNode.path("valueText").asText(null);
-            if (txt == null) return 0;
+        aggregates.forEach((teamId, aggregate) -> applyScore(teams.get(teamId), aggregate));
+        List<Team> touchedTeams = aggregates.keySet().stream().map(teams::get).toList();
+        teamRepository.saveAll(touchedTeams);
 
-            try { return Integer.parseInt(txt.trim()); }
-            catch (Exception ignored) { return 0; }
+        List<TeamDTO> dtos = toTeamDTOs(touchedTeams, currentTeam, current);
+        if (!aggregates.isEmpty()) {
+            addedMemberEvents(dtos, inserts, events);
+            touchedTeams.forEach(t -> events.add(TeamBoardEvent.scoreChanged(t.getId(), t.getScore())));
+            teamsEdited(hackathonId, generationId, events);
         }
+        return dtos;
+    }
 
-        static int motivationAverage(JsonNode answerNode) {
-            if (answerNode == null || answerNode.isNull()) return 0;
-
-            JsonNode obj = answerNode.path("valueJson");
-            if (obj != null && obj.isObject()) {
-                int count = 0;
-                double sum = 0.0;
-
-                Iterator<Map.Entry<String, JsonNode>> it = obj.fields();
-                while (it.hasNext()) {
-                    JsonNode v = it.next().getValue();
-                    if (v == null) continue;
-
-                    if (v.isNumber()) {
-                        sum += v.asDouble();
-                        count++;
-                    } else if (v.isTextual()) {
-                        try {
-                            sum += Double.parseDouble(v.asText().trim());
-                            count++;
-                        } catch (Exception ignored) {}
-                    }
-                }
-
-                if (count > 0) return (int) Math.round(sum / (double) count);
-            }
-
-            JsonNode n = answerNode.get("valueNumber");
-            if (n != null && n.isNumber()) return n.asInt(0);
-
-            String txt = answerNode.path("valueText").asText(null);
-            if (txt != null) {
-                try { return Integer.parseInt(txt.trim()); }
-                catch (Exception ignored) {}
+    /** MEMBER_ADDED events for the batch's new memberships, taking the member views from the returned teams. */
+    private static void addedMemberEvents(List<TeamDTO> dtos, List<TeamMember> inserts, List<TeamBoardEvent> events) {
+        if (inserts.isEmpty()) return;
+        Set<Long> added = inserts.stream().map(TeamMember::getParticipantId).collect(Collectors.toSet());
+        for (TeamDTO dto : dtos) {
+            for (TeamMemberDTO member : dto.members()) {
+                if (added.contains(member.participant().id())) events.add(TeamBoardEvent.memberAdded(dto.id(), member));
             }
-            return 0;
         }
     }
 
-    private static final class Eligibility {
-        private Eligibility() {}
-
-        static boolean isAllowed(JsonNode data) {
-            if (data == null || data.isNull()) return false;
-
-            if (data.isArray()) {
-                for (JsonNode item : data) {
-                    if (!"age_verification".equals(item.path("key").asText(""))) continue;
-
-                    JsonNode b = item.get("valueBoolean");
-                    if (b != null && b.isBoolean()) return b.asBoolean();
-
-                    String txt = item.path("valueText").asText("").trim().toLowerCase(Locale.ROOT);
-                    return txt.startsWith("yes") || txt.equals("true");
-                }
-                return true;
+    /** Loads every team named in the batch with one query; they must all belong to one generation of the hackathon. */
+    private Map<UUID, Team> loadBatchTeams(Long hackathonId, List<EditOperation> operations) {
+        Set<UUID> teamIds = new LinkedHashSet<>();
+        for (int index = 0; index < operations.size(); index++) {
+            EditOperation op = operations.get(index);
+            String at = "Operation " + index + ": ";
+            if (op == null || op.type() == null) throw new BadRequestException(at + "type is required");
+            if (op.teamId() == null) throw new BadRequestException(at + "teamId is required");
+            if (op.participantId() == null || op.participantId() <= 0) throw new BadRequestException(at + "invalid participant id");
+            if (op.type() == EditType.MOVE && op.toTeamId() == null) throw new BadRequestException(at + "toTeamId is required");
+
+            teamIds.add(op.teamId());
+            if (op.type() == EditType.MOVE) teamIds.add(op.toTeamId());
+        }
+
+        Map<UUID, Team> teams = new LinkedHashMap<>();
+        for (Team team : teamRepository.findAllById(teamIds)) teams.put(team.getId(), team);
+
+        UUID generationId = null;
+        for (UUID teamId : teamIds) {
+            Team team = teams.get(teamId);
+            if (team == null || team.getHackathon() == null || !hackathonId.equals(team.getHackathon().getId())) {
+                throw new NotFoundException("Team not found: " + teamId);
             }
-
-            if (data.has("age_verification")) {
-                String txt = data.path("age_verification").asText("").trim().toLowerCase(Locale.ROOT);
-                return txt.startsWith("yes") || txt.equals("true");
+            if (team.getGenerationId() == null) throw new ConflictException("Team has no generationId: " + teamId);
+            if (generationId == null) generationId = team.getGenerationId();
+            else if (!generationId.equals(team.getGenerationId())) {
+                throw new BadRequestException("All teams of a batch must belong to the same generation");
             }
-
-            return true;
         }
+        return teams;
     }
 
-    private static final class TextUtil {
-        private TextUtil() {}
-        static String safe(String text) {
-            if (text == null) return "";
-            String t = text.trim();
-            return t.isBlank() ? "" : t;
-        }
-    }
+    /** Participants of the hackathon that are added by the batch and have no membership yet, checked with one query. */
+    private Set<Long> existingParticipantsToAdd(Long hackathonId, List<EditOperation> operations, Set<Long> members) {
+        Set<Long> ids = operations.stream()
+                .filter(op -> op.type() == EditType.ADD && !members.contains(op.participantId()))
+                .map(EditOperation::participantId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) return Set.of();
 
-    private static final class SkillUtil {
-        private SkillUtil() {}
-        static Set<String> parseCommaSeparated(String raw) {
-            if (raw == null) return Set.of();
-            String t = raw.trim();
-            if (t.isBlank()) return Set.of();
-            return Arrays.stream(t.split(","))
-                    .map(String::trim)
-                    .filter(s -> !s.isBlank())
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-        }
+        return participantRepository.findAllInHackathon(hackathonId, ids).stream()
+                .map(Participant::getId)
+                .collect(Collectors.toSet());
     }
 
-    // =========================================================
-    // Layout (unchanged)
-    // =========================================================
-
-    private static final class TeamLayout {
-        private final int numberOfTeams;
-        private final List<Integer> maxSizesPerTeam;
-
-        private TeamLayout(int numberOfTeams, List<Integer> maxSizesPerTeam) {
-            this.numberOfTeams = numberOfTeams;
-            this.maxSizesPerTeam = maxSizesPerTeam;
-        }
-
-        int numberOfTeams() { return numberOfTeams; }
-        List<Integer> maxSizesPerTeam() { return maxSizesPerTeam; }
-
-        static TeamLayout compute(int totalCandidates, int targetTeamSize) {
-            int teams = (int) Math.ceil((double) totalCandidates / (double) targetTeamSize);
-            teams = Math.max(1, teams);
-
-            int base = totalCandidates / teams;
-            int extra = totalCandidates % teams;
-
-            List<Integer> maxSizes = new ArrayList<>(teams);
-            for (int i = 0; i < teams; i++) {
-                maxSizes.add(base + (i < extra ? 1 : 0));
-            }
-
-            return new TeamLayout(teams, maxSizes);
+    private static void requireInTeam(String at, Map<Long, UUID> currentTeam, Long participantId, UUID teamId) {
+        if (!teamId.equals(currentTeam.get(participantId))) {
+            throw new NotFoundException(at + "participant " + participantId + " is not in team " + teamId);
         }
     }
 
-    // =========================================================
-    // NEW: power-team pick scoring + bucketing
-    // =========================================================
-
-    private static final class TeamDraft2 {
-        private final String name;
-        private final int capacity;
-        private final List<BucketedCandidate> members = new ArrayList<>();
-        private final Set<String> roleBuckets = new HashSet<>();
-        private final Set<String> skillBuckets = new HashSet<>();
-
-        TeamDraft2(String name, int capacity) {
-            this.name = name;
-            this.capacity = capacity;
-        }
-
-        String name() { return name; }
-        List<BucketedCandidate> members() { return members; }
-
-        boolean isFull() { return members.size() >= capacity; }
-
-        void add(BucketedCandidate c) {
-            members.add(c);
-            if (!c.roleBucket().isBlank()) roleBuckets.add(c.roleBucket());
-            skillBuckets.addAll(c.skillBuckets());
-        }
-
-        Set<String> roleBuckets() { return roleBuckets; }
-        Set<String> skillBuckets() { return skillBuckets; }
+    private static TeamMember newMember(UUID generationId, Long participantId) {
+        TeamMember member = new TeamMember();
+        member.setGenerationId(generationId);
+        member.setParticipantId(participantId);
+        return member;
     }
 
-    private static final class BucketedCandidate {
-        private final Candidate base;
-        private final String roleBucket;
-        private final Set<String> skillBuckets;
-
-        private BucketedCandidate(Candidate base, String roleBucket, Set<String> skillBuckets) {
-            this.base = base;
-            this.roleBucket = roleBucket == null ? "" : roleBucket;
-            this.skillBuckets = skillBuckets == null ? Set.of() : skillBuckets;
-        }
+    /**
+     * Aggregate of a team touched by a batch. A team without a stored aggregate gets one built from
+     * its original members in the generation snapshot, so its member collection is never loaded.
+     */
+    private static TeamScoreAggregate batchAggregate(Map<UUID, TeamScoreAggregate> aggregates, Team team,
+                                                     Map<Long, TeamMember> original) {
+        return aggregates.computeIfAbsent(team.getId(), id -> {
+            if (team.getScoreAggregate() != null) return team.getScoreAggregate();
+            return TeamScoreAggregate.of(original.values().stream()
+                    .filter(m -> id.equals(m.getTeam().getId()))
+                    .map(TeamService::candidateFromSnapshots)
+                    .toList());
+        });
+    }
 
-        static BucketedCandidate from(Candidate c, RoleSkillBucketer bucketer) {
-            String roleBucket = bucketer.roleBucket(c.roleLabel());
-            Set<String> skillBuckets = bucketer.skillBuckets(c.skillLabels());
-            return new BucketedCandidate(c, roleBucket, skillBuckets);
-        }
+    /** DTOs for teams from the batch's final in-memory state, with one participant query. */
+    private List<TeamDTO> toTeamDTOs(List<Team> teams, Map<Long, UUID> currentTeam, Map<Long, TeamMember> current) {
+        Map<UUID, List<TeamMember>> membersByTeam = new HashMap<>();
+        currentTeam.forEach((participantId, teamId) ->
+                membersByTeam.computeIfAbsent(teamId, k -> new ArrayList<>()).add(current.get(participantId)));
 
-        Candidate base() { return base; }
+        Set<Long> participantIds = teams.stream()
+                .flatMap(t -> membersByTeam.getOrDefault(t.getId(), List.of()).stream())
+                .map(TeamMember::getParticipantId)
+                .collect(Collectors.toSet());
 
-        Long participantId() { return base.participantId(); }
-        int motivation() { return base.motivation(); }
-        int yearsExperience() { return base.yearsExperience(); }
+        Map<Long, ParticipantDto> participantsById = participantRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Participant::getId, ParticipantDto::new));
 
-        String roleBucket() { return roleBucket; }
-        Set<String> skillBuckets() { return skillBuckets; }
+        return teams.stream()
+                .map(t -> new TeamDTO(t, membersByTeam.getOrDefault(t.getId(), List.of()).stream()
+                        .map(m -> {
+                            ParticipantDto dto = participantsById.get(m.getParticipantId());
+                            if (dto == null) throw new NotFoundException("Participant not found: " + m.getParticipantId());
+                            return new TeamMemberDTO(m, dto);
+                        })
+                        .toList()))
+                .toList();
     }
 
-    private static final class TeamPickScoring {
-        // Motivation dominates. Variety is still meaningful.
-        // Power team leans even harder toward motivation.
-        static double pickScore(TeamDraft2 team, BucketedCandidate c, boolean powerTeam) {
-            if (powerTeam && c.motivation() < 3) return Double.NEGATIVE_INFINITY;
-
-            double motivationW = powerTeam ? 4.2 : 2.8;
-            double newRoleW = 1.2;
-            double newSkillW = 0.10;
-            double duplicateRolePenalty = 0.6;
-
-            double score = 0.0;
-
-            // Motivation normalized to 0..1 based on 1..5 (your current scale)
-            score += motivationW * normalizeMotivation01(c.motivation());
+    private TeamDTO toTeamDTO(Team team) {
+        List<TeamMember> members = teamMemberRepository.findByTeamId(team.getId());
 
-            // New role bonus
-            boolean newRole = !c.roleBucket().isBlank() && !team.roleBuckets().contains(c.roleBucket());
-            if (newRole) score += newRoleW;
+        Set<Long> participantIds = members.stream()
+                .map(TeamMember::getParticipantId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-            // Skill bucket bonuses (count only new skill buckets)
-            int newSkillCount = 0;
-            for (String sb : c.skillBuckets()) {
-                if (!team.skillBuckets().contains(sb)) newSkillCount++;
-            }
-            score += newSkillW * newSkillCount;
+        Map<Long, ParticipantDto> participantsById = participantRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Participant::getId, ParticipantDto::new));
 
-            // If role already exists, apply penalty to avoid stacking same role too much
-            if (!c.roleBucket().isBlank() && team.roleBuckets().contains(c.roleBucket())) {
-                score -= duplicateRolePenalty;
-            }
+        List<TeamMemberDTO> memberDtos = members.stream()
+                .map(m -> {
+                    ParticipantDto dto = participantsById.get(m.getParticipantId());
+                    if (dto == null) throw new NotFoundException("Participant not found: " + m.getParticipantId());
+                    return new TeamMemberDTO(m, dto);
+                })
+                .toList();
 
-            // Small experience nudge (optional): helps power team avoid all-newcomers or all-vets
-            score += 0.08 * normalizeYears01(c.yearsExperience());
+        return new TeamDTO(team, memberDtos);
+    }
 
-            return score;
-        }
+    private TeamDTO toTeamDTO(Team team, Map<Long, ParticipantDto> participantsById) {
+        List<TeamMemberDTO> memberDtos = safeMembers(team).stream()
+                .map(m -> {
+                    ParticipantDto dto = participantsById.get(m.getParticipantId());
+                    if (dto == null) throw new NotFoundException("Participant not found: " + m.getParticipantId());
+                    return new TeamMemberDTO(m, dto);
+                })
+                .toList();
 
-        private static double normalizeMotivation01(int motivation) {
-            int clamped = Math.max(1, Math.min(5, motivation));
-            return (clamped - 1) / 4.0;
-        }
+        return new TeamDTO(team, memberDtos);
+    }
 
-        private static double normalizeYears01(int years) {
-            int clamped = Math.max(0, years);
-            double capped = Math.min(20.0, clamped);
-            return capped / 20.0;
-        }
+    private static List<TeamMember> safeMembers(Team team) {
+        return team.getMembers() == null ? List.of() : team.getMembers();
     }
 
     /**
-     * Learns “stable buckets” from a mixed dataset:
-     * - map messy imported roles/skills into:
-     *   - known canonical buckets via keyword mapping
-     *   - otherwise top-N most frequent normalized values
-     *   - else OTHER
+     * Records a manual edit: the generation can no longer be reused, the board version moves on and
+     * {@code events} go out to the board's subscribers once the edit commits.
      */
-    private static final class RoleSkillBucketer {
-        private final Set<String> topRoleTokens;
-        private final Set<String> topSkillTokens;
-
-        private RoleSkillBucketer(Set<String> topRoleTokens, Set<String> topSkillTokens) {
-            this.topRoleTokens = topRoleTokens;
-            this.topSkillTokens = topSkillTokens;
-        }
-
-        static RoleSkillBucketer build(List<Candidate> candidates) {
-            Map<String, Integer> roleFreq = new HashMap<>();
-            Map<String, Integer> skillFreq = new HashMap<>();
-
-            for (Candidate c : candidates) {
-                String roleTok = normalizeToken(c.roleLabel());
-                if (!roleTok.isBlank()) roleFreq.merge(roleTok, 1, Integer::sum);
-
-                for (String s : c.skillLabels()) {
-                    String tok = normalizeToken(s);
-                    if (!tok.isBlank()) skillFreq.merge(tok, 1, Integer::sum);
-                }
-            }
-
-            // pick top roles/skills by frequency (kept small on purpose)
-            Set<String> topRoles = topK(roleFreq, 8);
-            Set<String> topSkills = topK(skillFreq, 24);
-
-            return new RoleSkillBucketer(topRoles, topSkills);
-        }
-
-        String roleBucket(String roleLabel) {
-            String tok = normalizeToken(roleLabel);
-            if (tok.isBlank()) return "OTHER_ROLE";
-
-            // First: keyword canonicalization (helps imported chaos)
-            String canonical = canonicalRole(tok);
-            if (canonical != null) return canonical;
-
-            // Then: frequent buckets
-            if (topRoleTokens.contains(tok)) return "ROLE_" + tok;
-
-            return "OTHER_ROLE";
-        }
-
-        Set<String> skillBuckets(Set<String> skills) {
-            if (skills == null || skills.isEmpty()) return Set.of("OTHER_SKILL");
-
-            LinkedHashSet<String> out = new LinkedHashSet<>();
-            for (String s : skills) {
-                String tok = normalizeToken(s);
-                if (tok.isBlank()) continue;
-
-                String canonical = canonicalSkill(tok);
-                if (canonical != null) {
-                    out.add(canonical);
-                    continue;
-                }
-
-                if (topSkillTokens.contains(tok)) out.add("SKILL_" + tok);
-                else out.add("OTHER_SKILL");
-            }
-            return out.isEmpty() ? Set.of("OTHER_SKILL") : out;
-        }
-
-        // ---- canonicalizers ----
-
-        private static String canonicalRole(String tok) {
-            // very lightweight but effective
-            if (containsAny(tok, "dev", "developer", "software", "engineer", "backend", "frontend", "program")) return "ROLE_DEVELOPER";
-            if (containsAny(tok, "design", "ui", "ux", "product designer", "graphic")) return "ROLE_DESIGNER";
-            if (containsAny(tok, "market", "growth", "sales", "branding", "pr")) return "ROLE_MARKETER";
-            if (containsAny(tok, "business", "entrepreneur", "strategy", "management", "founder")) return "ROLE_BUSINESS";
-            return null;
-        }
-
-        private static String canonicalSkill(String tok) {
-            // examples only: keep small, the learned-top list covers most
-            if (containsAny(tok, "react", "vue", "angular", "frontend")) return "SKILL_FRONTEND";
-            if (containsAny(tok, "java", "spring", "node", "backend", "api")) return "SKILL_BACKEND";
-            if (containsAny(tok, "figma", "ux", "ui", "design")) return "SKILL_UIUX";
-            if (containsAny(tok, "ml", "ai", "data", "analytics")) return "SKILL_DATA";
-            if (containsAny(tok, "devops", "cloud", "docker", "kubernetes", "aws", "gcp", "azure")) return "SKILL_DEVOPS";
-            return null;
-        }
-
-        private static boolean containsAny(String tok, String... needles) {
-            for (String n : needles) {
-                if (tok.contains(n)) return true;
-            }
-            return false;
-        }
-
-        private static String normalizeToken(String raw) {
-            if (raw == null) return "";
-            String t = raw.trim().toLowerCase(Locale.ROOT);
-            if (t.isBlank()) return "";
-            // remove most punctuation to reduce “DevOps / cloud” vs “devops cloud”
-            t = t.replaceAll("[^a-z0-9]+", " ").trim();
-            t = t.replaceAll("\\s+", " ");
-            return t;
-        }
-
-        private static Set<String> topK(Map<String, Integer> freq, int k) {
-            if (freq.isEmpty()) return Set.of();
-            return freq.entrySet().stream()
-                    .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-                    .limit(k)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-        }
+    private void teamsEdited(Long hackathonId, UUID generationId, List<TeamBoardEvent> events) {
+        teamGenerationRepository.markEdited(generationId);
+        boardVersions.bump(hackathonId);
+        boardFeed.publish(hackathonId, events);
     }
 
     // =========================================================
-    // Existing compatibility scoring (kept)
+    // Score maintenance for edits
     // =========================================================
 
-    private static final class TeamCompatibilityScoring {
-
-        private static final double W_MOTIVATION = 0.55;
-        private static final double W_EXPERIENCE = 0.20;
-        private static final double W_ROLE_VARIETY = 0.15;
-        private static final double W_SKILL_VARIETY = 0.10;
-
-        static double teamCompatibilityScore(List<Candidate> members) {
-            if (members == null || members.isEmpty()) return 0.0;
-
-            double motivation = motivationScore(members);
-            double experience = experienceScore(members);
-            double roleVariety = roleVarietyScore(members);
-            double skillVariety = skillVarietyScore(members);
-
-            double weighted =
-                    W_MOTIVATION * motivation +
-                            W_EXPERIENCE * experience +
-                            W_ROLE_VARIETY * roleVariety +
-                            W_SKILL_VARIETY * skillVariety;
-
-            return round2(clamp01(weighted) * 5.0);
-        }
-
-        private static double motivationScore(List<Candidate> members) {
-            List<Double> vals = members.stream().map(c -> normalizeMotivation(c.motivation())).toList();
-            double avg = vals.stream().mapToDouble(v -> v).average().orElse(0.0);
-            double cohesion = cohesion(vals, 0.25);
-            return clamp01(0.7 * avg + 0.3 * cohesion);
-        }
-
-        private static double experienceScore(List<Candidate> members) {
-            List<Double> vals = members.stream().map(c -> normalizeYears(c.yearsExperience())).toList();
-            double avg = vals.stream().mapToDouble(v -> v).average().orElse(0.0);
-            double cohesion = cohesion(vals, 0.35);
-            return clamp01(0.6 * avg + 0.4 * cohesion);
-        }
-
-        private static double roleVarietyScore(List<Candidate> members) {
-            int n = members.size();
-            Set<String> roles = members.stream()
-                    .map(c -> c.roleLabel() == null ? "" : c.roleLabel().trim().toLowerCase(Locale.ROOT))
-                    .filter(s -> !s.isBlank())
-                    .collect(Collectors.toSet());
-            if (roles.isEmpty()) return 0.4;
-            return clamp01(roles.size() / (double) n);
-        }
-
-        private static double skillVarietyScore(List<Candidate> members) {
-            int n = members.size();
-            Set<String> skills = new HashSet<>();
-            for (Candidate c : members) {
-                for (String s : c.skillLabels()) {
-                    String t = s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
-                    if (!t.isBlank()) skills.add(t);
-                }
-            }
-            if (skills.isEmpty()) return 0.3;
-            double target = 3.0 * n;
-            return clamp01(skills.size() / target);
-        }
+    /**
+     * The team's running score aggregate. Teams persisted before aggregates existed get one
+     * built from their current members, once.
+     */
+    private static TeamScoreAggregate scoreAggregate(Team team) {
+        if (team.getScoreAggregate() != null) return team.getScoreAggregate();
+        return TeamScoreAggregate.of(safeMembers(team).stream()
+                .map(TeamService::candidateFromSnapshots)
+                .toList());
+    }
 
-        private static double cohesion(List<Double> values, double sdThreshold) {
-            if (values.isEmpty()) return 0.0;
-            double avg = values.stream().mapToDouble(v -> v).average().orElse(0.0);
-            double var = values.stream().mapToDouble(v -> (v - avg) * (v - avg)).average().orElse(0.0);
-            double sd = Math.sqrt(var);
-            return clamp01(1.0 - (sd / sdThreshold));
-        }
+    private static void applyScore(Team team, TeamScoreAggregate aggregate) {
+        team.setScoreAggregate(aggregate);
+        team.setScore(aggregate.score());
+    }
 
-        private static double normalizeMotivation(int motivation) {
-            int clamped = Math.max(1, Math.min(5, motivation));
-            return (clamped - 1) / 4.0;
-        }
+    private static Candidate candidateFromSnapshots(TeamMember m) {
+        Candidate c = new Candidate();
+        c.setParticipantId(m.getParticipantId());
+        c.setRoleLabel(TextUtil.safe(m.getRoleSnapshot()));
+        c.setSkillLabels(SkillUtil.parseCommaSeparated(m.getSkillsSnapshot()));
+        c.setMotivation(m.getMotivationSnapshot() == null ? 0 : m.getMotivationSnapshot());
+        c.setYearsExperience(m.getYearsExperienceSnapshot() == null ? 0 : m.getYearsExperienceSnapshot());
+        return c;
+    }
 
-        private static double normalizeYears(int years) {
-            int clamped = Math.max(0, years);
-            double capped = Math.min(20.0, clamped);
-            return capped / 20.0;
-        }
+    // =========================================================
+    // Validation
+    // =========================================================
 
-        private static double clamp01(double v) { return Math.max(0.0, Math.min(1.0, v)); }
-        private static double round2(double v) { return Math.round(v * 100.0) / 100.0; }
+    private static void validateHackathonId(Long hackathonId) {
+        if (hackathonId == null || hackathonId <= 0) throw new BadRequestException("Invalid hackathon id");
     }
 }
@@ -0,0 +1,19 @@
+-- Flat, typed projection of questionnaire answers used by team generation.
+-- One row per answer; written when answers are stored, rebuilt when the questionnaire changes.
+CREATE TABLE participant_features (
+    answer_id        BIGINT  PRIMARY KEY
+        REFERENCES questionnaire_answers (id) ON DELETE CASCADE,
+    questionnaire_id BIGINT  NOT NULL
+        REFERENCES questionnaire (id) ON DELETE CASCADE,
+    participant_id   BIGINT  NOT NULL
+        REFERENCES participants (id) ON DELETE CASCADE,
+    role_label       TEXT,
+    skill_labels     JSONB   NOT NULL DEFAULT '[]',
+    motivation       INT     NOT NULL,
+    years_experience INT     NOT NULL,
+    consent          BOOLEAN NOT NULL,
+    eligible         BOOLEAN NOT NULL
+);
+
+CREATE INDEX idx_participant_features_questionnaire
+    ON participant_features (questionnaire_id);
@@ -0,0 +1,4 @@
+-- Running score aggregates per team (member count, motivation/experience moments, role and skill counts).
+-- NULL for teams created before this column; the aggregate is built from the members on the first edit.
+ALTER TABLE team
+    ADD COLUMN IF NOT EXISTS score_aggregate JSONB;
@@ -0,0 +1,8 @@
+-- Change counters used to key cached team-generation previews.
+-- questions_version: bumped when the questions change; answers_version: bumped when answers
+-- or the hackathon's participant list change.
+ALTER TABLE questionnaire
+    ADD COLUMN IF NOT EXISTS questions_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE questionnaire
+    ADD COLUMN IF NOT EXISTS answers_version BIGINT NOT NULL DEFAULT 0;
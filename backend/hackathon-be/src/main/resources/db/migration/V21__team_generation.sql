@@ -0,0 +1,17 @@
+-- One row per persisted team generation: the seed it ran with and a hash of its inputs
+-- (candidate features, parameters, algorithm version), so an identical request can return the
+-- current teams instead of regenerating them.
+-- edited_at: set by the first manual edit of the generation's teams; edited generations are never reused.
+CREATE TABLE team_generation (
+    id                UUID        PRIMARY KEY,
+    hackathon_id      BIGINT      NOT NULL
+        REFERENCES hackathon (id) ON DELETE CASCADE,
+    seed              BIGINT,
+    input_hash        VARCHAR(64) NOT NULL,
+    algorithm_version INT         NOT NULL,
+    created_at        TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    edited_at         TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_team_generation_input
+    ON team_generation (hackathon_id, input_hash);
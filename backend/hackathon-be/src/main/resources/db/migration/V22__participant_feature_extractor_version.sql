@@ -0,0 +1,4 @@
+-- Version of the extraction logic a feature row was written with. Rows from an older version are
+-- rebuilt from the answers before the next team generation; existing rows start at 0 so they all are.
+ALTER TABLE participant_features
+    ADD COLUMN IF NOT EXISTS extractor_version INT NOT NULL DEFAULT 0;
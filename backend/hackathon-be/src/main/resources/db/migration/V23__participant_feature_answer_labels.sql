@@ -0,0 +1,4 @@
+-- Every answered question of the answer as a label, keyed by answer key, so generation can partition
+-- candidates (e.g. by track) without re-reading the answer JSON. Filled in by the extractor rebuild.
+ALTER TABLE participant_features
+    ADD COLUMN IF NOT EXISTS answer_labels JSONB NOT NULL DEFAULT '{}';
@@ -0,0 +1,6 @@
+-- answer_labels used to hold every answered question, including names, emails and free text.
+-- Extractor version 3 keeps only single-choice answers; clear the old labels now instead of waiting
+-- for the rows to be rebuilt before the next team generation.
+UPDATE participant_features
+SET answer_labels = '{}'
+WHERE extractor_version < 3;
@@ -18,6 +18,8 @@ import com.example.hackathonbe.hackathon.repository.HackathonRepository;
 import com.example.hackathonbe.hackathon.dto.HackathonCreateRequest;
 import com.example.hackathonbe.hackathon.dto.HackathonUpdateRequest;
 import com.example.hackathonbe.hackathon.exception.HackathonValidationException;
+import com.example.hackathonbe.team.service.TeamBoardFeed;
+import com.example.hackathonbe.team.service.TeamBoardService;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +39,12 @@ class HackathonAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TeamBoardFeed teamBoardFeed;
+
+    @Mock
+    private TeamBoardService teamBoardService;
+
     @InjectMocks
     private AdminHackathonService hackathonService;
 
@@ -286,4 +295,15 @@ class HackathonAdminServiceTest {
         assertEquals("Updated Name", updated.getName());
         assertEquals(HackathonStatus.OPEN, updated.getStatus());
     }
+
+    @Test
+    void deleteById_forgetsTeamBoardAndClosesFeed() {
+        when(hackathonRepository.existsById(1L)).thenReturn(true);
+
+        hackathonService.deleteById(1L);
+
+        verify(hackathonRepository).deleteById(1L);
+        verify(teamBoardService).forget(1L);
+        verify(teamBoardFeed).close(1L);
+    }
 }
@@ -10,6 +10,7 @@ import com.example.hackathonbe.hackathon.model.QuestionnaireSource;
 import com.example.hackathonbe.hackathon.model.QuestionnaireStatus;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
 import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
+import com.example.hackathonbe.team.service.ParticipantFeatureService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Disabled;
@@ -33,6 +34,9 @@ class QuestionnaireServiceTest {
     @Mock
     private HackathonRepository hackathonRepository;
 
+    @Mock
+    private ParticipantFeatureService participantFeatureService;
+
     @InjectMocks
     private QuestionnaireService questionnaireService;
 
@@ -0,0 +1,69 @@
+package com.example.hackathonbe.importing.parse;
+
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RFC 4180 CSV parsing.
+ */
+class CsvParserTest {
+
+    private final CsvParser parser = new CsvParser();
+
+    @Test
+    void parse_quotedFields_keepCommasQuotesAndLineBreaks() throws Exception {
+        String csv = "First Name,Problem,Email\r\n"
+                + "Alice,\"Too much waste, no sorting\",alice@example.com\r\n"
+                + "Brian,\"Says \"\"hi\"\"\nthen leaves\",brian@example.com\r\n"
+                + "Carla,plain,carla@example.com\r\n";
+
+        List<ParticipantPreviewRow> rows = parse(csv);
+
+        assertThat(rows).extracting(r -> r.fields().get("problem"))
+                .containsExactly("Too much waste, no sorting", "Says \"hi\"\nthen leaves", "plain");
+        // the multi-line record is still one row
+        assertThat(rows).extracting(ParticipantPreviewRow::rowNumber).containsExactly(2, 3, 4);
+        assertThat(rows.get(0).keyToColumn()).containsEntry("email", 3);
+        assertThat(rows.get(0).keyToHeader()).containsEntry("first_name", "First Name");
+    }
+
+    @Test
+    void parse_bomAndSemicolons_detectsDelimiter() throws Exception {
+        String csv = "\uFEFFFirst Name;Skills;Email\n"
+                + "Alice;Java, SQL;alice@example.com\n";
+
+        List<ParticipantPreviewRow> rows = parse(csv);
+
+        assertThat(rows).singleElement().satisfies(r -> {
+            assertThat(r.fields()).containsOnlyKeys("first_name", "skills", "email");
+            assertThat(r.fields().get("skills")).isEqualTo("Java, SQL");
+        });
+    }
+
+    @Test
+    void parse_blankAndShortRows_skipsBlankAndPadsShort() throws Exception {
+        String csv = "First Name,Last Name,Email\n"
+                + ",,\n"
+                + "\n"
+                + "Alice\n";
+
+        List<ParticipantPreviewRow> rows = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), rows::add);
+
+        assertThat(rows).singleElement().satisfies(r -> {
+            assertThat(r.rowNumber()).isEqualTo(4);
+            assertThat(r.fields()).containsEntry("first_name", "Alice").containsEntry("email", "");
+        });
+    }
+
+    private List<ParticipantPreviewRow> parse(String csv) throws Exception {
+        return parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
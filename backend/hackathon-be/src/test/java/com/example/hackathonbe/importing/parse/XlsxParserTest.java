@@ -0,0 +1,106 @@
+package com.example.hackathonbe.importing.parse;
+
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for streaming XLSX parsing.
+ */
+class XlsxParserTest {
+
+    private final XlsxParser parser = new XlsxParser();
+
+    @Test
+    void parse_convertsCellsLikeTheWorkbookReader() throws Exception {
+        String expectedDate;
+        byte[] xlsx;
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            Sheet sheet = wb.createSheet("Participants");
+            Row header = sheet.createRow(0);
+            String[] headers = {"First Name", "Age", "Score", "Has Team", "Joined", "Greeting", "Total"};
+            for (int i = 0; i < headers.length; i++) header.createCell(i).setCellValue(headers[i]);
+
+            CellStyle dateStyle = wb.createCellStyle();
+            dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("Alice");
+            row.createCell(1).setCellValue(24);
+            row.createCell(2).setCellValue(7.5);
+            row.createCell(3).setCellValue(true);
+            row.createCell(4).setCellValue(LocalDate.of(2024, 3, 1));
+            row.getCell(4).setCellStyle(dateStyle);
+            row.createCell(5).setCellFormula("A2&\"!\"");
+            row.createCell(6).setCellFormula("B2+C2");
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            expectedDate = row.getCell(4).getDateCellValue().toString();
+
+            xlsx = write(wb);
+        }
+
+        List<ParticipantPreviewRow> rows = parser.parse(new ByteArrayInputStream(xlsx));
+
+        assertThat(rows).singleElement().satisfies(r -> {
+            assertThat(r.rowNumber()).isEqualTo(2);
+            assertThat(r.fields()).containsExactly(
+                    entry("first_name", "Alice"),
+                    entry("age", "24"),
+                    entry("score", "7.5"),
+                    entry("has_team", "true"),
+                    entry("joined", expectedDate),
+                    entry("greeting", "Alice!"),
+                    entry("total", "B2+C2"));
+        });
+    }
+
+    @Test
+    void parse_sparseRows_keepsColumnPositionsAndRowNumbers() throws Exception {
+        byte[] xlsx;
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            Sheet sheet = wb.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("First Name");
+            header.createCell(1).setCellValue("Last Name");
+            header.createCell(2).setCellValue("Email");
+
+            sheet.createRow(1).createCell(1);                 // styled blank: skipped
+            Row row = sheet.createRow(4);
+            row.createCell(2).setCellValue("bob@example.com");
+            row.createCell(40).setCellValue("outside the header");
+
+            xlsx = write(wb);
+        }
+
+        List<ParticipantPreviewRow> rows = parser.parse(new ByteArrayInputStream(xlsx));
+
+        assertThat(rows).singleElement().satisfies(r -> {
+            assertThat(r.rowNumber()).isEqualTo(5);
+            assertThat(r.fields()).containsExactly(
+                    entry("first_name", ""),
+                    entry("last_name", ""),
+                    entry("email", "bob@example.com"));
+            assertThat(r.keyToColumn()).containsEntry("email", 3);
+        });
+    }
+
+    private static byte[] write(XSSFWorkbook wb) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        wb.write(out);
+        return out.toByteArray();
+    }
+
+    private static java.util.Map.Entry<String, String> entry(String key, String value) {
+        return java.util.Map.entry(key, value);
+    }
+}
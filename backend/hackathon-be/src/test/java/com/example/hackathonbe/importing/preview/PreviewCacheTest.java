@@ -0,0 +1,85 @@
+package com.example.hackathonbe.importing.preview;
+
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for preview expiry, weight-bounded eviction and statistics.
+ */
+class PreviewCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void get_afterTtl_expiresPreview() {
+        PreviewCache cache = new PreviewCache(100, Long.MAX_VALUE, now::get);
+        UUID id = cache.put(rows(1));
+
+        now.set(99);
+        assertThat(cache.get(id).size()).isEqualTo(1);
+        now.set(100);
+        assertThat(cache.get(id)).isNull();
+
+        assertThat(cache.stats()).satisfies(s -> {
+            assertThat(s.hits()).isEqualTo(1);
+            assertThat(s.misses()).isEqualTo(1);
+            assertThat(s.expirations()).isEqualTo(1);
+            assertThat(s.entries()).isZero();
+            assertThat(s.weightBytes()).isZero();
+        });
+    }
+
+    @Test
+    void put_overBudget_evictsLeastRecentlyUsed() {
+        long oneRow = rows(1).estimatedBytes();
+        PreviewCache cache = new PreviewCache(Long.MAX_VALUE, 2 * oneRow, now::get);
+
+        UUID first = cache.put(rows(1));
+        UUID second = cache.put(rows(1));
+        cache.get(first);                   // second is now least recently used
+        UUID third = cache.put(rows(1));
+
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(third)).isNotNull();
+        assertThat(cache.stats()).satisfies(s -> {
+            assertThat(s.evictions()).isEqualTo(1);
+            assertThat(s.entries()).isEqualTo(2);
+            assertThat(s.weightBytes()).isEqualTo(2 * oneRow);
+        });
+    }
+
+    @Test
+    void put_largerThanBudget_isRefused() {
+        PreviewCache cache = new PreviewCache(Long.MAX_VALUE, rows(1).estimatedBytes(), now::get);
+
+        assertThatThrownBy(() -> cache.put(rows(2))).isInstanceOf(BadRequestException.class);
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void invalidate_dropsPreviewAndItsWeight() {
+        PreviewCache cache = new PreviewCache(Long.MAX_VALUE, Long.MAX_VALUE, now::get);
+        UUID id = cache.put(rows(3));
+
+        cache.invalidate(id);
+
+        assertThat(cache.get(id)).isNull();
+        assertThat(cache.stats().weightBytes()).isZero();
+    }
+
+    private static PreviewTable rows(int count) {
+        PreviewTable.Builder builder = PreviewTable.builder();
+        for (int i = 0; i < count; i++) {
+            builder.add(new ParticipantPreviewRow(Map.of("email", "p" + i + "@example.com"), true, i + 2, Map.of(), Map.of()), true);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.hackathonbe.importing.preview;
+
+import com.example.hackathonbe.importing.model.ParticipantPreviewRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar preview table.
+ */
+class PreviewTableTest {
+
+    private static final Map<String, Integer> KEY_TO_COLUMN = Map.of("email", 1, "gender", 2);
+    private static final Map<String, String> KEY_TO_HEADER = Map.of("email", "Email", "gender", "Gender");
+
+    @Test
+    void build_keepsValuesRowNumbersAndValidity() {
+        PreviewTable table = PreviewTable.builder()
+                .add(row("a@example.com", "Female", 2), true)
+                .add(row("b@example.com", "Male", 4), false)
+                .add(row("c@example.com", "Female", 5), true)
+                .build();
+
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.keys()).containsExactly("email", "gender");
+        assertThat(table.keyToHeader()).isSameAs(KEY_TO_HEADER);
+        assertThat(table.value(1, "gender")).isEqualTo("Male");
+        assertThat(table.value(1, "unknown")).isNull();
+        assertThat(table.rowNumber(2)).isEqualTo(5);
+        assertThat(table.isValid(1)).isFalse();
+        assertThat(table.validCount()).isEqualTo(2);
+
+        assertThat(table.fields(2)).containsExactly(entry("email", "c@example.com"), entry("gender", "Female"));
+        assertThat(table.fields(2)).isEqualTo(Map.of("email", "c@example.com", "gender", "Female"));
+    }
+
+    @Test
+    void build_highCardinalityColumn_fallsBackToPlainStorage() {
+        PreviewTable.Builder builder = PreviewTable.builder();
+        int rows = PreviewTable.DICTIONARY_LIMIT * 2;
+        for (int i = 0; i < rows; i++) {
+            builder.add(row("p" + i + "@example.com", i % 2 == 0 ? "Female" : "Male", i + 2), true);
+        }
+
+        PreviewTable table = builder.build();
+
+        for (int i = 0; i < rows; i++) {
+            assertThat(table.value(i, "email")).isEqualTo("p" + i + "@example.com");
+            assertThat(table.value(i, "gender")).isEqualTo(i % 2 == 0 ? "Female" : "Male");
+        }
+    }
+
+    @Test
+    void build_repeatedValues_costLessThanDistinctOnes() {
+        PreviewTable.Builder repeated = PreviewTable.builder();
+        PreviewTable.Builder distinct = PreviewTable.builder();
+        for (int i = 0; i < 1_000; i++) {
+            repeated.add(row("same@example.com", "Female", i + 2), true);
+            distinct.add(row("p" + i + "@example.com", "Female", i + 2), true);
+        }
+
+        assertThat(repeated.build().estimatedBytes()).isLessThan(distinct.build().estimatedBytes() / 4);
+    }
+
+    @Test
+    void build_withoutRows_isEmpty() {
+        PreviewTable table = PreviewTable.builder().build();
+
+        assertThat(table.size()).isZero();
+        assertThat(table.keys()).isEmpty();
+        assertThat(table.validCount()).isZero();
+    }
+
+    private static ParticipantPreviewRow row(String email, String gender, int rowNumber) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("email", email);
+        fields.put("gender", gender);
+        return new ParticipantPreviewRow(fields, true, rowNumber, KEY_TO_COLUMN, KEY_TO_HEADER);
+    }
+}
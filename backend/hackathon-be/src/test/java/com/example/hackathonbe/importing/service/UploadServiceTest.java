@@ -5,6 +5,7 @@ import com.example.hackathonbe.hackathon.repository.HackathonRepository;
 import com.example.hackathonbe.hackathon.service.QuestionnaireService;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
 import com.example.hackathonbe.importing.model.ValidationReport;
+import com.example.hackathonbe.importing.preview.PreviewCache;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,7 @@ import static org.mockito.Mockito.mock;
 
 class UploadServiceTest {
 
-    private final UploadService service = new UploadService(mock(ParticipantRepository.class), mock(HackathonRepository.class), mock(QuestionnaireService.class), null);
+    private final UploadService service = new UploadService(mock(ParticipantRepository.class), mock(HackathonRepository.class), mock(QuestionnaireService.class), null, null, null, new PreviewCache(30, 16));
 
     private static final String SAMPLE_CSV =
             String.join("\r\n",
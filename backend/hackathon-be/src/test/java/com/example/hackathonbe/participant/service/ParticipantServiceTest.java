@@ -3,11 +3,13 @@ package com.example.hackathonbe.participant.service;
 import com.example.hackathonbe.common.exceptions.NotFoundException;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
 import com.example.hackathonbe.participant.dto.ParticipantDto;
 import com.example.hackathonbe.participant.dto.ParticipantInfoResponse;
 import com.example.hackathonbe.participant.dto.ParticipantUpdateRequest;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.service.TeamBoardVersions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -30,6 +32,12 @@ class ParticipantServiceTest {
     @Mock
     private HackathonRepository hackathonRepository;
 
+    @Mock
+    private QuestionnaireRepository questionnaireRepository;
+
+    @Mock
+    private TeamBoardVersions teamBoardVersions;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -2,11 +2,18 @@ package com.example.hackathonbe.team.controller;
 
 import com.example.hackathonbe.auth.security.JwtAuthenticationFilter;
 import com.example.hackathonbe.participant.dto.ParticipantDto;
+import com.example.hackathonbe.team.dto.GenerationPreviewDTO;
 import com.example.hackathonbe.team.dto.TeamDTO;
 import com.example.hackathonbe.team.dto.TeamEditRequests.AddMembersRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.BatchEditRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditOperation;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditType;
 import com.example.hackathonbe.team.dto.TeamEditRequests.MoveMemberRequest;
 import com.example.hackathonbe.team.dto.TeamEditRequests.UpdateTeamNameRequest;
 import com.example.hackathonbe.team.dto.TeamMemberDTO;
+import com.example.hackathonbe.team.service.TeamBoardFeed;
+import com.example.hackathonbe.team.service.TeamBoardService;
+import com.example.hackathonbe.team.service.TeamPreviewService;
 import com.example.hackathonbe.team.service.TeamService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -24,6 +31,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +50,15 @@ class TeamControllerTest {
     @MockBean
     private TeamService teamService;
 
+    @MockBean
+    private TeamPreviewService teamPreviewService;
+
+    @MockBean
+    private TeamBoardService teamBoardService;
+
+    @MockBean
+    private TeamBoardFeed teamBoardFeed;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -61,14 +78,27 @@ class TeamControllerTest {
                 List.of(new TeamMemberDTO(new ParticipantDto(10L,  "John", "Doe", "john@example.com"), "Dev", "Java", 5, 3))
         );
 
-        when(teamService.getTeams(hackathonId)).thenReturn(List.of(dto));
+        when(teamBoardService.etag(hackathonId)).thenReturn("\"v1\"");
+        when(teamBoardService.board(hackathonId))
+                .thenReturn(new TeamBoardService.Board("\"v1\"", objectMapper.writeValueAsBytes(List.of(dto))));
 
-        mockMvc.perform(get("/api/1/teams")
-                        .param("generationId", generationId.toString()))
+        mockMvc.perform(get("/api/1/teams"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
                 .andExpect(jsonPath("$[0].name").value("Team A"));
 
-        verify(teamService).getTeams(hackathonId);
+        verify(teamBoardService).board(hackathonId);
+    }
+
+    @Test
+    void getTeams_matchingEtag_returnsNotModifiedWithoutReadingBoard() throws Exception {
+        when(teamBoardService.etag(1L)).thenReturn("\"v1\"");
+
+        mockMvc.perform(get("/api/1/teams").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(teamBoardService, never()).board(anyLong());
     }
 
     @Test
@@ -157,4 +187,53 @@ class TeamControllerTest {
 
         verify(teamService).moveMember(Mockito.any(MoveMemberRequest.class));
     }
+
+    @Test
+    void applyEdits_callsServiceAndReturnsTouchedTeams() throws Exception {
+        UUID fromTeamId = UUID.randomUUID();
+        UUID toTeamId = UUID.randomUUID();
+        BatchEditRequest request = new BatchEditRequest(List.of(
+                new EditOperation(EditType.MOVE, fromTeamId, 123L, toTeamId),
+                new EditOperation(EditType.REMOVE, toTeamId, 124L, null)
+        ));
+
+        TeamDTO dto = new TeamDTO(toTeamId, "Team", 3.5, UUID.randomUUID(), OffsetDateTime.now(), Collections.emptyList());
+        when(teamService.applyEdits(eq(3L), any())).thenReturn(List.of(dto));
+
+        mockMvc.perform(post("/api/3/teams/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(toTeamId.toString()));
+
+        verify(teamService).applyEdits(eq(3L), argThat(r -> r.operations().size() == 2
+                && r.operations().get(0).type() == EditType.MOVE));
+    }
+
+    @Test
+    void previewTeams_returnsPreviewFromService() throws Exception {
+        UUID previewId = UUID.randomUUID();
+        when(teamPreviewService.preview(1L, 4, null, null)).thenReturn(new GenerationPreviewDTO(
+                previewId, true, 4, null, 3.1, OffsetDateTime.now(),
+                List.of(new TeamDTO(null, "Team 1", 3.1, null, OffsetDateTime.now(), List.of()))));
+
+        mockMvc.perform(post("/api/1/teams/generate/preview").param("teamSize", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.previewId").value(previewId.toString()))
+                .andExpect(jsonPath("$.cached").value(true))
+                .andExpect(jsonPath("$.teams[0].name").value("Team 1"));
+    }
+
+    @Test
+    void commitPreview_returnsGenerationId() throws Exception {
+        UUID previewId = UUID.randomUUID();
+        UUID generationId = UUID.randomUUID();
+        when(teamPreviewService.commit(1L, previewId)).thenReturn(generationId);
+
+        mockMvc.perform(post("/api/1/teams/generate/preview/{previewId}/commit", previewId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.generationId").value(generationId.toString()));
+
+        verify(teamPreviewService).commit(1L, previewId);
+    }
 }
@@ -0,0 +1,84 @@
+package com.example.hackathonbe.team.controller;
+
+import com.example.hackathonbe.auth.security.JwtAuthenticationFilter;
+import com.example.hackathonbe.team.dto.GenerationJobDTO;
+import com.example.hackathonbe.team.generation.GenerationPhase;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.model.GenerationJobStatus;
+import com.example.hackathonbe.team.service.TeamGenerationJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Lightweight MVC tests for TeamGenerationJobController endpoints.
+ */
+@AutoConfigureMockMvc(addFilters = false)
+@WebMvcTest(controllers = TeamGenerationJobController.class)
+class TeamGenerationJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TeamGenerationJobService jobService;
+
+    @MockBean
+    JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    void submit_returnsAcceptedWithLocation() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(jobService.submit(3L, new GenerationRequest(4, 16))).thenReturn(job(jobId, GenerationJobStatus.QUEUED, false));
+
+        mockMvc.perform(post("/api/3/teams/generate/jobs")
+                        .param("teamSize", "4")
+                        .param("starts", "16"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/3/teams/generate/jobs/" + jobId))
+                .andExpect(jsonPath("$.id").value(jobId.toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(jobService).submit(3L, new GenerationRequest(4, 16));
+    }
+
+    @Test
+    void getJob_returnsProgress() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(jobService.getJob(3L, jobId)).thenReturn(job(jobId, GenerationJobStatus.RUNNING, false));
+
+        mockMvc.perform(get("/api/3/teams/generate/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.phase").value("BUILDING_TEAMS"))
+                .andExpect(jsonPath("$.bestObjective").value(3.5));
+    }
+
+    @Test
+    void cancel_returnsAccepted() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(jobService.cancel(3L, jobId)).thenReturn(job(jobId, GenerationJobStatus.RUNNING, true));
+
+        mockMvc.perform(delete("/api/3/teams/generate/jobs/{jobId}", jobId))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.cancelRequested").value(true));
+
+        verify(jobService).cancel(3L, jobId);
+    }
+
+    private static GenerationJobDTO job(UUID id, GenerationJobStatus status, boolean cancelRequested) {
+        return new GenerationJobDTO(id, 3L, status, GenerationPhase.BUILDING_TEAMS, 0, 0, 3.5, null,
+                cancelRequested, null, OffsetDateTime.now(), null);
+    }
+}
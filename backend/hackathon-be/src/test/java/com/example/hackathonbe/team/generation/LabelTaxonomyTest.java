@@ -0,0 +1,131 @@
+package com.example.hackathonbe.team.generation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for label normalization and keyword matching of the role/skill taxonomy.
+ */
+class LabelTaxonomyTest {
+
+    private final LabelTaxonomy taxonomy = LabelTaxonomy.defaults();
+
+    @Test
+    void normalize_matchesRegexNormalization() {
+        List<String> samples = List.of("  DevOps / Cloud ", "UI_UX-designer!!", "", "   ", "***", "Java 17",
+                "Développeur Back-End", "Data\tScience\n", "İstanbul dev", "a--b__c");
+
+        for (String raw : samples) {
+            assertThat(LabelTaxonomy.normalize(raw)).as(raw).isEqualTo(regexNormalize(raw));
+        }
+    }
+
+    @Test
+    void firstMatch_returnsLowestBucketContainingAKeyword() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of(
+                List.of("dev", "program"),
+                List.of("design", "ui"),
+                List.of("pr")));
+
+        assertThat(matcher.firstMatch("software developer")).isEqualTo(0);
+        assertThat(matcher.firstMatch("ui designer")).isEqualTo(1);
+        assertThat(matcher.firstMatch("product designer")).isEqualTo(1); // "pr" and "design" match, lower bucket wins
+        assertThat(matcher.firstMatch("programmer")).isEqualTo(0);       // "pr" is a prefix of "program"
+        assertThat(matcher.firstMatch("accountant")).isEqualTo(KeywordMatcher.NO_MATCH);
+        assertThat(matcher.firstMatch("")).isEqualTo(KeywordMatcher.NO_MATCH);
+    }
+
+    @Test
+    void firstMatch_agreesWithContainsScanOnRandomTokens() {
+        List<List<String>> buckets = List.of(
+                List.of("ab", "bca"), List.of("c", "aab"), List.of("bb a", "ba"));
+        KeywordMatcher matcher = KeywordMatcher.compile(buckets);
+        Random random = new Random(1);
+
+        for (int n = 0; n < 2_000; n++) {
+            StringBuilder token = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int k = 0; k < length; k++) token.append("ab c".charAt(random.nextInt(4)));
+
+            assertThat(matcher.firstMatch(token.toString())).as(token.toString())
+                    .isEqualTo(containsScan(buckets, token.toString()));
+        }
+    }
+
+    @Test
+    void roleAndSkill_useBundledDictionary() {
+        assertThat(taxonomy.roleBuckets()).containsExactly("ROLE_DEVELOPER", "ROLE_DESIGNER", "ROLE_MARKETER", "ROLE_BUSINESS");
+        assertThat(taxonomy.role("Backend Engineer").canonical()).isEqualTo(0);
+        assertThat(taxonomy.role("Growth / PR").canonical()).isEqualTo(2);
+        assertThat(taxonomy.role("Chef").canonical()).isEqualTo(KeywordMatcher.NO_MATCH);
+        assertThat(taxonomy.role("Chef").token()).isEqualTo("chef");
+        assertThat(taxonomy.skill("Kubernetes").canonical()).isEqualTo(4);
+        assertThat(taxonomy.skill("  ").isBlank()).isTrue();
+        assertThat(taxonomy.skill(null).isBlank()).isTrue();
+    }
+
+    @Test
+    void bucketer_learnsFrequentUnknownLabelsAfterCanonicalBuckets() {
+        Candidate chef = candidate("Chef", "Cooking");
+        Candidate dev = candidate("Developer", "Java");
+
+        RoleSkillBucketer bucketer = RoleSkillBucketer.build(List.of(chef, dev, candidate("chef!", "cooking")));
+
+        assertThat(bucketer.roleBucket("Developer")).isEqualTo(0);
+        assertThat(bucketer.roleBucketName(bucketer.roleBucket("CHEF"))).isEqualTo("ROLE_chef");
+        assertThat(bucketer.roleBucketName(bucketer.roleBucket("Astronaut"))).isEqualTo("OTHER_ROLE");
+
+        long cooking = bucketer.skillBuckets(chef.skillLabels());
+        assertThat(Long.bitCount(cooking)).isEqualTo(1);
+        assertThat(bucketer.skillBucketName(Long.numberOfTrailingZeros(cooking))).isEqualTo("SKILL_cooking");
+    }
+
+    @Test
+    void bucketer_canonicalLabelsStillTakeTopSlots() {
+        // eight frequent canonical roles fill the learned slots, so a rarer unknown role stays OTHER
+        List<Candidate> candidates = new ArrayList<>();
+        for (String role : List.of("Developer", "Backend", "Frontend", "Engineer", "Software", "Designer", "Graphic", "UX")) {
+            candidates.add(candidate(role, "Java"));
+            candidates.add(candidate(role, "Java"));
+        }
+        candidates.add(candidate("Chef", "Java"));
+
+        RoleSkillBucketer bucketer = RoleSkillBucketer.build(candidates);
+
+        assertThat(bucketer.roleBucketName(bucketer.roleBucket("Chef"))).isEqualTo("OTHER_ROLE");
+        assertThat(bucketer.roleBucket("Backend")).isEqualTo(0);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static String regexNormalize(String raw) {
+        String t = raw.trim().toLowerCase(Locale.ROOT);
+        if (t.isBlank()) return "";
+        t = t.replaceAll("[^a-z0-9]+", " ").trim();
+        return t.replaceAll("\\s+", " ");
+    }
+
+    private static int containsScan(List<List<String>> buckets, String token) {
+        for (int b = 0; b < buckets.size(); b++) {
+            for (String keyword : buckets.get(b)) {
+                if (token.contains(keyword)) return b;
+            }
+        }
+        return KeywordMatcher.NO_MATCH;
+    }
+
+    private static Candidate candidate(String role, String skill) {
+        Candidate c = new Candidate();
+        c.setParticipantId(1L);
+        c.setRoleLabel(role);
+        c.setSkillLabels(Set.of(skill));
+        return c;
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.hackathonbe.team.generation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory team generation engine (single pass and multi-start).
+ */
+class TeamGenerationEngineTest {
+
+    private static final String[] ROLES = {"Developer", "Designer", "Marketing", "Business", "Data scientist"};
+    private static final String[] SKILLS = {"Java", "React", "Figma", "SEO", "Docker", "Python", "Sales", "SQL"};
+
+    private final TeamGenerationEngine engine = new TeamGenerationEngine(2, 1, 64, 5_000, 0);
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void generate_singlePass_placesEveryCandidateExactlyOnce() {
+        List<Candidate> candidates = candidates(40, 7L);
+
+        GenerationResult result = engine.generate(candidates, 4, null);
+
+        assertThat(result.teams()).hasSize(10);
+        assertThat(result.startsCompleted()).isEqualTo(1);
+        assertThat(placedIds(result)).containsExactlyInAnyOrderElementsOf(
+                candidates.stream().map(Candidate::participantId).toList());
+        result.teams().forEach(t -> assertThat(t.score()).isBetween(0.0, 5.0));
+    }
+
+    @Test
+    void generate_singlePass_isDeterministic() {
+        List<Candidate> candidates = candidates(30, 11L);
+        List<Candidate> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled, new Random(3));
+
+        GenerationResult first = engine.generate(candidates, 3, 1);
+        GenerationResult second = engine.generate(shuffled, 3, 1);
+
+        assertThat(memberIds(second)).isEqualTo(memberIds(first));
+    }
+
+    @Test
+    void generate_multiStart_isNeverWorseThanSinglePass() {
+        List<Candidate> candidates = candidates(60, 21L);
+
+        GenerationResult single = engine.generate(candidates, 5, 1);
+        GenerationResult multi = engine.generate(candidates, 5, 16);
+
+        assertThat(multi.startsCompleted()).isBetween(1, 16);
+        assertThat(multi.objective()).isGreaterThanOrEqualTo(single.objective());
+        assertThat(placedIds(multi)).hasSize(60).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generate_multiStart_withExhaustedBudget_stillReturnsBaselinePass() {
+        TeamGenerationEngine noBudget = new TeamGenerationEngine(2, 1, 64, 0, 0);
+        try {
+            List<Candidate> candidates = candidates(20, 5L);
+
+            GenerationResult single = noBudget.generate(candidates, 4, 1);
+            GenerationResult multi = noBudget.generate(candidates, 4, 32);
+
+            assertThat(multi.startsCompleted()).isEqualTo(1);
+            assertThat(memberIds(multi)).isEqualTo(memberIds(single));
+        } finally {
+            noBudget.shutdown();
+        }
+    }
+
+    @Test
+    void generate_withLocalSearch_keepsTeamSizesAndNeverLowersObjective() {
+        TeamGenerationEngine improving = new TeamGenerationEngine(2, 1, 64, 0, 200);
+        try {
+            List<Candidate> candidates = candidates(60, 13L);
+            candidates.get(0).setMotivation(1);
+            candidates.get(1).setMotivation(2);
+
+            GenerationResult greedy = engine.generate(candidates, 4, 1);
+            GenerationResult improved = improving.generate(candidates, 4, 1);
+
+            assertThat(improved.greedyObjective()).isEqualTo(greedy.objective());
+            assertThat(improved.objective()).isGreaterThanOrEqualTo(greedy.objective());
+            assertThat(improved.teams()).extracting(t -> t.members().size())
+                    .isEqualTo(greedy.teams().stream().map(t -> t.members().size()).toList());
+            assertThat(placedIds(improved)).containsExactlyInAnyOrderElementsOf(placedIds(greedy));
+            assertThat(improved.teams().get(0).members()).allSatisfy(c -> assertThat(c.motivation()).isGreaterThanOrEqualTo(3));
+        } finally {
+            improving.shutdown();
+        }
+    }
+
+    @Test
+    void generate_localSearch_respectsTimeBudget() {
+        TeamGenerationEngine improving = new TeamGenerationEngine(1, 1, 1, 0, 100);
+        try {
+            List<Candidate> candidates = candidates(2_000, 17L);
+
+            long start = System.nanoTime();
+            improving.generate(candidates, 4, 1);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // greedy + evaluation for 2k candidates is a few ms; the search itself must stop at 100ms
+            assertThat(elapsedMs).isLessThan(600);
+        } finally {
+            improving.shutdown();
+        }
+    }
+
+    @Test
+    void generate_withoutCandidates_returnsEmptyResult() {
+        assertThat(engine.generate(List.of(), 4, 8).teams()).isEmpty();
+    }
+
+    @Test
+    void generate_withConstraints_keepsGroupsTogetherAndPairsApart() {
+        TeamGenerationEngine improving = new TeamGenerationEngine(2, 1, 64, 1_000, 100);
+        try {
+            List<Candidate> candidates = candidates(40, 13L);
+            GenerationConstraints constraints = new GenerationConstraints(
+                    List.of(pair(1, 2), pair(2, 3), pair(10, 11), pair(30, 31)),
+                    List.of(pair(1, 5), pair(10, 30), pair(4, 20), pair(6, 7)));
+
+            for (Integer starts : new Integer[]{1, 8}) {
+                GenerationResult result = improving.generate(candidates,
+                        new GenerationRequest(4, starts, constraints, null), GenerationProgress.NONE);
+
+                assertThat(placedIds(result)).hasSize(40).doesNotHaveDuplicates();
+                assertThat(teamOf(result, 2)).isEqualTo(teamOf(result, 1));
+                assertThat(teamOf(result, 3)).isEqualTo(teamOf(result, 1));
+                assertThat(teamOf(result, 11)).isEqualTo(teamOf(result, 10));
+                assertThat(teamOf(result, 31)).isEqualTo(teamOf(result, 30));
+                assertThat(teamOf(result, 5)).isNotEqualTo(teamOf(result, 1));
+                assertThat(teamOf(result, 30)).isNotEqualTo(teamOf(result, 10));
+                assertThat(teamOf(result, 20)).isNotEqualTo(teamOf(result, 4));
+                assertThat(teamOf(result, 7)).isNotEqualTo(teamOf(result, 6));
+            }
+        } finally {
+            improving.shutdown();
+        }
+    }
+
+    @Test
+    void generate_withConstraints_powerTeamSkipsGroupWithUnmotivatedMember() {
+        // identical profiles, so only motivation orders the picks
+        List<Candidate> candidates = candidates(12, 19L);
+        for (Candidate c : candidates) {
+            c.setRoleLabel("Developer");
+            c.setSkillLabels(Set.of("Java"));
+            c.setYearsExperience(3);
+            c.setMotivation(4);
+        }
+        candidates.get(0).setMotivation(5);     // ranks first, so its group heads the remaining list
+        candidates.get(1).setMotivation(1);     // ...but drags the group below the power-team bar
+        candidates.get(2).setMotivation(5);     // the motivated single right behind it
+        GenerationConstraints together = new GenerationConstraints(List.of(pair(1, 2)), List.of());
+
+        GenerationResult result = engine.generate(candidates, new GenerationRequest(4, 1, together, null), GenerationProgress.NONE);
+
+        assertThat(teamOf(result, 3)).isZero();
+        assertThat(result.teams().get(0).members()).hasSize(4)
+                .allSatisfy(c -> assertThat(c.motivation()).isGreaterThanOrEqualTo(3));
+        assertThat(teamOf(result, 2)).isEqualTo(teamOf(result, 1)).isNotZero();
+        assertThat(placedIds(result)).hasSize(12).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generate_withUnrelatedKeepApart_lowMotivationPopulation_keepsUnconstrainedLayout() {
+        // one motivated participant: the power team stays underfilled and the rest is left to team 2
+        List<Candidate> candidates = candidates(8, 41L);
+        for (Candidate c : candidates) c.setMotivation(c.participantId() == 1L ? 5 : 1);
+        GenerationConstraints apart = new GenerationConstraints(List.of(), List.of(pair(7, 8)));
+
+        GenerationResult plain = engine.generate(candidates, 4, 1);
+        GenerationResult constrained = engine.generate(candidates, new GenerationRequest(4, 1, apart, null), GenerationProgress.NONE);
+
+        assertThat(memberIds(constrained)).isEqualTo(memberIds(plain));
+        assertThat(constrained.teams().get(0).members())
+                .allSatisfy(c -> assertThat(c.motivation()).isGreaterThanOrEqualTo(3));
+        assertThat(constrained.teams()).allSatisfy(t -> assertThat(t.members()).hasSizeLessThanOrEqualTo(4));
+    }
+
+    @Test
+    void generate_withEmptyConstraints_matchesUnconstrainedRun() {
+        List<Candidate> candidates = candidates(30, 17L);
+
+        GenerationResult plain = engine.generate(candidates, 3, 1);
+        GenerationResult constrained = engine.generate(candidates,
+                new GenerationRequest(3, 1, new GenerationConstraints(List.of(pair(1, 999)), null), null),
+                GenerationProgress.NONE);
+
+        assertThat(memberIds(constrained)).isEqualTo(memberIds(plain));
+    }
+
+    @Test
+    void generate_withInfeasibleConstraints_throws() {
+        List<Candidate> candidates = candidates(20, 3L);
+        GenerationConstraints tooBig = new GenerationConstraints(
+                List.of(pair(1, 2), pair(2, 3), pair(3, 4), pair(4, 5)), List.of());
+        GenerationConstraints contradictory = new GenerationConstraints(
+                List.of(pair(1, 2), pair(2, 3)), List.of(pair(3, 1)));
+
+        assertThatThrownBy(() -> engine.generate(candidates, new GenerationRequest(4, 1, tooBig, null), GenerationProgress.NONE))
+                .isInstanceOf(InfeasibleConstraintsException.class);
+        assertThatThrownBy(() -> engine.generate(candidates, new GenerationRequest(4, 1, contradictory, null), GenerationProgress.NONE))
+                .isInstanceOf(InfeasibleConstraintsException.class);
+    }
+
+    @Test
+    void generatePartitioned_neverMixesPartitionsAndPrefixesTeamNames() {
+        List<Candidate> all = candidates(50, 29L);
+        Map<String, List<Candidate>> partitions = new LinkedHashMap<>();
+        partitions.put("AI", all.subList(0, 30));
+        partitions.put("Health", all.subList(30, 50));
+
+        for (Integer starts : new Integer[]{1, 8}) {
+            GenerationResult result = engine.generatePartitioned(partitions, new GenerationRequest(5, starts),
+                    GenerationProgress.NONE);
+
+            assertThat(result.teams()).hasSize(10);
+            assertThat(placedIds(result)).hasSize(50).doesNotHaveDuplicates();
+            for (GeneratedTeam team : result.teams()) {
+                boolean ai = team.name().startsWith("AI – ");
+                assertThat(ai || team.name().startsWith("Health – ")).isTrue();
+                assertThat(team.members()).allMatch(c -> (c.participantId() <= 30) == ai);
+            }
+            assertThat(result.startsCompleted()).isBetween(1, starts);
+        }
+    }
+
+    @Test
+    void generatePartitioned_singlePartitionMatchesPlainRunUpToNames() {
+        List<Candidate> candidates = candidates(30, 5L);
+
+        GenerationResult plain = engine.generate(candidates, 3, 1);
+        GenerationResult partitioned = engine.generatePartitioned(Map.of("", candidates), new GenerationRequest(3, 1),
+                GenerationProgress.NONE);
+
+        assertThat(memberIds(partitioned)).isEqualTo(memberIds(plain));
+        assertThat(partitioned.objective()).isCloseTo(plain.objective(), within(1e-9));
+        assertThat(partitioned.teams().get(0).name()).isEqualTo(plain.teams().get(0).name());
+    }
+
+    @Test
+    void generate_seeded_isReproducibleWithoutTimeBudget() {
+        // no multi-start budget and a short local search: only the seed decides the outcome
+        TeamGenerationEngine seeded = new TeamGenerationEngine(2, 1, 64, 0, 5);
+        try {
+            List<Candidate> candidates = candidates(60, 23L);
+
+            GenerationResult first = seeded.generate(candidates, new GenerationRequest(4, 16, null, 42L), GenerationProgress.NONE);
+            GenerationResult second = seeded.generate(candidates, new GenerationRequest(4, 16, null, 42L), GenerationProgress.NONE);
+
+            assertThat(first.startsCompleted()).isEqualTo(16);
+            assertThat(memberIds(second)).isEqualTo(memberIds(first));
+            assertThat(second.objective()).isEqualTo(first.objective());
+            assertThat(second.improvementMoves()).isEqualTo(first.improvementMoves());
+        } finally {
+            seeded.shutdown();
+        }
+    }
+
+    @Test
+    void generate_seededPastTimeLimit_failsInsteadOfRunningUnbounded() {
+        TeamGenerationEngine limited = new TeamGenerationEngine(2, 1, 256, 0, 0, 1);
+        try {
+            List<Candidate> candidates = candidates(3_000, 37L);
+
+            assertThatThrownBy(() -> limited.generate(candidates, new GenerationRequest(4, 256, null, 42L),
+                    GenerationProgress.NONE))
+                    .isInstanceOf(GenerationTimeoutException.class)
+                    .hasMessageContaining("1 ms");
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void inputHash_ignoresCandidateOrderButNotInputs() {
+        List<Candidate> candidates = candidates(30, 31L);
+        List<Candidate> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled, new Random(9));
+        GenerationConstraints apart = new GenerationConstraints(List.of(), List.of(pair(3, 1), pair(1, 2)));
+        GenerationConstraints apartReordered = new GenerationConstraints(List.of(), List.of(pair(2, 1), pair(1, 3)));
+
+        String hash = engine.inputHash(Map.of("", candidates), new GenerationRequest(4, 8, apart, 42L));
+
+        assertThat(hash).hasSize(64);
+        assertThat(engine.inputHash(Map.of("", shuffled), new GenerationRequest(4, 8, apartReordered, 42L))).isEqualTo(hash);
+        assertThat(engine.inputHash(Map.of("", candidates), new GenerationRequest(4, 8, apart, 43L))).isNotEqualTo(hash);
+        assertThat(engine.inputHash(Map.of("", candidates), new GenerationRequest(4, 8, apart, null))).isNotEqualTo(hash);
+        assertThat(engine.inputHash(Map.of("", candidates), new GenerationRequest(5, 8, apart, 42L))).isNotEqualTo(hash);
+        assertThat(engine.inputHash(Map.of("", candidates), new GenerationRequest(4, 8, null, 42L))).isNotEqualTo(hash);
+
+        candidates.get(0).setMotivation(candidates.get(0).motivation() == 5 ? 4 : 5);
+        assertThat(engine.inputHash(Map.of("", candidates), new GenerationRequest(4, 8, apart, 42L))).isNotEqualTo(hash);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static GenerationConstraints.Pair pair(long first, long second) {
+        return new GenerationConstraints.Pair(first, second);
+    }
+
+    private static int teamOf(GenerationResult result, long participantId) {
+        for (int t = 0; t < result.teams().size(); t++) {
+            for (Candidate c : result.teams().get(t).members()) {
+                if (c.participantId() == participantId) return t;
+            }
+        }
+        return -1;
+    }
+
+    static List<Candidate> candidates(int count, long seed) {
+        Random random = new Random(seed);
+        List<Candidate> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Candidate c = new Candidate();
+            c.setParticipantId((long) (i + 1));
+            c.setRoleLabel(ROLES[random.nextInt(ROLES.length)]);
+            Set<String> skills = new LinkedHashSet<>();
+            int skillCount = 1 + random.nextInt(3);
+            while (skills.size() < skillCount) skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+            c.setSkillLabels(skills);
+            c.setMotivation(3 + random.nextInt(3));
+            c.setYearsExperience(random.nextInt(12));
+            out.add(c);
+        }
+        return out;
+    }
+
+    private static List<Long> placedIds(GenerationResult result) {
+        return result.teams().stream()
+                .flatMap(t -> t.members().stream())
+                .map(Candidate::participantId)
+                .toList();
+    }
+
+    private static List<List<Long>> memberIds(GenerationResult result) {
+        return result.teams().stream()
+                .map(t -> t.members().stream().map(Candidate::participantId).toList())
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.hackathonbe.team.generation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Incremental team score aggregates must always agree with a full recomputation.
+ */
+class TeamScoreAggregateTest {
+
+    private static final String[] ROLES = {"Developer", "developer ", "Designer", "Marketer", "", null};
+    private static final String[] SKILLS = {"Java", "java", "SQL", "Figma", "SEO", "Docker", " "};
+
+    @Test
+    void randomAddsAndRemoves_matchFullRecomputation() {
+        Random random = new Random(42);
+        List<Candidate> members = new ArrayList<>();
+        TeamScoreAggregate aggregate = new TeamScoreAggregate();
+
+        for (int step = 0; step < 2_000; step++) {
+            if (!members.isEmpty() && random.nextInt(3) == 0) {
+                Candidate removed = members.remove(random.nextInt(members.size()));
+                aggregate.remove(removed);
+            } else {
+                Candidate added = randomCandidate(random, step);
+                members.add(added);
+                aggregate.add(added);
+            }
+
+            assertThat(aggregate.members()).isEqualTo(members.size());
+            assertThat(aggregate.score()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(members));
+        }
+    }
+
+    @Test
+    void emptyTeam_scoresZero() {
+        Candidate c = randomCandidate(new Random(1), 1);
+        TeamScoreAggregate aggregate = TeamScoreAggregate.of(List.of(c));
+
+        aggregate.remove(c);
+        aggregate.remove(c);
+
+        assertThat(aggregate.members()).isZero();
+        assertThat(aggregate.score()).isZero();
+    }
+
+    @Test
+    void jsonRoundTrip_keepsScore() throws Exception {
+        Random random = new Random(7);
+        List<Candidate> members = List.of(randomCandidate(random, 1), randomCandidate(random, 2), randomCandidate(random, 3));
+        ObjectMapper mapper = new ObjectMapper();
+
+        String json = mapper.writeValueAsString(TeamScoreAggregate.of(members));
+        TeamScoreAggregate restored = mapper.readValue(json, TeamScoreAggregate.class);
+
+        assertThat(json).doesNotContain("\"score\"");
+        assertThat(restored.members()).isEqualTo(3);
+        assertThat(restored.score()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(members));
+    }
+
+    private static Candidate randomCandidate(Random random, int id) {
+        Candidate c = new Candidate();
+        c.setParticipantId((long) id);
+        c.setRoleLabel(ROLES[random.nextInt(ROLES.length)]);
+        LinkedHashSet<String> skills = new LinkedHashSet<>();
+        int n = random.nextInt(4);
+        for (int i = 0; i < n; i++) skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+        c.setSkillLabels(skills);
+        c.setMotivation(random.nextInt(8) - 1);
+        c.setYearsExperience(random.nextInt(30) - 2);
+        return c;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hackathonbe.team.repository;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the multi-row insert chunking of TeamJdbcRepository.
+ */
+class TeamJdbcRepositoryTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TeamJdbcRepository repository = new TeamJdbcRepository(jdbcTemplate);
+
+    @Test
+    void insertTeams_twoThousandTeams_isOneStatement() {
+        UUID generationId = UUID.randomUUID();
+        List<TeamJdbcRepository.TeamRow> rows = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            rows.add(new TeamJdbcRepository.TeamRow(UUID.randomUUID(), 1L, "Team " + (i + 1), 3.0, null, generationId, OffsetDateTime.now()));
+        }
+
+        repository.insertTeams(rows);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertThat(sql.getValue()).startsWith("insert into team (");
+        assertThat(sql.getValue().chars().filter(c -> c == '?').count()).isEqualTo(2_000L * 7);
+    }
+
+    @Test
+    void insertMembers_splitsAtParameterLimit() {
+        UUID teamId = UUID.randomUUID();
+        UUID generationId = UUID.randomUUID();
+        List<TeamJdbcRepository.TeamMemberRow> rows = new ArrayList<>();
+        for (int i = 0; i < 8_000; i++) {
+            rows.add(new TeamJdbcRepository.TeamMemberRow(UUID.randomUUID(), teamId, generationId, (long) i, "Dev", "Java", 4, 2));
+        }
+
+        repository.insertMembers(rows);
+
+        // 32_000 / 8 params = 4_000 rows per statement
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), any(PreparedStatementSetter.class));
+        sql.getAllValues().forEach(s -> assertThat(s.chars().filter(c -> c == '?').count()).isEqualTo(4_000L * 8));
+    }
+
+    @Test
+    void insert_emptyList_doesNothing() {
+        repository.insertTeams(List.of());
+        repository.insertMembers(List.of());
+
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void deleteByHackathonId_isSingleStatement() {
+        repository.deleteByHackathonId(7L);
+
+        verify(jdbcTemplate).update("delete from team where hackathon_id = ?", 7L);
+    }
+}
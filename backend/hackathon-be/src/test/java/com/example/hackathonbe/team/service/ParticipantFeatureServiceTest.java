@@ -0,0 +1,191 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.hackathon.dto.AnswerDataRow;
+import com.example.hackathonbe.hackathon.model.Questionnaire;
+import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireAnswerRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
+import com.example.hackathonbe.participant.model.Participant;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository.FeatureRow;
+import com.example.hackathonbe.team.repository.ParticipantFeatureRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for extracting and maintaining participant features.
+ */
+@ExtendWith(MockitoExtension.class)
+class ParticipantFeatureServiceTest {
+
+    @Mock
+    private ParticipantFeatureRepository featureRepository;
+
+    @Mock
+    private ParticipantFeatureJdbcRepository featureJdbcRepository;
+
+    @Mock
+    private QuestionnaireAnswerRepository questionnaireAnswerRepository;
+
+    @Mock
+    private QuestionnaireRepository questionnaireRepository;
+
+    @InjectMocks
+    private ParticipantFeatureService featureService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void refresh_extractsFeaturesOfStoredAnswer() {
+        Questionnaire questionnaire = questionnaire(5L);
+        QuestionnaireAnswer answer = answer(questionnaire, 100L, 7L, data("developer", 4, 3, "java,spring", true));
+
+        featureService.refresh(answer);
+
+        FeatureRow row = singleUpsertedRow();
+        assertThat(row.answerId()).isEqualTo(100L);
+        assertThat(row.questionnaireId()).isEqualTo(5L);
+        assertThat(row.participantId()).isEqualTo(7L);
+        assertThat(row.roleLabel()).isEqualTo("developer");
+        assertThat(row.skillLabelsJson()).isEqualTo("[\"java\",\"spring\"]");
+        assertThat(row.motivation()).isEqualTo(4);
+        assertThat(row.yearsExperience()).isEqualTo(3);
+        assertThat(row.consent()).isTrue();
+        assertThat(row.eligible()).isTrue();
+        assertThat(row.extractorVersion()).isEqualTo(ParticipantFeatureService.EXTRACTOR_VERSION);
+        assertThat(row.answerLabelsJson()).isEqualTo("{\"role\":\"developer\"}");
+        verify(questionnaireRepository).bumpAnswersVersion(5L);
+    }
+
+    @Test
+    void refresh_internalAnswer_storesOnlySingleChoiceLabels_lastAnswerWins() throws Exception {
+        Questionnaire questionnaire = questionnaire(5L);
+        QuestionnaireAnswer answer = answer(questionnaire, 100L, 7L, objectMapper.readTree("""
+                [
+                  { "key": "email", "type": "TEXT", "valueText": "p7@example.com" },
+                  { "key": "field_of_interest", "type": "SINGLE_CHOICE", "valueOptionId": "AI" },
+                  { "key": "skills", "type": "MULTI_CHOICE", "valueOptionIds": ["java"] },
+                  { "key": "field_of_interest", "type": "SINGLE_CHOICE", "valueOptionId": "Health" }
+                ]
+                """));
+
+        featureService.refresh(answer);
+
+        assertThat(singleUpsertedRow().answerLabelsJson()).isEqualTo("{\"field_of_interest\":\"Health\"}");
+    }
+
+    @Test
+    void refresh_underageAnswer_isStoredAsNotEligible() {
+        Questionnaire questionnaire = questionnaire(5L);
+        QuestionnaireAnswer answer = answer(questionnaire, 101L, 8L, data("dev", 5, 1, "java", false));
+
+        featureService.refresh(answer);
+
+        assertThat(singleUpsertedRow().eligible()).isFalse();
+    }
+
+    @Test
+    void ensureComplete_whenCountsMatch_doesNotRebuild() {
+        Questionnaire questionnaire = questionnaire(5L);
+        when(questionnaireAnswerRepository.countByQuestionnaireId(5L)).thenReturn(3L);
+        when(featureRepository.countByQuestionnaireIdAndExtractorVersion(5L, ParticipantFeatureService.EXTRACTOR_VERSION)).thenReturn(3L);
+
+        featureService.ensureComplete(questionnaire);
+
+        verifyNoInteractions(featureJdbcRepository);
+        verify(questionnaireAnswerRepository, never()).streamAnswerData(any());
+    }
+
+    @Test
+    void ensureComplete_whenFeaturesMissing_rebuildsFromAnswers() {
+        Questionnaire questionnaire = questionnaire(5L);
+        when(questionnaireAnswerRepository.countByQuestionnaireId(5L)).thenReturn(2L);
+        when(featureRepository.countByQuestionnaireIdAndExtractorVersion(5L, ParticipantFeatureService.EXTRACTOR_VERSION)).thenReturn(0L);
+        when(questionnaireAnswerRepository.streamAnswerData(5L)).thenReturn(Stream.of(
+                new AnswerDataRow(100L, 7L, true, data("developer", 4, 3, "java", true)),
+                new AnswerDataRow(101L, 8L, false, data("designer", 2, 1, "ux", true))
+        ));
+
+        featureService.ensureComplete(questionnaire);
+
+        verify(featureJdbcRepository).deleteByQuestionnaireId(5L);
+        List<FeatureRow> rows = upsertedRows();
+        assertThat(rows).extracting(FeatureRow::answerId).containsExactly(100L, 101L);
+        assertThat(rows).extracting(FeatureRow::consent).containsExactly(true, false);
+    }
+
+    @Test
+    void ensureComplete_whenRowsFromOlderExtractor_rebuildsFromAnswers() {
+        Questionnaire questionnaire = questionnaire(5L);
+        // every answer has a row, but none written by the current extractor
+        when(questionnaireAnswerRepository.countByQuestionnaireId(5L)).thenReturn(1L);
+        when(featureRepository.countByQuestionnaireIdAndExtractorVersion(5L, ParticipantFeatureService.EXTRACTOR_VERSION))
+                .thenReturn(0L);
+        when(questionnaireAnswerRepository.streamAnswerData(5L)).thenReturn(Stream.of(
+                new AnswerDataRow(100L, 7L, true, data("developer", 4, 3, "java", true))
+        ));
+
+        featureService.ensureComplete(questionnaire);
+
+        verify(featureJdbcRepository).deleteByQuestionnaireId(5L);
+        assertThat(singleUpsertedRow().extractorVersion()).isEqualTo(ParticipantFeatureService.EXTRACTOR_VERSION);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private FeatureRow singleUpsertedRow() {
+        List<FeatureRow> rows = upsertedRows();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeatureRow> upsertedRows() {
+        ArgumentCaptor<List<FeatureRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(featureJdbcRepository, atLeastOnce()).upsert(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private static Questionnaire questionnaire(Long id) {
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(id);
+        return questionnaire;
+    }
+
+    private static QuestionnaireAnswer answer(Questionnaire questionnaire, Long id, Long participantId, JsonNode data) {
+        Participant participant = new Participant();
+        participant.setId(participantId);
+
+        QuestionnaireAnswer answer = new QuestionnaireAnswer();
+        answer.setId(id);
+        answer.setQuestionnaire(questionnaire);
+        answer.setParticipant(participant);
+        answer.setData(data);
+        answer.setConsent(true);
+        return answer;
+    }
+
+    private ObjectNode data(String role, int motivation, int yearsExperience, String skills, boolean ageVerified) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("role", role);
+        node.put("motivation", motivation);
+        node.put("years_experience", yearsExperience);
+        node.put("skills", skills);
+        node.put("age_verification", ageVerified ? "yes" : "no");
+        return node;
+    }
+}
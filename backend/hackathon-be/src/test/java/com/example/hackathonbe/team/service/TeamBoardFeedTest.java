@@ -0,0 +1,164 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.team.dto.TeamBoardEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for sequencing, resuming, delivering and pruning the team board event feed.
+ */
+class TeamBoardFeedTest {
+
+    private static final long IDLE_NANOS = 1_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private TeamBoardFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TeamBoardFeed(3, 60, 30, 2, 4, IDLE_NANOS, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void replay_afterLastEventId_returnsOnlyLaterEventsInOrder() {
+        UUID teamId = UUID.randomUUID();
+        feed.publish(1L, List.of(TeamBoardEvent.teamRenamed(teamId, "A")));
+        feed.publish(1L, List.of(TeamBoardEvent.teamRenamed(teamId, "B"), TeamBoardEvent.scoreChanged(teamId, 2.0)));
+        feed.publish(2L, List.of(TeamBoardEvent.teamDeleted(teamId)));
+
+        assertThat(feed.replay(1L, feed.eventId(1L, 1))).get().asList()
+                .extracting("seq", "payload.type")
+                .containsExactly(
+                        tuple(2L, TeamBoardEvent.Type.TEAM_RENAMED),
+                        tuple(3L, TeamBoardEvent.Type.SCORE_CHANGED));
+        assertThat(feed.replay(1L, feed.eventId(1L, 3))).contains(List.of());
+        assertThat(feed.replay(2L, feed.eventId(2L, 0))).get().asList().hasSize(1);
+    }
+
+    @Test
+    void replay_withoutLastEventId_startsFromNow() {
+        feed.publish(1L, List.of(TeamBoardEvent.teamDeleted(UUID.randomUUID())));
+
+        assertThat(feed.replay(1L, null)).contains(List.of());
+    }
+
+    @Test
+    void replay_whenResumeIsImpossible_asksForResync() {
+        UUID teamId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) feed.publish(1L, List.of(TeamBoardEvent.scoreChanged(teamId, (double) i)));
+
+        // history keeps 3 events (seq 3..5): resuming after 2 still works, after 1 does not
+        assertThat(feed.replay(1L, feed.eventId(1L, 2))).get().asList().hasSize(3);
+        assertThat(feed.replay(1L, feed.eventId(1L, 1))).isEmpty();
+        // ahead of the stream, another process's epoch, or garbage
+        assertThat(feed.replay(1L, feed.eventId(1L, 6))).isEmpty();
+        assertThat(feed.replay(1L, "older-2")).isEmpty();
+        assertThat(feed.replay(1L, feed.eventId(1L, 0).replace("-0", "-x"))).isEmpty();
+    }
+
+    @Test
+    void close_dropsStreamSoOldIdsResync() {
+        UUID teamId = UUID.randomUUID();
+        feed.publish(1L, List.of(TeamBoardEvent.teamRenamed(teamId, "A"), TeamBoardEvent.teamRenamed(teamId, "B")));
+        String oldId = feed.eventId(1L, 1);
+
+        feed.close(1L);
+        assertThat(feed.streamCount()).isZero();
+
+        // a new stream for the same hackathon numbers from 1 again, but never resumes the old ids
+        feed.publish(1L, List.of(TeamBoardEvent.teamDeleted(teamId), TeamBoardEvent.teamDeleted(teamId)));
+        assertThat(feed.replay(1L, oldId)).isEmpty();
+        assertThat(feed.replay(1L, feed.eventId(1L, 1))).get().asList().hasSize(1);
+    }
+
+    @Test
+    void pruneIdle_removesStreamsWithoutSubscribersOrEvents() {
+        feed.publish(1L, List.of(TeamBoardEvent.teamDeleted(UUID.randomUUID())));
+        now.set(IDLE_NANOS / 2);
+        feed.publish(2L, List.of(TeamBoardEvent.teamDeleted(UUID.randomUUID())));
+        feed.subscribe(3L, null, new RecordingEmitter());
+
+        now.set(IDLE_NANOS);
+        feed.pruneIdle();
+
+        assertThat(feed.replay(1L, "anything")).isEmpty();
+        assertThat(feed.streamCount()).isEqualTo(2);                 // 2 is not idle yet, 3 has a subscriber
+    }
+
+    @Test
+    void stalledSubscriber_doesNotHoldUpOthersAndIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter();
+        feed.subscribe(1L, null, stalled);
+        feed.subscribe(1L, null, healthy);
+
+        // the healthy subscriber gets every event while the other one is stuck in its first send
+        UUID teamId = UUID.randomUUID();
+        for (int i = 0; i < 6; i++) {
+            feed.publish(1L, List.of(TeamBoardEvent.scoreChanged(teamId, (double) i)));
+            assertThat(healthy.awaitSends(i + 1)).isTrue();
+        }
+
+        // max-pending (4) events queued behind the stuck send when the sixth arrived: that subscriber is dropped
+        assertThat(feed.subscriberCount(1L)).isEqualTo(1);
+
+        release.countDown();
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /** Records sends; optionally blocks every send until released, like a client that stopped reading. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        boolean awaitSends(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) Thread.sleep(5);
+            return sent.size() >= count;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.team.dto.TeamDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the versioned team board cache.
+ */
+class TeamBoardServiceTest {
+
+    private TeamService teamService;
+    private TeamBoardVersions versions;
+    private TeamBoardService boardService;
+
+    @BeforeEach
+    void setUp() {
+        teamService = mock(TeamService.class);
+        versions = new TeamBoardVersions();
+        boardService = new TeamBoardService(teamService, versions, new ObjectMapper().registerModule(new JavaTimeModule()), 2);
+
+        when(teamService.getTeams(1L)).thenReturn(List.of(team("Alpha")));
+    }
+
+    @Test
+    void board_reusesSerializedBoardUntilBumped() {
+        TeamBoardService.Board first = boardService.board(1L);
+        TeamBoardService.Board second = boardService.board(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"name\":\"Alpha\"");
+        verify(teamService, times(1)).getTeams(1L);
+    }
+
+    @Test
+    void board_rereadAfterBump_withNewEtag() {
+        TeamBoardService.Board before = boardService.board(1L);
+        when(teamService.getTeams(1L)).thenReturn(List.of(team("Beta")));
+
+        versions.bump(1L);
+        TeamBoardService.Board after = boardService.board(1L);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag()).isEqualTo(boardService.etag(1L));
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).contains("\"name\":\"Beta\"");
+        verify(teamService, times(2)).getTeams(1L);
+    }
+
+    @Test
+    void forget_afterDelete_servesEmptyBoardWithNewEtag() {
+        TeamBoardService.Board before = boardService.board(1L);
+        when(teamService.getTeams(1L)).thenReturn(List.of());
+
+        boardService.forget(1L);
+        TeamBoardService.Board after = boardService.board(1L);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void etag_changesOnlyForBumpedHackathonUnlessBumpedForAll() {
+        String one = boardService.etag(1L);
+        String two = boardService.etag(2L);
+
+        versions.bump(1L);
+        assertThat(boardService.etag(1L)).isNotEqualTo(one);
+        assertThat(boardService.etag(2L)).isEqualTo(two);
+
+        versions.bumpAll();
+        assertThat(boardService.etag(2L)).isNotEqualTo(two);
+    }
+
+    private static TeamDTO team(String name) {
+        return new TeamDTO(UUID.randomUUID(), name, 1.0, UUID.randomUUID(), null, List.of());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.BadRequestException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository.RosterRow;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for streaming team roster export.
+ */
+class TeamExportServiceTest {
+
+    private HackathonRepository hackathonRepository;
+    private TeamExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        hackathonRepository = mock(HackathonRepository.class);
+        TeamJdbcRepository teamJdbcRepository = mock(TeamJdbcRepository.class);
+        doAnswer(inv -> {
+            Consumer<RosterRow> sink = inv.getArgument(1);
+            sink.accept(new RosterRow("Alpha", 3.5, 7L, "Ada", "Lovelace", "ada@example.com", "Backend", "Java, SQL", 4, 3));
+            sink.accept(new RosterRow("Empty, Inc", 0.0, null, null, null, null, null, null, null, null));
+            return null;
+        }).when(teamJdbcRepository).streamRoster(eq(1L), any());
+
+        exportService = new TeamExportService(hackathonRepository, teamJdbcRepository);
+    }
+
+    @Test
+    void exportCsv_writesHeaderAndQuotedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, TeamExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("Team,Team score,Participant id");
+        assertThat(lines[1]).isEqualTo("Alpha,3.5,7,Ada,Lovelace,ada@example.com,Backend,\"Java, SQL\",4,3");
+        assertThat(lines[2]).startsWith("\"Empty, Inc\",0.0,");
+    }
+
+    @Test
+    void exportXlsx_writesOneRowPerMember() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, TeamExportService.Format.XLSX, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Teams");
+            assertThat(sheet.getLastRowNum()).isEqualTo(2);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Team");
+            assertThat(sheet.getRow(1).getCell(5).getStringCellValue()).isEqualTo("ada@example.com");
+            assertThat(sheet.getRow(1).getCell(8).getNumericCellValue()).isEqualTo(4.0);
+            assertThat(sheet.getRow(2).getCell(2)).isNull();
+        }
+    }
+
+    @Test
+    void requireHackathon_unknown_throwsNotFound() {
+        when(hackathonRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> exportService.requireHackathon(99L)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void parseFormat_unknown_throwsBadRequest() {
+        assertThat(TeamExportService.Format.parse(null)).isEqualTo(TeamExportService.Format.CSV);
+        assertThat(TeamExportService.Format.parse("xlsx")).isEqualTo(TeamExportService.Format.XLSX);
+        assertThatThrownBy(() -> TeamExportService.Format.parse("pdf")).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.ConflictException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.team.dto.GenerationJobDTO;
+import com.example.hackathonbe.team.generation.GenerationPhase;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.model.GenerationJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for background team generation jobs (submit/poll/cancel).
+ */
+class TeamGenerationJobServiceTest {
+
+    private static final Long HACKATHON_ID = 1L;
+
+    private TeamService teamService;
+    private HackathonRepository hackathonRepository;
+    private TeamGenerationJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        teamService = mock(TeamService.class);
+        hackathonRepository = mock(HackathonRepository.class);
+        when(hackathonRepository.existsById(HACKATHON_ID)).thenReturn(true);
+        jobService = new TeamGenerationJobService(teamService, hackathonRepository, 1, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void submit_runsGenerationInBackground_andReportsProgress() throws Exception {
+        UUID generationId = UUID.randomUUID();
+        when(teamService.generateTeams(eq(HACKATHON_ID), eq(new GenerationRequest(4, 8)), any(GenerationProgress.class)))
+                .thenAnswer(inv -> {
+                    GenerationProgress progress = inv.getArgument(2);
+                    progress.phase(GenerationPhase.PERSISTING);
+                    progress.candidatesProcessed(10, 10);
+                    progress.bestObjective(4.2);
+                    return generationId;
+                });
+
+        GenerationJobDTO submitted = jobService.submit(HACKATHON_ID, new GenerationRequest(4, 8));
+        assertThat(submitted.status()).isIn(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING, GenerationJobStatus.SUCCEEDED);
+
+        GenerationJobDTO done = awaitFinished(submitted.id());
+        assertThat(done.status()).isEqualTo(GenerationJobStatus.SUCCEEDED);
+        assertThat(done.generationId()).isEqualTo(generationId);
+        assertThat(done.phase()).isEqualTo(GenerationPhase.PERSISTING);
+        assertThat(done.candidatesProcessed()).isEqualTo(10);
+        assertThat(done.bestObjective()).isEqualTo(4.2);
+        assertThat(done.finishedAt()).isNotNull();
+    }
+
+    @Test
+    void cancel_runningJob_stopsAtNextCheckpoint() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        when(teamService.generateTeams(eq(HACKATHON_ID), any(), any(GenerationProgress.class)))
+                .thenAnswer(inv -> {
+                    GenerationProgress progress = inv.getArgument(2);
+                    running.countDown();
+                    while (true) {
+                        progress.checkCancelled();
+                        Thread.sleep(5);
+                    }
+                });
+
+        GenerationJobDTO submitted = jobService.submit(HACKATHON_ID, new GenerationRequest(4, null));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        GenerationJobDTO cancelling = jobService.cancel(HACKATHON_ID, submitted.id());
+        assertThat(cancelling.cancelRequested()).isTrue();
+
+        assertThat(awaitFinished(submitted.id()).status()).isEqualTo(GenerationJobStatus.CANCELLED);
+    }
+
+    @Test
+    void submit_whileJobActiveForSameHackathon_throwsConflict() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(teamService.generateTeams(eq(HACKATHON_ID), any(), any(GenerationProgress.class)))
+                .thenAnswer(inv -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return UUID.randomUUID();
+                });
+
+        GenerationJobDTO first = jobService.submit(HACKATHON_ID, new GenerationRequest(4, null));
+
+        assertThatThrownBy(() -> jobService.submit(HACKATHON_ID, new GenerationRequest(4, null)))
+                .isInstanceOf(ConflictException.class);
+
+        release.countDown();
+        assertThat(awaitFinished(first.id()).status()).isEqualTo(GenerationJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void submit_whenGenerationFails_marksJobFailed() throws Exception {
+        when(teamService.generateTeams(eq(HACKATHON_ID), any(), any(GenerationProgress.class)))
+                .thenThrow(new ConflictException("Hackathon has no questionnaire. Cannot generate teams."));
+
+        GenerationJobDTO submitted = jobService.submit(HACKATHON_ID, new GenerationRequest(4, null));
+
+        GenerationJobDTO done = awaitFinished(submitted.id());
+        assertThat(done.status()).isEqualTo(GenerationJobStatus.FAILED);
+        assertThat(done.error()).contains("no questionnaire");
+    }
+
+    @Test
+    void submit_unknownHackathon_throwsNotFound() {
+        when(hackathonRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> jobService.submit(99L, new GenerationRequest(4, null)))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(teamService);
+    }
+
+    @Test
+    void getJob_ofOtherHackathon_throwsNotFound() throws Exception {
+        when(teamService.generateTeams(eq(HACKATHON_ID), any(), any(GenerationProgress.class)))
+                .thenReturn(UUID.randomUUID());
+        GenerationJobDTO submitted = jobService.submit(HACKATHON_ID, new GenerationRequest(4, null));
+
+        assertThatThrownBy(() -> jobService.getJob(2L, submitted.id()))
+                .isInstanceOf(NotFoundException.class);
+        awaitFinished(submitted.id());
+    }
+
+    // ------------------------------------------------------------------------
+
+    private GenerationJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        GenerationJobDTO job = jobService.getJob(HACKATHON_ID, jobId);
+        while (!job.status().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(HACKATHON_ID, jobId);
+        }
+        return job;
+    }
+}
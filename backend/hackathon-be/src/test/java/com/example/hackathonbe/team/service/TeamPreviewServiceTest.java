@@ -0,0 +1,159 @@
+package com.example.hackathonbe.team.service;
+
+import com.example.hackathonbe.common.exceptions.ConflictException;
+import com.example.hackathonbe.common.exceptions.NotFoundException;
+import com.example.hackathonbe.hackathon.dto.QuestionnaireVersions;
+import com.example.hackathonbe.hackathon.model.Hackathon;
+import com.example.hackathonbe.hackathon.model.Questionnaire;
+import com.example.hackathonbe.hackathon.repository.HackathonRepository;
+import com.example.hackathonbe.hackathon.repository.QuestionnaireRepository;
+import com.example.hackathonbe.participant.model.Participant;
+import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.dto.GenerationPreviewDTO;
+import com.example.hackathonbe.team.generation.Candidate;
+import com.example.hackathonbe.team.generation.GeneratedTeam;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.generation.GenerationResult;
+import com.example.hackathonbe.team.generation.TeamGenerationEngine;
+import com.example.hackathonbe.team.repository.TeamGenerationJdbcRepository;
+import com.example.hackathonbe.team.repository.TeamGenerationJdbcRepository.GenerationRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for dry-run team generation (preview, cache reuse, commit).
+ */
+class TeamPreviewServiceTest {
+
+    private static final Long HACKATHON_ID = 1L;
+    private static final Long QUESTIONNAIRE_ID = 10L;
+
+    private TeamService teamService;
+    private QuestionnaireRepository questionnaireRepository;
+    private TeamGenerationJdbcRepository teamGenerationRepository;
+    private TeamPreviewService previewService;
+
+    @BeforeEach
+    void setUp() {
+        teamService = mock(TeamService.class);
+        questionnaireRepository = mock(QuestionnaireRepository.class);
+        teamGenerationRepository = mock(TeamGenerationJdbcRepository.class);
+        HackathonRepository hackathonRepository = mock(HackathonRepository.class);
+        ParticipantRepository participantRepository = mock(ParticipantRepository.class);
+
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(QUESTIONNAIRE_ID);
+        Hackathon hackathon = new Hackathon();
+        hackathon.setId(HACKATHON_ID);
+        hackathon.setQuestionnaire(questionnaire);
+        when(hackathonRepository.findById(HACKATHON_ID)).thenReturn(Optional.of(hackathon));
+
+        Participant participant = new Participant();
+        participant.setId(7L);
+        participant.setEmail("p7@example.com");
+        when(participantRepository.findAllById(any())).thenReturn(List.of(participant));
+
+        versions(0, 0);
+        when(teamService.computeTeams(eq(HACKATHON_ID), argThat(r -> r.teamSize() == 4 && r.seed() == null),
+                eq(GenerationProgress.NONE)))
+                .thenAnswer(inv -> new TeamService.ComputedTeams(result(), "input-hash"));
+
+        previewService = new TeamPreviewService(teamService, hackathonRepository, questionnaireRepository,
+                participantRepository, teamGenerationRepository, 2);
+    }
+
+    @Test
+    void preview_withUnchangedInputs_isServedFromCache() {
+        GenerationPreviewDTO first = previewService.preview(HACKATHON_ID, 4, null, null);
+        GenerationPreviewDTO second = previewService.preview(HACKATHON_ID, 4, null, null);
+
+        assertThat(first.cached()).isFalse();
+        assertThat(second.cached()).isTrue();
+        assertThat(second.previewId()).isEqualTo(first.previewId());
+        assertThat(first.teams()).hasSize(1);
+        assertThat(first.teams().get(0).id()).isNull();
+        assertThat(first.teams().get(0).members().get(0).participant().email()).isEqualTo("p7@example.com");
+        verify(teamService, times(1)).computeTeams(any(), any(), any());
+        verify(teamService, never()).replaceTeams(any(), any(), any());
+    }
+
+    @Test
+    void preview_afterAnswersChanged_recomputes() {
+        GenerationPreviewDTO first = previewService.preview(HACKATHON_ID, 4, null, null);
+        versions(0, 1);
+
+        GenerationPreviewDTO second = previewService.preview(HACKATHON_ID, 4, null, null);
+
+        assertThat(second.cached()).isFalse();
+        assertThat(second.previewId()).isNotEqualTo(first.previewId());
+        verify(teamService, times(2)).computeTeams(any(), any(), any());
+    }
+
+    @Test
+    void commit_persistsCachedTeams_withoutRecomputing() {
+        GenerationPreviewDTO preview = previewService.preview(HACKATHON_ID, 4, null, null);
+        UUID generationId = UUID.randomUUID();
+        when(teamService.replaceTeams(eq(HACKATHON_ID), anyList(), eq(GenerationProgress.NONE))).thenReturn(generationId);
+
+        assertThat(previewService.commit(HACKATHON_ID, preview.previewId())).isEqualTo(generationId);
+        verify(teamService, times(1)).computeTeams(any(), any(), any());
+
+        ArgumentCaptor<GenerationRow> row = ArgumentCaptor.forClass(GenerationRow.class);
+        verify(teamGenerationRepository).insert(row.capture());
+        assertThat(row.getValue().id()).isEqualTo(generationId);
+        assertThat(row.getValue().hackathonId()).isEqualTo(HACKATHON_ID);
+        assertThat(row.getValue().seed()).isNull();
+        assertThat(row.getValue().inputHash()).isEqualTo("input-hash");
+        assertThat(row.getValue().algorithmVersion()).isEqualTo(TeamGenerationEngine.ALGORITHM_VERSION);
+    }
+
+    @Test
+    void commit_afterQuestionsChanged_throwsConflict() {
+        GenerationPreviewDTO preview = previewService.preview(HACKATHON_ID, 4, null, null);
+        versions(1, 0);
+
+        assertThatThrownBy(() -> previewService.commit(HACKATHON_ID, preview.previewId()))
+                .isInstanceOf(ConflictException.class);
+        verify(teamService, never()).replaceTeams(any(), any(), any());
+    }
+
+    @Test
+    void commit_evictedOrUnknownPreview_throwsNotFound() {
+        GenerationPreviewDTO oldest = previewService.preview(HACKATHON_ID, 4, null, null);
+        previewService.preview(HACKATHON_ID, 4, 8, null);
+        previewService.preview(HACKATHON_ID, 4, 16, null);
+
+        assertThatThrownBy(() -> previewService.commit(HACKATHON_ID, oldest.previewId()))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> previewService.commit(HACKATHON_ID, UUID.randomUUID()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private void versions(long questions, long answers) {
+        when(questionnaireRepository.findVersions(QUESTIONNAIRE_ID))
+                .thenReturn(Optional.of(new QuestionnaireVersions(questions, answers)));
+    }
+
+    private static GenerationResult result() {
+        Candidate c = new Candidate();
+        c.setParticipantId(7L);
+        c.setRoleLabel("Backend");
+        c.setSkillLabels(Set.of("Java"));
+        c.setMotivation(4);
+        c.setYearsExperience(3);
+        return new GenerationResult(List.of(new GeneratedTeam("Team 1", 3.2, List.of(c))), 3.2, 3.0, 1, 0);
+    }
+}
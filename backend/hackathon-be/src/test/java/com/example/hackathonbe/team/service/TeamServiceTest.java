@@ -5,21 +5,37 @@ import com.example.hackathonbe.common.exceptions.ConflictException;
 import com.example.hackathonbe.common.exceptions.NotFoundException;
 import com.example.hackathonbe.hackathon.model.Hackathon;
 import com.example.hackathonbe.hackathon.model.Questionnaire;
-import com.example.hackathonbe.hackathon.model.QuestionnaireAnswer;
 import com.example.hackathonbe.hackathon.repository.HackathonRepository;
-import com.example.hackathonbe.hackathon.repository.QuestionnaireAnswerRepository;
 import com.example.hackathonbe.participant.model.Participant;
 import com.example.hackathonbe.participant.repository.ParticipantRepository;
+import com.example.hackathonbe.team.dto.ParticipantFeatureRow;
+import com.example.hackathonbe.team.dto.TeamBoardEvent;
+import com.example.hackathonbe.team.dto.TeamBoardEvent.Type;
+import com.example.hackathonbe.team.dto.TeamBoardRow;
 import com.example.hackathonbe.team.dto.TeamDTO;
 import com.example.hackathonbe.team.dto.TeamEditRequests.AddMembersRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.BatchEditRequest;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditOperation;
+import com.example.hackathonbe.team.dto.TeamEditRequests.EditType;
 import com.example.hackathonbe.team.dto.TeamEditRequests.MoveMemberRequest;
 import com.example.hackathonbe.team.dto.TeamEditRequests.UpdateTeamNameRequest;
+import com.example.hackathonbe.team.generation.Candidate;
+import com.example.hackathonbe.team.generation.GenerationConstraints;
+import com.example.hackathonbe.team.generation.GenerationProgress;
+import com.example.hackathonbe.team.generation.GenerationRequest;
+import com.example.hackathonbe.team.generation.TeamCompatibilityScoring;
+import com.example.hackathonbe.team.generation.TeamGenerationEngine;
+import com.example.hackathonbe.team.generation.TeamScoreAggregate;
 import com.example.hackathonbe.team.model.Team;
 import com.example.hackathonbe.team.model.TeamMember;
+import com.example.hackathonbe.team.repository.ParticipantFeatureJdbcRepository;
+import com.example.hackathonbe.team.repository.ParticipantFeatureRepository;
+import com.example.hackathonbe.team.repository.TeamGenerationJdbcRepository;
+import com.example.hackathonbe.team.repository.TeamJdbcRepository;
 import com.example.hackathonbe.team.repository.TeamMemberRepository;
 import com.example.hackathonbe.team.repository.TeamRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -48,11 +66,32 @@ class TeamServiceTest {
     private HackathonRepository hackathonRepository;
 
     @Mock
-    private QuestionnaireAnswerRepository questionnaireAnswerRepository;
+    private ParticipantFeatureRepository participantFeatureRepository;
+
+    @Mock
+    private ParticipantFeatureService participantFeatureService;
 
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private TeamJdbcRepository teamJdbcRepository;
+
+    @Mock
+    private ParticipantFeatureJdbcRepository participantFeatureJdbcRepository;
+
+    @Mock
+    private TeamGenerationJdbcRepository teamGenerationRepository;
+
+    @Mock
+    private TeamBoardVersions boardVersions;
+
+    @Mock
+    private TeamBoardFeed boardFeed;
+
+    @Spy
+    private TeamGenerationEngine generationEngine = new TeamGenerationEngine(1, 1, 8, 500, 0);
+
     @InjectMocks
     private TeamService teamService;
 
@@ -92,7 +131,7 @@ class TeamServiceTest {
 
         when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
         when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
-        when(hackathon.getParticipants()).thenReturn(Set.of()); // no participants
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean())).thenReturn(Stream.empty()); // no answers
 
         UUID generated = teamService.generateTeams(4, hackathonId);
 
@@ -108,133 +147,175 @@ class TeamServiceTest {
         Hackathon hackathon = mock(Hackathon.class);
         Questionnaire questionnaire = mock(Questionnaire.class);
 
-        // mock 3 participants
-        Participant p1 = mockParticipant(1L);
-        Participant p2 = mockParticipant(2L);
-        Participant p3 = mockParticipant(3L);
-
         when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
         when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
-        when(hackathon.getParticipants()).thenReturn(new HashSet<>(List.of(p1, p2, p3)));
-
-        // no existing teams for this hackathon
-        when(teamRepository.findByHackathonId(hackathonId)).thenReturn(List.of());
-
-        // questionnaire answers with valid data (external flat object format)
-        QuestionnaireAnswer a1 = mockAnswer(p1, "Alice", "One", "developer", 5, 2, "java,spring");
-        QuestionnaireAnswer a2 = mockAnswer(p2, "Bob", "Two", "designer", 4, 3, "ux,ui");
-        QuestionnaireAnswer a3 = mockAnswer(p3, "Cara", "Three", "marketer", 3, 1, "seo,content");
 
-        when(questionnaireAnswerRepository.findByQuestionnaireAndParticipant(questionnaire, p1))
-                .thenReturn(Optional.of(a1));
-        when(questionnaireAnswerRepository.findByQuestionnaireAndParticipant(questionnaire, p2))
-                .thenReturn(Optional.of(a2));
-        when(questionnaireAnswerRepository.findByQuestionnaireAndParticipant(questionnaire, p3))
-                .thenReturn(Optional.of(a3));
+        // extracted features of eligible, consenting participants
+        ParticipantFeatureRow a1 = featureRow(1L, "developer", 5, 2, "java", "spring");
+        ParticipantFeatureRow a2 = featureRow(2L, "designer", 4, 3, "ux", "ui");
+        ParticipantFeatureRow a3 = featureRow(3L, "marketer", 3, 1, "seo", "content");
 
-        when(teamRepository.save(any(Team.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean())).thenReturn(Stream.of(a1, a2, a3));
 
         UUID resultGenerationId = teamService.generateTeams(3, hackathonId);
 
         assertThat(resultGenerationId).isNotNull();
 
-        ArgumentCaptor<Team> teamCaptor = ArgumentCaptor.forClass(Team.class);
-        verify(teamRepository, atLeastOnce()).save(teamCaptor.capture());
+        // stale or missing features are rebuilt before reading them
+        verify(participantFeatureService).ensureComplete(questionnaire);
+
+        // previous teams are replaced with one set-based delete
+        verify(teamJdbcRepository).deleteByHackathonId(hackathonId);
 
-        List<Team> savedTeams = teamCaptor.getAllValues();
+        ArgumentCaptor<List<TeamJdbcRepository.TeamRow>> teamCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<TeamJdbcRepository.TeamMemberRow>> memberCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teamJdbcRepository).insertTeams(teamCaptor.capture());
+        verify(teamJdbcRepository).insertMembers(memberCaptor.capture());
+
+        List<TeamJdbcRepository.TeamRow> savedTeams = teamCaptor.getValue();
         assertThat(savedTeams).isNotEmpty();
 
         // All saved teams should carry that generationId
         assertThat(savedTeams)
-                .extracting(Team::getGenerationId)
+                .extracting(TeamJdbcRepository.TeamRow::generationId)
                 .containsOnly(resultGenerationId);
+        assertThat(savedTeams)
+                .extracting(TeamJdbcRepository.TeamRow::hackathonId)
+                .containsOnly(hackathonId);
 
-        int totalMembers = savedTeams.stream()
-                .map(Team::getMembers)
-                .filter(Objects::nonNull)
-                .mapToInt(List::size)
-                .sum();
-
-        assertThat(totalMembers).isEqualTo(3);
+        List<TeamJdbcRepository.TeamMemberRow> savedMembers = memberCaptor.getValue();
+        assertThat(savedMembers)
+                .extracting(TeamJdbcRepository.TeamMemberRow::participantId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
 
-        // Members should have that generationId too
-        savedTeams.stream()
-                .flatMap(t -> t.getMembers().stream())
-                .forEach(m -> assertThat(m.getGenerationId()).isEqualTo(resultGenerationId));
+        // Members should have that generationId too, and point at one of the inserted teams
+        assertThat(savedMembers)
+                .extracting(TeamJdbcRepository.TeamMemberRow::generationId)
+                .containsOnly(resultGenerationId);
+        assertThat(savedMembers)
+                .extracting(TeamJdbcRepository.TeamMemberRow::teamId)
+                .isSubsetOf(savedTeams.stream().map(TeamJdbcRepository.TeamRow::id).toList());
 
         // New scoring model is 0..5
-        savedTeams.forEach(t -> assertThat(t.getScore()).isBetween(0.0, 5.0));
+        savedTeams.forEach(t -> assertThat(t.score()).isBetween(0.0, 5.0));
 
-        // generateTeams uses cascade; no direct TeamMemberRepository.save() expected here
+        // generation writes rows directly; no entity saves expected here
+        verify(teamRepository, never()).save(any());
         verify(teamMemberRepository, never()).save(any());
     }
 
     @Test
-    void generateTeams_under18Candidates_areSkippedAndNotPersisted() {
-        Long hackathonId = 2L;
+    void generateTeams_recordsSeedAndInputHashOfNewGeneration() {
+        Long hackathonId = 1L;
 
         Hackathon hackathon = mock(Hackathon.class);
         Questionnaire questionnaire = mock(Questionnaire.class);
+        when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
+        when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean()))
+                .thenReturn(Stream.of(featureRow(1L, "developer", 5, 2, "java"), featureRow(2L, "designer", 4, 3, "ux")));
+
+        UUID generated = teamService.generateTeams(hackathonId, new GenerationRequest(2, null, null, 7L), GenerationProgress.NONE);
+
+        ArgumentCaptor<TeamGenerationJdbcRepository.GenerationRow> captor =
+                ArgumentCaptor.forClass(TeamGenerationJdbcRepository.GenerationRow.class);
+        verify(teamGenerationRepository).findReusable(eq(hackathonId), anyString());
+        verify(teamGenerationRepository).insert(captor.capture());
+        assertThat(captor.getValue().id()).isEqualTo(generated);
+        assertThat(captor.getValue().seed()).isEqualTo(7L);
+        assertThat(captor.getValue().inputHash()).hasSize(64);
+        assertThat(captor.getValue().algorithmVersion()).isEqualTo(TeamGenerationEngine.ALGORITHM_VERSION);
+    }
 
-        Participant underage = mockParticipant(10L);
+    @Test
+    void generateTeams_withInputsOfCurrentGeneration_returnsItWithoutRegenerating() {
+        Long hackathonId = 1L;
+        UUID current = UUID.randomUUID();
 
+        Hackathon hackathon = mock(Hackathon.class);
+        Questionnaire questionnaire = mock(Questionnaire.class);
         when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
         when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
-        when(hackathon.getParticipants()).thenReturn(Set.of(underage));
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean()))
+                .thenReturn(Stream.of(featureRow(1L, "developer", 5, 2, "java"), featureRow(2L, "designer", 4, 3, "ux")));
+        when(teamGenerationRepository.findReusable(eq(hackathonId), anyString())).thenReturn(Optional.of(current));
 
-        QuestionnaireAnswer underageAnswer = mockAnswer(underage, "Under", "Age", "dev", 6, 1, "java", false);
-        when(questionnaireAnswerRepository.findByQuestionnaireAndParticipant(questionnaire, underage))
-                .thenReturn(Optional.of(underageAnswer));
+        UUID generated = teamService.generateTeams(hackathonId, new GenerationRequest(2, null, null, 7L), GenerationProgress.NONE);
 
-        UUID generationId = teamService.generateTeams(3, hackathonId);
-
-        assertThat(generationId).isNotNull();
-        verify(teamRepository, never()).save(any(Team.class));
-        verify(teamMemberRepository, never()).save(any(TeamMember.class));
+        assertThat(generated).isEqualTo(current);
+        verify(generationEngine, never()).generate(anyList(), any(GenerationRequest.class), any());
+        verify(teamJdbcRepository, never()).deleteByHackathonId(any());
+        verify(teamGenerationRepository, never()).insert(any());
     }
 
-    private Participant mockParticipant(Long id) {
-        Participant participant = mock(Participant.class);
-        when(participant.getId()).thenReturn(id);
-        return participant;
+    @Test
+    void generateTeams_partitionedByAnswerKey_neverMixesPartitions() {
+        Long hackathonId = 1L;
+
+        Hackathon hackathon = mock(Hackathon.class);
+        Questionnaire questionnaire = mock(Questionnaire.class);
+        when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
+        when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
+        when(questionnaire.getId()).thenReturn(10L);
+
+        List<ParticipantFeatureRow> rows = new ArrayList<>();
+        Map<Long, String> labels = new HashMap<>();
+        for (long id = 1; id <= 8; id++) {
+            rows.add(featureRow(id, id % 2 == 0 ? "developer" : "designer", 3 + (int) (id % 3), 2, "java"));
+            String track = id <= 4 ? "AI" : (id <= 6 ? "ai" : "Health");
+            labels.put(id, track);
+        }
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean())).thenReturn(rows.stream());
+        when(participantFeatureJdbcRepository.findAnswerLabels(10L, "field_of_interest")).thenReturn(labels);
+
+        teamService.generateTeams(hackathonId, new GenerationRequest(2, null,
+                new GenerationConstraints(List.of(), List.of(), "field_of_interest"), null), GenerationProgress.NONE);
+
+        ArgumentCaptor<List<TeamJdbcRepository.TeamRow>> teamCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<TeamJdbcRepository.TeamMemberRow>> memberCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teamJdbcRepository).insertTeams(teamCaptor.capture());
+        verify(teamJdbcRepository).insertMembers(memberCaptor.capture());
+
+        Map<UUID, String> teamNames = teamCaptor.getValue().stream()
+                .collect(Collectors.toMap(TeamJdbcRepository.TeamRow::id, TeamJdbcRepository.TeamRow::name));
+        assertThat(teamNames.values()).allMatch(n -> n.startsWith("AI – Team ") || n.startsWith("Health – Team "));
+
+        // "AI" and "ai" are one partition: participants 1-6 never share a team with 7 or 8
+        Map<UUID, Set<Boolean>> tracksPerTeam = memberCaptor.getValue().stream()
+                .collect(Collectors.groupingBy(TeamJdbcRepository.TeamMemberRow::teamId,
+                        Collectors.mapping(m -> m.participantId() <= 6, Collectors.toSet())));
+        assertThat(tracksPerTeam.values()).allMatch(tracks -> tracks.size() == 1);
+        assertThat(memberCaptor.getValue()).hasSize(8);
     }
 
-    private QuestionnaireAnswer mockAnswer(
-            Participant participant,
-            String firstName,
-            String lastName,
-            String role,
-            int motivation,
-            int yearsExperience,
-            String skills
-    ) {
-        return mockAnswer(participant, firstName, lastName, role, motivation, yearsExperience, skills, true);
+    @Test
+    void generateTeams_keepTogetherAcrossPartitions_throwsBadRequest() {
+        Long hackathonId = 1L;
+
+        Hackathon hackathon = mock(Hackathon.class);
+        Questionnaire questionnaire = mock(Questionnaire.class);
+        when(hackathonRepository.findById(hackathonId)).thenReturn(Optional.of(hackathon));
+        when(hackathon.getQuestionnaire()).thenReturn(questionnaire);
+        when(questionnaire.getId()).thenReturn(10L);
+        when(participantFeatureRepository.streamCandidates(any(), any(), anyBoolean()))
+                .thenReturn(Stream.of(featureRow(1L, "developer", 4, 2), featureRow(2L, "designer", 4, 2)));
+        when(participantFeatureJdbcRepository.findAnswerLabels(10L, "field_of_interest"))
+                .thenReturn(Map.of(1L, "AI", 2L, "Health"));
+
+        GenerationConstraints constraints = new GenerationConstraints(
+                List.of(new GenerationConstraints.Pair(1L, 2L)), List.of(), "field_of_interest");
+
+        assertThatThrownBy(() -> teamService.generateTeams(hackathonId,
+                new GenerationRequest(2, null, constraints, null), GenerationProgress.NONE))
+                .isInstanceOf(BadRequestException.class);
+        verify(teamJdbcRepository, never()).insertTeams(any());
     }
 
-    private QuestionnaireAnswer mockAnswer(
-            Participant participant,
-            String firstName,
-            String lastName,
-            String role,
-            int motivation,
-            int yearsExperience,
-            String skills,
-            boolean ageVerified
-    ) {
-        QuestionnaireAnswer answer = mock(QuestionnaireAnswer.class);
-
-        ObjectNode node = objectMapper.createObjectNode();
-        node.put("first_name", firstName);
-        node.put("last_name", lastName);
-        node.put("role", role);
-        node.put("motivation", motivation);
-        node.put("years_experience", yearsExperience);
-        node.put("skills", skills);
-        node.put("age_verification", ageVerified ? "yes" : "no");
-
-        lenient().when(answer.getParticipant()).thenReturn(participant);
-        when(answer.getData()).thenReturn(node);
-        return answer;
+    private ParticipantFeatureRow featureRow(Long participantId, String role, int motivation,
+                                             int yearsExperience, String... skills) {
+        ArrayNode skillLabels = objectMapper.createArrayNode();
+        for (String skill : skills) skillLabels.add(skill);
+        return new ParticipantFeatureRow(participantId, role, skillLabels, motivation, yearsExperience);
     }
 
     // ------------------------------------------------------------------------
@@ -242,66 +323,48 @@ class TeamServiceTest {
     // ------------------------------------------------------------------------
 
     @Test
-    void getTeams_usesHackathonFilterAndMapsMembersWithParticipants() {
+    void getTeams_buildsBoardFromProjectionRowsWithoutLoadingEntities() {
         Long hackathonId = 1L;
-
-        Team t1 = new Team();
-        t1.setId(UUID.randomUUID());
-        t1.setName("Team A");
-        t1.setGenerationId(generationId);
-        t1.setScore(5.0);
-        t1.setCreatedAt(OffsetDateTime.now());
-        t1.setMembers(new ArrayList<>());
-
-        Team t2 = new Team();
-        t2.setId(UUID.randomUUID());
-        t2.setName("Team B");
-        t2.setGenerationId(generationId);
-        t2.setScore(4.0);
-        t2.setCreatedAt(OffsetDateTime.now());
-        t2.setMembers(new ArrayList<>());
-
-        TeamMember m1 = new TeamMember();
-        m1.setTeam(t1);
-        m1.setParticipantId(10L);
-        t1.getMembers().add(m1);
-
-        TeamMember m2 = new TeamMember();
-        m2.setTeam(t2);
-        m2.setParticipantId(20L);
-        t2.getMembers().add(m2);
-
-        when(teamRepository.findByHackathonIdOrderByNameAsc(hackathonId))
-                .thenReturn(List.of(t1, t2));
-
-        Participant p10 = new Participant();
-        p10.setId(10L);
-        p10.setFirstName("Alice");
-        p10.setLastName("Dev");
-
-        Participant p20 = new Participant();
-        p20.setId(20L);
-        p20.setFirstName("Bob");
-        p20.setLastName("Ops");
-
-        when(participantRepository.findAllById(Set.of(10L, 20L)))
-                .thenReturn(List.of(p10, p20));
+        UUID teamA = UUID.randomUUID();
+        UUID teamB = UUID.randomUUID();
+        UUID teamC = UUID.randomUUID();
+        OffsetDateTime createdAt = OffsetDateTime.now();
+
+        when(teamRepository.findBoardRows(hackathonId)).thenReturn(List.of(
+                boardRow(teamA, "Team A", 10L, "Alice"),
+                boardRow(teamA, "Team A", 11L, "Carol"),
+                boardRow(teamB, "Team B", 20L, "Bob"),
+                new TeamBoardRow(teamC, "Team C", 0.0, generationId, createdAt,
+                        null, null, null, null, null, null, null, null, null)));
 
         List<TeamDTO> result = teamService.getTeams(hackathonId);
 
-        assertThat(result).hasSize(2);
+        assertThat(result).extracting(TeamDTO::name).containsExactly("Team A", "Team B", "Team C");
+        assertThat(result.get(0).members()).extracting(m -> m.participant().firstName()).containsExactly("Alice", "Carol");
+        assertThat(result.get(0).members().get(0).role()).isEqualTo("developer");
+        assertThat(result.get(1).members()).extracting(m -> m.participant().id()).containsExactly(20L);
+        assertThat(result.get(2).members()).isEmpty();
 
-        TeamDTO dto1 = result.stream()
-                .filter(dto -> dto.id().equals(t1.getId()))
-                .findFirst()
-                .orElseThrow();
+        verify(teamRepository).findBoardRows(hackathonId);
+        verifyNoMoreInteractions(teamRepository);
+        verifyNoInteractions(participantRepository, teamMemberRepository);
+    }
+
+    @Test
+    void getTeams_memberWithoutParticipant_throwsNotFoundException() {
+        UUID teamA = UUID.randomUUID();
+        when(teamRepository.findBoardRows(1L)).thenReturn(List.of(new TeamBoardRow(teamA, "Team A", 1.0, generationId,
+                OffsetDateTime.now(), 10L, "developer", "java", 4, 2, null, null, null, null)));
 
-        assertThat(dto1.members()).hasSize(1);
-        assertThat(dto1.members().get(0).participant().id()).isEqualTo(10L);
-        assertThat(dto1.members().get(0).participant().firstName()).isEqualTo("Alice");
+        assertThatThrownBy(() -> teamService.getTeams(1L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Participant not found: 10");
+    }
 
-        verify(teamRepository).findByHackathonIdOrderByNameAsc(hackathonId);
-        verify(participantRepository).findAllById(Set.of(10L, 20L));
+    private TeamBoardRow boardRow(UUID teamId, String teamName, Long participantId, String firstName) {
+        return new TeamBoardRow(teamId, teamName, 4.0, generationId, OffsetDateTime.now(),
+                participantId, "developer", "java, spring", 4, 2,
+                participantId, firstName, "Last", firstName.toLowerCase() + "@example.com");
     }
 
     // ------------------------------------------------------------------------
@@ -322,6 +385,8 @@ class TeamServiceTest {
 
         assertThat(result.name()).isEqualTo("New team name");
         verify(teamRepository).save(argThat(t -> t.getName().equals("New team name")));
+        verify(teamGenerationRepository).markEdited(generationId);
+        verify(boardVersions).bump(1L);
     }
 
     @Test
@@ -342,18 +407,61 @@ class TeamServiceTest {
     @Test
     void addMembers_whenParticipantAlreadyInGeneration_throwsConflictException() {
         when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-
-        // service checks participant exists BEFORE generation conflict
-        when(participantRepository.existsById(100L)).thenReturn(true);
-
-        when(teamMemberRepository.existsByGenerationIdAndParticipantId(generationId, 100L))
-                .thenReturn(true);
+        when(participantRepository.findAllInHackathon(1L, Set.of(100L))).thenReturn(List.of(participant(100L)));
+        when(teamMemberRepository.findParticipantIdsInGeneration(generationId, Set.of(100L))).thenReturn(List.of(100L));
 
         AddMembersRequest request = new AddMembersRequest(List.of(100L));
 
         assertThatThrownBy(() -> teamService.addMembers(teamId, request))
                 .isInstanceOf(ConflictException.class)
                 .hasMessageContaining("already in a team for this generation");
+        verify(teamMemberRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void addMembers_whenParticipantNotInHackathon_throwsNotFoundException() {
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+        when(participantRepository.findAllInHackathon(1L, Set.of(100L, 101L))).thenReturn(List.of(participant(100L)));
+
+        AddMembersRequest request = new AddMembersRequest(List.of(100L, 101L));
+
+        assertThatThrownBy(() -> teamService.addMembers(teamId, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("101");
+        verify(teamMemberRepository, never()).findParticipantIdsInGeneration(any(), any());
+    }
+
+    @Test
+    void addMembers_manyParticipants_usesConstantNumberOfQueries() {
+        TeamMember existing = new TeamMember();
+        existing.setTeam(team);
+        existing.setGenerationId(generationId);
+        existing.setParticipantId(1L);
+        team.getMembers().add(existing);
+
+        List<Long> ids = new ArrayList<>();
+        List<Participant> participants = new ArrayList<>();
+        for (long id = 100; id < 300; id++) {
+            ids.add(id);
+            participants.add(participant(id));
+        }
+        ids.add(100L); // repeated ids are added once
+
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+        when(participantRepository.findAllInHackathon(eq(1L), anyCollection())).thenReturn(participants);
+        when(teamMemberRepository.findParticipantIdsInGeneration(eq(generationId), anyCollection())).thenReturn(List.of());
+        when(participantRepository.findAllById(Set.of(1L))).thenReturn(List.of(participant(1L)));
+
+        TeamDTO result = teamService.addMembers(teamId, new AddMembersRequest(ids));
+
+        assertThat(result.members()).hasSize(201);
+        verify(participantRepository).findAllInHackathon(eq(1L), anyCollection());
+        verify(teamMemberRepository).findParticipantIdsInGeneration(eq(generationId), anyCollection());
+        verify(teamMemberRepository).saveAll(argThat(members -> ((Collection<TeamMember>) members).size() == 200));
+        verify(teamRepository).save(team);
+        verify(participantRepository, never()).existsById(any());
+        verify(teamMemberRepository, never()).findByTeamId(any());
+        verify(teamGenerationRepository).markEdited(generationId);
     }
 
     // ------------------------------------------------------------------------
@@ -417,6 +525,10 @@ class TeamServiceTest {
         existing.setTeam(team);
         existing.setGenerationId(generationId);
         existing.setParticipantId(participantId);
+        existing.setRoleSnapshot("Developer");
+        existing.setSkillsSnapshot("Java, SQL");
+        existing.setMotivationSnapshot(5);
+        existing.setYearsExperienceSnapshot(4);
 
         team.setMembers(new ArrayList<>());
         team.getMembers().add(existing);
@@ -425,11 +537,6 @@ class TeamServiceTest {
         when(teamMemberRepository.findByGenerationIdAndParticipantId(generationId, participantId))
                 .thenReturn(Optional.of(existing));
 
-        // recalcScoreForTeam(...) calls these in many implementations
-        when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
-        when(teamMemberRepository.findByTeamId(team.getId())).thenReturn(List.of(existing));
-        when(teamMemberRepository.findByTeamId(targetTeamId)).thenReturn(List.of(existing));
-
         MoveMemberRequest request = new MoveMemberRequest(fromTeamId, participantId, targetTeamId);
 
         teamService.moveMember(request);
@@ -439,5 +546,204 @@ class TeamServiceTest {
                         && tm.getTeam() == targetTeam
                         && tm.getGenerationId().equals(generationId)
         ));
+
+        // both scores are updated from the aggregates, without re-reading members
+        Candidate moved = new Candidate();
+        moved.setRoleLabel("Developer");
+        moved.setSkillLabels(Set.of("Java", "SQL"));
+        moved.setMotivation(5);
+        moved.setYearsExperience(4);
+
+        assertThat(team.getScore()).isZero();
+        assertThat(team.getScoreAggregate().members()).isZero();
+        assertThat(targetTeam.getScore()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(List.of(moved)));
+        assertThat(targetTeam.getScoreAggregate().members()).isEqualTo(1);
+        verify(teamMemberRepository, never()).findByTeamId(any());
+        verify(teamRepository).save(team);
+        verify(teamRepository).save(targetTeam);
+        verify(boardFeed).publish(1L, List.of(
+                TeamBoardEvent.memberMoved(fromTeamId, targetTeamId, participantId),
+                TeamBoardEvent.scoreChanged(fromTeamId, team.getScore()),
+                TeamBoardEvent.scoreChanged(targetTeamId, targetTeam.getScore())));
+    }
+
+    @Test
+    void moveMember_withStoredAggregates_updatesScoresIncrementally() {
+        Long participantId = 778L;
+        UUID targetTeamId = UUID.randomUUID();
+
+        Candidate a = candidate(1L, "Developer", 5, 4, "Java");
+        Candidate b = candidate(2L, "Designer", 3, 1, "Figma");
+        Candidate c = candidate(participantId, "Marketer", 4, 2, "SEO");
+
+        TeamMember membership = memberFromCandidate(team, c);
+        team.setScoreAggregate(TeamScoreAggregate.of(List.of(a, c)));
+
+        Team targetTeam = new Team();
+        targetTeam.setId(targetTeamId);
+        targetTeam.setGenerationId(generationId);
+        targetTeam.setHackathon(team.getHackathon());
+        targetTeam.setScoreAggregate(TeamScoreAggregate.of(List.of(b)));
+
+        when(teamRepository.findById(targetTeamId)).thenReturn(Optional.of(targetTeam));
+        when(teamMemberRepository.findByGenerationIdAndParticipantId(generationId, participantId))
+                .thenReturn(Optional.of(membership));
+
+        teamService.moveMember(new MoveMemberRequest(teamId, participantId, targetTeamId));
+
+        assertThat(team.getScore()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(List.of(a)));
+        assertThat(targetTeam.getScore()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(List.of(b, c)));
+    }
+
+    private static Candidate candidate(Long participantId, String role, int motivation, int years, String... skills) {
+        Candidate c = new Candidate();
+        c.setParticipantId(participantId);
+        c.setRoleLabel(role);
+        c.setSkillLabels(new LinkedHashSet<>(List.of(skills)));
+        c.setMotivation(motivation);
+        c.setYearsExperience(years);
+        return c;
+    }
+
+    private TeamMember memberFromCandidate(Team owner, Candidate c) {
+        TeamMember member = new TeamMember();
+        member.setId(UUID.randomUUID());
+        member.setTeam(owner);
+        member.setGenerationId(generationId);
+        member.setParticipantId(c.participantId());
+        member.setRoleSnapshot(c.roleLabel());
+        member.setSkillsSnapshot(String.join(", ", c.skillLabels()));
+        member.setMotivationSnapshot(c.motivation());
+        member.setYearsExperienceSnapshot(c.yearsExperience());
+        return member;
+    }
+
+    // ------------------------------------------------------------------------
+    // applyEdits
+    // ------------------------------------------------------------------------
+
+    @Test
+    void applyEdits_validatesAgainstSnapshotAndWritesNetChanges() {
+        Team target = new Team();
+        target.setId(UUID.randomUUID());
+        target.setGenerationId(generationId);
+        target.setHackathon(team.getHackathon());
+
+        Candidate a = candidate(1L, "Developer", 5, 4, "Java");
+        Candidate b = candidate(2L, "Designer", 3, 1, "Figma");
+        TeamMember memberA = memberFromCandidate(team, a);
+        TeamMember memberB = memberFromCandidate(team, b);
+
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team, target));
+        when(teamMemberRepository.findByGenerationId(generationId)).thenReturn(List.of(memberA, memberB));
+        when(participantRepository.findAllInHackathon(eq(1L), anyCollection())).thenAnswer(inv -> {
+            List<Participant> out = new ArrayList<>();
+            for (Long id : (Iterable<Long>) inv.getArgument(1)) out.add(participant(id));
+            return out;
+        });
+        when(participantRepository.findAllById(any())).thenAnswer(inv -> {
+            List<Participant> out = new ArrayList<>();
+            for (Long id : (Iterable<Long>) inv.getArgument(0)) out.add(participant(id));
+            return out;
+        });
+
+        List<TeamDTO> result = teamService.applyEdits(1L, new BatchEditRequest(List.of(
+                new EditOperation(EditType.MOVE, teamId, 1L, target.getId()),
+                new EditOperation(EditType.REMOVE, teamId, 2L, null),
+                new EditOperation(EditType.ADD, teamId, 3L, null),
+                // moved twice: only the final team is stored
+                new EditOperation(EditType.MOVE, target.getId(), 1L, teamId),
+                new EditOperation(EditType.MOVE, teamId, 1L, target.getId())
+        )));
+
+        // one delete for the removal, one insert for the new member, the move is an update of the managed row
+        verify(teamMemberRepository).deleteAllByIdInBatch(List.of(memberB.getId()));
+        ArgumentCaptor<List<TeamMember>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(teamMemberRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).singleElement().satisfies(m -> {
+            assertThat(m.getParticipantId()).isEqualTo(3L);
+            assertThat(m.getTeam()).isSameAs(team);
+            assertThat(m.getGenerationId()).isEqualTo(generationId);
+        });
+        assertThat(memberA.getTeam()).isSameAs(target);
+
+        // scores match a full recomputation of the final teams
+        Candidate added = new Candidate();
+        added.setParticipantId(3L);
+        assertThat(team.getScore()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(List.of(added)));
+        assertThat(target.getScore()).isEqualTo(TeamCompatibilityScoring.teamCompatibilityScore(List.of(a)));
+        verify(teamRepository).saveAll(List.of(team, target));
+
+        assertThat(result).extracting(TeamDTO::id).containsExactly(teamId, target.getId());
+        assertThat(result.get(0).members()).extracting(m -> m.participant().id()).containsExactly(3L);
+        assertThat(result.get(1).members()).extracting(m -> m.participant().id()).containsExactly(1L);
+
+        // subscribers get the net changes, then the new scores
+        ArgumentCaptor<List<TeamBoardEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(boardFeed).publish(eq(1L), events.capture());
+        assertThat(events.getValue()).extracting(TeamBoardEvent::type, TeamBoardEvent::participantId).containsExactlyInAnyOrder(
+                tuple(Type.MEMBER_MOVED, 1L),
+                tuple(Type.MEMBER_REMOVED, 2L),
+                tuple(Type.MEMBER_ADDED, 3L),
+                tuple(Type.SCORE_CHANGED, null),
+                tuple(Type.SCORE_CHANGED, null));
+        assertThat(events.getValue()).filteredOn(e -> e.type() == Type.MEMBER_ADDED).singleElement()
+                .satisfies(e -> assertThat(e.teamId()).isEqualTo(teamId));
+    }
+
+    @Test
+    void applyEdits_invalidLaterOperation_writesNothing() {
+        Candidate a = candidate(1L, "Developer", 5, 4, "Java");
+        TeamMember memberA = memberFromCandidate(team, a);
+
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team));
+        when(teamMemberRepository.findByGenerationId(generationId)).thenReturn(List.of(memberA));
+
+        BatchEditRequest request = new BatchEditRequest(List.of(
+                new EditOperation(EditType.REMOVE, teamId, 1L, null),
+                new EditOperation(EditType.REMOVE, teamId, 1L, null)
+        ));
+
+        assertThatThrownBy(() -> teamService.applyEdits(1L, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Operation 1");
+        verify(teamMemberRepository, never()).deleteAllByIdInBatch(any());
+        verify(teamMemberRepository, never()).saveAll(any());
+        verify(teamRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void applyEdits_addParticipantOfOtherHackathon_throwsNotFound() {
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team));
+        when(teamMemberRepository.findByGenerationId(generationId)).thenReturn(List.of());
+        when(participantRepository.findAllInHackathon(1L, Set.of(7L))).thenReturn(List.of());
+
+        BatchEditRequest request = new BatchEditRequest(List.of(new EditOperation(EditType.ADD, teamId, 7L, null)));
+
+        assertThatThrownBy(() -> teamService.applyEdits(1L, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Operation 0: participant not found in hackathon 1: 7");
+        verify(teamMemberRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void applyEdits_teamOfOtherHackathon_throwsNotFound() {
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team));
+
+        BatchEditRequest request = new BatchEditRequest(List.of(new EditOperation(EditType.REMOVE, teamId, 1L, null)));
+
+        assertThatThrownBy(() -> teamService.applyEdits(2L, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Team not found");
+        verifyNoInteractions(teamMemberRepository);
+    }
+
+    private static Participant participant(Long id) {
+        Participant p = new Participant();
+        p.setId(id);
+        p.setFirstName("First" + id);
+        p.setLastName("Last" + id);
+        p.setEmail("p" + id + "@example.com");
+        return p;
     }
 }